@@ -0,0 +1,57 @@
+package com.exercise.redisdemo01.benchmark;
+
+import com.exercise.redisdemo01.core.provider.BitMapCacheProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BitMap 缓存提供者基准测试
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BitMapCacheProviderBenchmark {
+
+    private static final String KEY = "bench:bitmap";
+
+    /**
+     * 位图偏移量空间，约 1M 位（128KB）
+     */
+    private static final int OFFSET_SPACE = 1 << 20;
+
+    private BitMapCacheProvider bitMapCacheProvider;
+
+    @Setup(Level.Trial)
+    public void setUp(ProviderState providerState) {
+        bitMapCacheProvider = providerState.provider(BitMapCacheProvider.class);
+        bitMapCacheProvider.setBit(KEY, OFFSET_SPACE - 1, true);
+    }
+
+    @Benchmark
+    public void setBit() {
+        bitMapCacheProvider.setBit(KEY, randomOffset(), true);
+    }
+
+    @Benchmark
+    public Boolean getBit() {
+        return bitMapCacheProvider.getBit(KEY, randomOffset());
+    }
+
+    @Benchmark
+    public Long bitCount() {
+        return bitMapCacheProvider.bitCount(KEY);
+    }
+
+    private static long randomOffset() {
+        return ThreadLocalRandom.current().nextInt(OFFSET_SPACE);
+    }
+}
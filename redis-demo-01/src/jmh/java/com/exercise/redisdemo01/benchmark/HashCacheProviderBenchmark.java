@@ -0,0 +1,62 @@
+package com.exercise.redisdemo01.benchmark;
+
+import com.exercise.redisdemo01.core.provider.HashCacheProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hash 缓存提供者基准测试
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class HashCacheProviderBenchmark {
+
+    private static final String KEY = "bench:hash";
+
+    private static final int FIELD_COUNT = 64;
+
+    private HashCacheProvider hashCacheProvider;
+
+    @Setup(Level.Trial)
+    public void setUp(ProviderState providerState, PayloadState payloadState) {
+        hashCacheProvider = providerState.provider(HashCacheProvider.class);
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            hashCacheProvider.set(KEY, "field" + i, payloadState.payload);
+        }
+    }
+
+    @Benchmark
+    public void set(PayloadState payloadState) {
+        hashCacheProvider.set(KEY, randomField(), payloadState.payload);
+    }
+
+    @Benchmark
+    public String get() {
+        return hashCacheProvider.get(KEY, randomField());
+    }
+
+    @Benchmark
+    public Map<String, String> getAll() {
+        return hashCacheProvider.getAll(KEY);
+    }
+
+    @Benchmark
+    public Long incrBy() {
+        return hashCacheProvider.incrBy("bench:hash:counter", randomField(), 1);
+    }
+
+    private static String randomField() {
+        return "field" + ThreadLocalRandom.current().nextInt(FIELD_COUNT);
+    }
+}
@@ -0,0 +1,42 @@
+package com.exercise.redisdemo01.benchmark;
+
+import com.exercise.redisdemo01.core.provider.HyperLogLogProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HyperLogLog 提供者基准测试
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class HyperLogLogProviderBenchmark {
+
+    private static final String KEY = "bench:hll";
+
+    private HyperLogLogProvider hyperLogLogProvider;
+
+    @Setup(Level.Trial)
+    public void setUp(ProviderState providerState) {
+        hyperLogLogProvider = providerState.provider(HyperLogLogProvider.class);
+    }
+
+    @Benchmark
+    public boolean save() {
+        return hyperLogLogProvider.save(KEY, "user" + ThreadLocalRandom.current().nextInt(1_000_000));
+    }
+
+    @Benchmark
+    public long querySize() {
+        return hyperLogLogProvider.querySize(KEY);
+    }
+}
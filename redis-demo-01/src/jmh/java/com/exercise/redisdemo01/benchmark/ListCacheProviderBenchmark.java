@@ -0,0 +1,52 @@
+package com.exercise.redisdemo01.benchmark;
+
+import com.exercise.redisdemo01.core.provider.ListCacheProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * List 缓存提供者基准测试
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ListCacheProviderBenchmark {
+
+    private static final String PREFIX = "bench:list:";
+
+    private static final String RANGE_KEY = "bench:list:range";
+
+    private ListCacheProvider listCacheProvider;
+
+    @Setup(Level.Trial)
+    public void setUp(ProviderState providerState, PayloadState payloadState) {
+        listCacheProvider = providerState.provider(ListCacheProvider.class);
+        for (int i = 0; i < 100; i++) {
+            listCacheProvider.rightPush(RANGE_KEY, payloadState.payload);
+        }
+    }
+
+    /**
+     * 右进左出，保证列表长度稳定
+     */
+    @Benchmark
+    public String pushAndPop(PayloadState payloadState) {
+        String key = PayloadState.randomKey(PREFIX);
+        listCacheProvider.rightPush(key, payloadState.payload);
+        return listCacheProvider.leftPop(key);
+    }
+
+    @Benchmark
+    public List<String> getRange() {
+        return listCacheProvider.getRange(RANGE_KEY, 0, 9);
+    }
+}
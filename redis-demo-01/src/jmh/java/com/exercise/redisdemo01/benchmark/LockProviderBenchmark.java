@@ -0,0 +1,83 @@
+package com.exercise.redisdemo01.benchmark;
+
+import com.exercise.redisdemo01.core.provider.DistributedLockProvider;
+import com.exercise.redisdemo01.core.provider.LockProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 锁提供者竞争基准测试，对比基于 SETNX + Lua 释放的 LockProvider 与基于 Redisson 的 DistributedLockProvider
+ * 每次操作为一次完整的加锁 + 解锁；lockKeys 控制锁的数量，配合 -t 调整竞争程度，lockKeys=1 时所有线程争抢同一把锁
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class LockProviderBenchmark {
+
+    /**
+     * 锁的数量
+     */
+    @Param({"1", "16", "1024"})
+    public int lockKeys;
+
+    private LockProvider lockProvider;
+
+    private DistributedLockProvider distributedLockProvider;
+
+    /**
+     * 每个线程独立的锁拥有者标识，同时统计获锁成功与失败的次数
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Owner {
+
+        public long acquired;
+
+        public long contended;
+
+        private final String value = UUID.randomUUID().toString();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp(ProviderState providerState) {
+        lockProvider = providerState.provider(LockProvider.class);
+        distributedLockProvider = providerState.provider(DistributedLockProvider.class);
+    }
+
+    @Benchmark
+    public boolean lockProvider(Owner owner) {
+        String key = randomLockKey("bench:lock:");
+        if (lockProvider.tryLock(key, owner.value, 10)) {
+            owner.acquired++;
+            return lockProvider.releaseLock(key, owner.value);
+        }
+        owner.contended++;
+        return false;
+    }
+
+    @Benchmark
+    public boolean distributedLockProvider(Owner owner) throws InterruptedException {
+        String key = randomLockKey("bench:redisson:");
+        if (distributedLockProvider.tryLock(key, 0, 10_000)) {
+            owner.acquired++;
+            distributedLockProvider.unlock(key);
+            return true;
+        }
+        owner.contended++;
+        return false;
+    }
+
+    private String randomLockKey(String prefix) {
+        return prefix + ThreadLocalRandom.current().nextInt(lockKeys);
+    }
+}
@@ -0,0 +1,48 @@
+package com.exercise.redisdemo01.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 基准测试的负载状态，按不同的 value 大小生成测试数据
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@State(Scope.Benchmark)
+public class PayloadState {
+
+    /**
+     * 单个key的数量空间，线程随机选择key，避免所有线程打到同一个key上
+     */
+    public static final int KEY_SPACE = 1024;
+
+    /**
+     * value大小（字节）
+     */
+    @Param({"16", "1024", "16384"})
+    public int payloadSize;
+
+    public String payload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        payload = "x".repeat(payloadSize);
+    }
+
+    /**
+     * 在指定前缀下随机选择一个key
+     *
+     * @param prefix key前缀
+     * @return 随机key
+     */
+    public static String randomKey(String prefix) {
+        return prefix + ThreadLocalRandom.current().nextInt(KEY_SPACE);
+    }
+}
@@ -0,0 +1,62 @@
+package com.exercise.redisdemo01.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import com.exercise.redisdemo01.core.util.LogValues;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 提供者日志开销基准测试，不依赖 Redis
+ * <p>
+ * 对比提供者中加了级别判断的调试日志与直接调用 log.debug 的写法，在调试日志关闭时的开销。
+ * 使用 -prof gc 运行，guarded 的 gc.alloc.rate.norm 应当为 0 B/op。
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Fork(1)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ProviderLoggingBenchmark {
+
+    private static final Logger log = (Logger) LoggerFactory.getLogger(ProviderLoggingBenchmark.class);
+
+    private final Map<String, String> map = new HashMap<>();
+
+    private long offset;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        log.setLevel(ch.qos.logback.classic.Level.INFO);
+        for (int i = 0; i < 1000; i++) {
+            map.put("key" + i, "value" + i);
+        }
+        offset = 1_000_000L;
+    }
+
+    /**
+     * 提供者当前的写法：级别判断 + 截断渲染
+     */
+    @Benchmark
+    public void guarded() {
+        if (log.isDebugEnabled()) {
+            log.debug("批量设置缓存成功 key={}, offset={}, map={}", "key", offset, LogValues.brief(map));
+        }
+    }
+
+    /**
+     * 未加级别判断的写法，可变参数数组与装箱在日志关闭时也会发生
+     */
+    @Benchmark
+    public void unguarded() {
+        log.debug("批量设置缓存成功 key={}, offset={}, map={}", "key", offset, map);
+    }
+}
@@ -0,0 +1,77 @@
+package com.exercise.redisdemo01.benchmark;
+
+import com.exercise.redisdemo01.RedisDemo01Application;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 基准测试共享状态，负责启动 Spring 容器并提供各个缓存提供者
+ * <p>
+ * 连接地址通过系统属性 redis.host / redis.port 指定，默认 localhost:6379，
+ * 使用独立的 15 号库，每轮测试开始前清空，避免与业务数据互相影响。
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@State(Scope.Benchmark)
+public class ProviderState {
+
+    /**
+     * 基准测试使用的Redis库
+     */
+    private static final int BENCHMARK_DATABASE = 15;
+
+    private ConfigurableApplicationContext context;
+
+    /**
+     * 启动 Spring 容器并清空基准测试库
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(RedisDemo01Application.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.data.redis.host=" + System.getProperty("redis.host", "localhost"),
+                        "spring.data.redis.port=" + System.getProperty("redis.port", "6379"),
+                        "spring.data.redis.database=" + BENCHMARK_DATABASE,
+                        "logging.level.root=error")
+                .run();
+        flushDatabase();
+    }
+
+    /**
+     * 清空基准测试库并关闭 Spring 容器
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        flushDatabase();
+        context.close();
+    }
+
+    /**
+     * 获取容器中的缓存提供者
+     *
+     * @param type 提供者类型
+     * @return 提供者实例
+     */
+    public <T> T provider(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    private void flushDatabase() {
+        context.getBean(StringRedisTemplate.class).execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+    }
+}
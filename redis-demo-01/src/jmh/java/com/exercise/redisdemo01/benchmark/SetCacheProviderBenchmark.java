@@ -0,0 +1,96 @@
+package com.exercise.redisdemo01.benchmark;
+
+import com.exercise.redisdemo01.core.provider.SetCacheProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Set / ZSet 缓存提供者基准测试
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class SetCacheProviderBenchmark {
+
+    private static final String SET_KEY = "bench:set";
+
+    private static final String ZSET_KEY = "bench:zset";
+
+    private static final int MEMBER_COUNT = 10_000;
+
+    private SetCacheProvider setCacheProvider;
+
+    @Setup(Level.Trial)
+    public void setUp(ProviderState providerState) {
+        setCacheProvider = providerState.provider(SetCacheProvider.class);
+        for (int i = 0; i < MEMBER_COUNT; i += 1000) {
+            setCacheProvider.set(SET_KEY, List.of(String.valueOf(i)));
+            setCacheProvider.zAdd(ZSET_KEY, String.valueOf(i), i);
+        }
+    }
+
+    @Benchmark
+    public void set() {
+        setCacheProvider.set(SET_KEY, List.of(randomMember()));
+    }
+
+    @Benchmark
+    public boolean isExist() {
+        return setCacheProvider.isExist(SET_KEY, randomMember());
+    }
+
+    @Benchmark
+    public void zAdd() {
+        String member = randomMember();
+        setCacheProvider.zAdd(ZSET_KEY, member, Double.parseDouble(member));
+    }
+
+    /**
+     * 逐条 ZADD 写入 100 个元素
+     */
+    @Benchmark
+    @OperationsPerInvocation(100)
+    public void zAddLoop() {
+        setCacheProvider.zAdd(rebuildArgs());
+    }
+
+    /**
+     * 管道合并 ZADD 写入 100 个元素
+     */
+    @Benchmark
+    @OperationsPerInvocation(100)
+    public Long zAddPipelined() {
+        return setCacheProvider.pipelinedZAdd(rebuildArgs());
+    }
+
+    @Benchmark
+    public Set<String> zRevRange() {
+        return setCacheProvider.zRevRange(ZSET_KEY, 0, 9);
+    }
+
+    private static String[] rebuildArgs() {
+        String[] args = new String[300];
+        for (int i = 0; i < args.length; i += 3) {
+            String member = randomMember();
+            args[i] = ZSET_KEY;
+            args[i + 1] = member;
+            args[i + 2] = member;
+        }
+        return args;
+    }
+
+    private static String randomMember() {
+        return String.valueOf(ThreadLocalRandom.current().nextInt(MEMBER_COUNT));
+    }
+}
@@ -0,0 +1,81 @@
+package com.exercise.redisdemo01.benchmark;
+
+import com.exercise.redisdemo01.core.provider.StreamCacheProvider;
+import com.exercise.redisdemo01.core.provider.StringCacheProvider;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stream 缓存提供者基准测试
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class StreamCacheProviderBenchmark {
+
+    private static final String WRITE_STREAM = "bench:stream:write";
+
+    private static final String READ_STREAM = "bench:stream:read";
+
+    private static final int BATCH_SIZE = 100;
+
+    private List<Map<String, String>> batch;
+
+    private StreamCacheProvider streamCacheProvider;
+
+    private StringCacheProvider stringCacheProvider;
+
+    @Setup(Level.Trial)
+    public void setUp(ProviderState providerState, PayloadState payloadState) {
+        streamCacheProvider = providerState.provider(StreamCacheProvider.class);
+        stringCacheProvider = providerState.provider(StringCacheProvider.class);
+        for (int i = 0; i < 100; i++) {
+            streamCacheProvider.addMessage(READ_STREAM, "field", payloadState.payload);
+        }
+        batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(Map.of("field", payloadState.payload));
+        }
+    }
+
+    /**
+     * 每轮迭代结束后删除写入的 Stream，避免无限增长影响后续迭代
+     */
+    @TearDown(Level.Iteration)
+    public void trimWriteStream() {
+        stringCacheProvider.delete(WRITE_STREAM);
+    }
+
+    @Benchmark
+    public void addMessage(PayloadState payloadState) {
+        streamCacheProvider.addMessage(WRITE_STREAM, "field", payloadState.payload);
+    }
+
+    /**
+     * 每次调用通过一次管道写入一批消息，OperationsPerInvocation 已按 BATCH_SIZE 折算，报告的结果即为单条消息吞吐，可直接与 addMessage 对比
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<String> addMessagesPipelined() {
+        return streamCacheProvider.addMessagesPipelined(WRITE_STREAM, batch,
+                RedisStreamCommands.XAddOptions.maxlen(10000).approximateTrimming(true));
+    }
+
+    @Benchmark
+    public Map<String, HashMap<String, String>> readAll() {
+        return streamCacheProvider.readAll(READ_STREAM, String.class, String.class);
+    }
+}
@@ -0,0 +1,54 @@
+package com.exercise.redisdemo01.benchmark;
+
+import com.exercise.redisdemo01.core.provider.StringCacheProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * String 缓存提供者基准测试
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class StringCacheProviderBenchmark {
+
+    private static final String PREFIX = "bench:string:";
+
+    private StringCacheProvider stringCacheProvider;
+
+    @Setup(Level.Trial)
+    public void setUp(ProviderState providerState, PayloadState payloadState) {
+        stringCacheProvider = providerState.provider(StringCacheProvider.class);
+        for (int i = 0; i < PayloadState.KEY_SPACE; i++) {
+            stringCacheProvider.setString(PREFIX + i, payloadState.payload);
+        }
+    }
+
+    @Benchmark
+    public void setString(PayloadState payloadState) {
+        stringCacheProvider.setString(PayloadState.randomKey(PREFIX), payloadState.payload);
+    }
+
+    @Benchmark
+    public void setStringWithExpire(PayloadState payloadState) {
+        stringCacheProvider.setString(PayloadState.randomKey(PREFIX), payloadState.payload, 600);
+    }
+
+    @Benchmark
+    public String getString(PayloadState payloadState) {
+        return stringCacheProvider.getString(PayloadState.randomKey(PREFIX));
+    }
+
+    @Benchmark
+    public void incrString() {
+        stringCacheProvider.incrString(PayloadState.randomKey("bench:counter:"));
+    }
+}
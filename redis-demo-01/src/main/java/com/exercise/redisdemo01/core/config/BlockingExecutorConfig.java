@@ -0,0 +1,40 @@
+package com.exercise.redisdemo01.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 阻塞调用执行器配置类，用于阻塞读取 Stream 等长时间阻塞的提供者调用
+ * 分布式锁的异步等待由 Redisson 非阻塞完成，不经过该执行器
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "redis.blocking-executor")
+public class BlockingExecutorConfig {
+
+    /**
+     * 是否使用虚拟线程执行阻塞调用，需要运行在 Java 21 及以上，低版本自动回退为平台线程池
+     */
+    private boolean virtualThreads = false;
+
+    /**
+     * 每个Redis节点同时执行的阻塞调用上限，超出的调用排队等待
+     * 阻塞命令会独占一个连接，该值不宜超过连接池的 max-active
+     */
+    private int maxConcurrencyPerNode = 8;
+
+    /**
+     * 不使用虚拟线程时平台线程池的最大线程数，排队等待节点并发许可的调用同样占用线程
+     */
+    private int platformThreads = 64;
+
+    /**
+     * 平台线程池的等待队列长度，线程与队列都已满时新的调用以 RejectedExecutionException 失败
+     */
+    private int queueCapacity = 1000;
+}
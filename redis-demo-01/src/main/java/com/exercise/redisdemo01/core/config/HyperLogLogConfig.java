@@ -0,0 +1,33 @@
+package com.exercise.redisdemo01.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * HyperLogLog 配置类
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "redis.hyperloglog")
+public class HyperLogLogConfig {
+
+    /**
+     * 批量写入时单条 PFADD 携带的元素数量，所有批次通过一次管道发送
+     */
+    private int batchSize = 5000;
+
+    /**
+     * 本地草图的刷新间隔（毫秒），也是进程异常退出时可能丢失的元素窗口
+     */
+    private long flushInterval = 1000;
+
+    /**
+     * 本地草图的最大数量，达到后立即触发一次刷新，每个草图约占16KB
+     */
+    private int maxBufferedKeys = 1000;
+}
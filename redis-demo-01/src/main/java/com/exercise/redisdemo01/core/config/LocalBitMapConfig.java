@@ -0,0 +1,28 @@
+package com.exercise.redisdemo01.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 本地位图物化缓存配置类
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "redis.local-bitmap")
+public class LocalBitMapConfig {
+
+    /**
+     * 本地缓存的最大位图数量，超出后按LRU淘汰
+     */
+    private int maxSize = 64;
+
+    /**
+     * 本地位图的存活时间（毫秒），从物化开始计算，0表示只受数量约束
+     */
+    private long expire = 600000;
+}
@@ -0,0 +1,28 @@
+package com.exercise.redisdemo01.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 基于SETNX的分布式锁配置类
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "redis.lock")
+public class LockConfig {
+
+    /**
+     * 锁释放通知使用的发布/订阅频道，等待方收到通知后立即重试
+     */
+    private String releaseChannel = "lock:release";
+
+    /**
+     * 公平锁排队的宽限时间（毫秒），等待方超过剩余等待时间加宽限仍未重试时被移出队列
+     */
+    private long fairQueueGrace = 1000;
+}
@@ -0,0 +1,34 @@
+package com.exercise.redisdemo01.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 近端缓存（本地L1 + Redis L2）配置类
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "redis.near-cache")
+public class NearCacheConfig {
+
+    /**
+     * 本地缓存最大条目数，超出后按LRU淘汰
+     */
+    private int maxSize = 10000;
+
+    /**
+     * 本地缓存条目的存活时间（毫秒），从写入本地缓存开始计算
+     * 即使失效通知丢失，本地数据最多也只会旧这么久
+     */
+    private long expire = 60000;
+
+    /**
+     * 失效通知使用的发布/订阅频道
+     */
+    private String channel = "near-cache:invalidate";
+}
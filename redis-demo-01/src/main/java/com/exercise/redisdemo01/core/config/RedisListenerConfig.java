@@ -0,0 +1,34 @@
+package com.exercise.redisdemo01.core.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis 发布/订阅监听容器配置类
+ * 所有基于 pub/sub 的功能（如近端缓存失效通知）共用同一个监听容器，避免每个功能单独占用订阅连接
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Slf4j
+@Configuration
+public class RedisListenerConfig {
+
+    /**
+     * 创建Redis消息监听容器
+     *
+     * @param connectionFactory Redis连接工厂
+     * @return Redis消息监听容器
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        log.info("Redis消息监听容器创建成功！");
+        return container;
+    }
+}
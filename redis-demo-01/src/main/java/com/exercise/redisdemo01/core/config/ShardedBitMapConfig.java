@@ -0,0 +1,29 @@
+package com.exercise.redisdemo01.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 分片位图配置类
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "redis.sharded-bitmap")
+public class ShardedBitMapConfig {
+
+    /**
+     * 每个分片覆盖的位数，偏移量 offset 落在分片 offset / shardBits，分片内偏移量为 offset % shardBits
+     * 默认 65536 位，单个分片最大 8KB；运行期间修改会导致已有数据无法定位
+     */
+    private long shardBits = 65536;
+
+    /**
+     * 跨分片操作每次管道发送的命令数量
+     */
+    private int batchSize = 500;
+}
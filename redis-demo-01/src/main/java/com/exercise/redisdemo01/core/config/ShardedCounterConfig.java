@@ -0,0 +1,29 @@
+package com.exercise.redisdemo01.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 分片计数器配置类
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "redis.sharded-counter")
+public class ShardedCounterConfig {
+
+    /**
+     * 每个计数器拆分的子key数量，子key格式为 key:shard:序号
+     * 读取时按该数量汇总，运行期间修改会导致超出范围的分片不再被统计
+     */
+    private int shards = 16;
+
+    /**
+     * 本地预聚合缓冲的刷新间隔（毫秒），也是进程异常退出时可能丢失的计数窗口
+     */
+    private long flushInterval = 1000;
+}
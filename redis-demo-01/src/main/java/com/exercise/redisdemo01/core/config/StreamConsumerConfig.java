@@ -0,0 +1,70 @@
+package com.exercise.redisdemo01.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Stream 消费者运行时配置类，作为订阅时未显式指定参数的默认值
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "redis.stream-consumer")
+public class StreamConsumerConfig {
+
+    /**
+     * 每个订阅启动的消费者数量，每个消费者一个线程
+     */
+    private int concurrency = 2;
+
+    /**
+     * 每个消费者单次 XREADGROUP 读取的最大消息数量
+     * 消费者处理完一批才读取下一批，每个订阅同时在处理的消息不超过 concurrency * batchSize
+     */
+    private int batchSize = 10;
+
+    /**
+     * 没有新消息时 XREADGROUP 阻塞等待的时间（毫秒），也是停止订阅时消费者退出的最长等待时间
+     * 需要小于 spring.data.redis.timeout，否则空闲时阻塞读取会被判定为超时
+     */
+    private long blockTime = 1000;
+
+    /**
+     * 是否使用虚拟线程运行消费者，运行环境不支持时回退为平台线程
+     */
+    private boolean virtualThreads = false;
+
+    /**
+     * 应用关闭时等待消费者处理完当前批次的最长时间（毫秒），超时后中断
+     */
+    private long shutdownTimeout = 5000;
+
+    /**
+     * Redis 7.0 以下没有 XINFO GROUPS 的 lag 字段，通过 XRANGE 统计积压数量时最多统计的条数
+     */
+    private int lagScanLimit = 10000;
+
+    /**
+     * 后台回收待处理消息的间隔（毫秒），小于等于0表示不回收
+     */
+    private long reclaimInterval = 30000;
+
+    /**
+     * 待处理消息空闲超过该时间（毫秒）才会被回收，应明显大于单批消息的处理时间
+     */
+    private long reclaimMinIdle = 60000;
+
+    /**
+     * 最大投递次数，投递次数达到该值的消息转入死信流
+     */
+    private long maxDeliveries = 5;
+
+    /**
+     * 死信流名称后缀，死信流名称为 原流名称 + 后缀
+     */
+    private String deadLetterSuffix = ":dlq";
+}
@@ -0,0 +1,49 @@
+package com.exercise.redisdemo01.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Stream 批量生产者配置类
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "redis.stream-producer")
+public class StreamProducerConfig {
+
+    /**
+     * 每一批管道发送的 XADD 数量，同一个流缓冲的消息达到该数量时由发送线程立即刷新
+     */
+    private int batchSize = 100;
+
+    /**
+     * 后台定时刷新间隔（毫秒），不足一批的消息最多延迟这么久写入
+     */
+    private long flushInterval = 50;
+
+    /**
+     * 单个流本地缓冲的最大消息数量，缓冲已满且刷新后仍然已满时拒绝发送，抛出 RejectedExecutionException
+     */
+    private int maxBufferedMessages = 10000;
+
+    /**
+     * 按长度裁剪，对应 XADD MAXLEN，小于等于0表示不按长度裁剪
+     */
+    private long maxLen = 0;
+
+    /**
+     * 按时间裁剪，删除早于该时长（毫秒）的消息，对应 XADD MINID，小于等于0表示不按时间裁剪
+     * 同时配置 maxLen 时只按长度裁剪
+     */
+    private long minIdAge = 0;
+
+    /**
+     * 是否使用近似裁剪（~），Redis 只在整个宏节点可删除时裁剪，开销远小于精确裁剪
+     */
+    private boolean approximateTrimming = true;
+}
@@ -0,0 +1,39 @@
+package com.exercise.redisdemo01.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 计数器延迟写（write-behind）配置类
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "redis.write-behind")
+public class WriteBehindConfig {
+
+    /**
+     * 定时刷新间隔（毫秒），也是进程异常退出时可能丢失的增量窗口
+     */
+    private long flushInterval = 1000;
+
+    /**
+     * 待刷新的key与哈希字段数量达到该值时立即触发一次刷新，不再等待定时刷新
+     */
+    private int maxPendingKeys = 1000;
+
+    /**
+     * 本地缓冲的key与哈希字段数量上限，达到后新的key不再缓冲，直接同步写入Redis，
+     * Redis不可用时同步写入抛出异常，保证Redis长时间不可用时本地缓冲与丢失窗口都有上限
+     */
+    private int maxPendingEntries = 100000;
+
+    /**
+     * 每一批管道发送的 INCRBY/HINCRBY 命令数量
+     */
+    private int batchSize = 500;
+}
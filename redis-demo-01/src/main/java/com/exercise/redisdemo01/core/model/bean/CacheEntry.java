@@ -0,0 +1,33 @@
+package com.exercise.redisdemo01.core.model.bean;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 批量写入缓存时使用的条目对象，每个条目可以携带独立的过期时间
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheEntry {
+
+    /**
+     * 缓存key
+     */
+    private String key;
+
+    /**
+     * 缓存value
+     */
+    private String value;
+
+    /**
+     * 过期时间（秒），小于等于0表示不过期
+     */
+    private long expire;
+}
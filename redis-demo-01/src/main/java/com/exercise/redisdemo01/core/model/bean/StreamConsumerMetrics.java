@@ -0,0 +1,63 @@
+package com.exercise.redisdemo01.core.model.bean;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Stream 消费者组的运行指标快照
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StreamConsumerMetrics {
+
+    /**
+     * 流名称
+     */
+    private String streamName;
+
+    /**
+     * 消费者组名称
+     */
+    private String groupName;
+
+    /**
+     * 当前订阅中正在运行的消费者数量
+     */
+    private int runningConsumers;
+
+    /**
+     * 消费者组中已投递但尚未确认的消息数量（PEL长度）
+     */
+    private long pending;
+
+    /**
+     * 尚未投递给消费者组的消息数量，超过统计上限时为上限值
+     */
+    private long lag;
+
+    /**
+     * 当前订阅处理成功的消息数量
+     */
+    private long processed;
+
+    /**
+     * 当前订阅处理失败的消息数量
+     */
+    private long failed;
+
+    /**
+     * 当前订阅从其他消费者回收并重新处理的消息数量
+     */
+    private long reclaimed;
+
+    /**
+     * 当前订阅转入死信流的消息数量
+     */
+    private long deadLettered;
+}
@@ -0,0 +1,45 @@
+package com.exercise.redisdemo01.core.model.bean;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Stream 分页读取的一页结果，携带可继续读取的游标
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StreamPage<T> {
+
+    /**
+     * 本页消息，按读取方向排列
+     */
+    private List<T> records;
+
+    /**
+     * 本页最后一条消息的ID，本页为空时为null
+     */
+    private String lastId;
+
+    /**
+     * 是否可能还有下一页，本页条数等于请求的数量时为true
+     */
+    private boolean hasMore;
+
+    /**
+     * 获取继续读取时使用的起始ID（排他），正向读取作为下一次的 startId，反向读取作为下一次的 endId
+     * 对正在增长的流，即使 hasMore 为false，也可以稍后用该游标继续读取新消息
+     *
+     * @return 排他起始ID，格式为 (lastId，本页为空时返回null
+     */
+    public String nextCursor() {
+        return lastId == null ? null : "(" + lastId;
+    }
+}
@@ -0,0 +1,33 @@
+package com.exercise.redisdemo01.core.model.bean;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 一次待处理消息回收的结果
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StreamReclaimResult {
+
+    /**
+     * 转移给当前消费者并重新处理的消息数量
+     */
+    private int reclaimed;
+
+    /**
+     * 重新处理成功并确认的消息数量
+     */
+    private int acked;
+
+    /**
+     * 投递次数达到上限，转入死信流并确认的消息数量
+     */
+    private int deadLettered;
+}
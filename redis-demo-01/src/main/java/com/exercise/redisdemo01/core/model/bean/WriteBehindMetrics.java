@@ -0,0 +1,63 @@
+package com.exercise.redisdemo01.core.model.bean;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 计数器延迟写的运行指标快照
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WriteBehindMetrics {
+
+    /**
+     * 尚未刷新的String计数器数量
+     */
+    private int pendingKeys;
+
+    /**
+     * 尚未刷新的哈希字段数量
+     */
+    private int pendingFields;
+
+    /**
+     * 尚未刷新的增量绝对值之和，即进程此刻退出时会丢失的计数总量
+     */
+    private long pendingDelta;
+
+    /**
+     * 已成功刷新的次数
+     */
+    private long flushCount;
+
+    /**
+     * 已成功写入Redis的命令数量
+     */
+    private long flushedCommands;
+
+    /**
+     * 刷新失败的次数，失败的增量会保留到下次刷新
+     */
+    private long failedFlushes;
+
+    /**
+     * 最近一次成功刷新的时间戳（毫秒），从未刷新时为0
+     */
+    private long lastFlushTime;
+
+    /**
+     * 因不可重试的错误被丢弃的增量命令数量，如key类型不是整数或自增溢出
+     */
+    private long droppedCommands;
+
+    /**
+     * 本地缓冲达到上限后直接同步写入Redis的增量数量
+     */
+    private long directWrites;
+}
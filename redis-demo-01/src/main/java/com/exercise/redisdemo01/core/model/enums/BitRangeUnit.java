@@ -0,0 +1,36 @@
+package com.exercise.redisdemo01.core.model.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 位图范围查询（BITCOUNT/BITPOS）的范围单位
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Getter
+@AllArgsConstructor
+public enum BitRangeUnit {
+
+    /**
+     * 按字节，start/end 为字节下标，支持负数表示从末尾倒数
+     */
+    BYTE("BYTE", "按字节"),
+
+    /**
+     * 按位，start/end 为位偏移量，必须为非负数
+     */
+    BIT("BIT", "按位");
+
+    /**
+     * Redis 命令中的单位名称
+     */
+    private final String unit;
+
+    /**
+     * 单位描述信息
+     */
+    private final String description;
+}
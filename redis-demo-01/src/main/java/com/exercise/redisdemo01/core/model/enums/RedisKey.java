@@ -77,6 +77,23 @@ public enum RedisKey {
         return keyMerge(keyBuilder, keys);
     }
 
+    /**
+     * 实例方法：生成匹配当前前缀下所有键的 SCAN MATCH 模式
+     * 前缀中的通配符会被转义，只按字面前缀匹配
+     *
+     * @return 匹配模式，例如 user:info:*
+     */
+    public String keyPattern() {
+        StringBuilder patternBuilder = new StringBuilder(this.keyPrefix.length() + 1);
+        for (char c : this.keyPrefix.toCharArray()) {
+            if (c == '*' || c == '?' || c == '[' || c == ']' || c == '\\') {
+                patternBuilder.append('\\');
+            }
+            patternBuilder.append(c);
+        }
+        return patternBuilder.append('*').toString();
+    }
+
     /**
      * 私有工具方法：执行键段合并操作
      *
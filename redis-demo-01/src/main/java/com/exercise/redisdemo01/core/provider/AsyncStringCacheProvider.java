@@ -0,0 +1,78 @@
+package com.exercise.redisdemo01.core.provider;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 异步缓存提供者，StringCacheProvider 的非阻塞版本
+ * 所有方法立即返回 CompletableFuture，调用线程不等待 Redis 响应，适合在一个线程中并发发起大量查询
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+public interface AsyncStringCacheProvider {
+
+    /**
+     * 设置缓存
+     *
+     * @param key   缓存key
+     * @param value 缓存value
+     * @return 写入完成的Future
+     */
+    CompletableFuture<Boolean> setString(String key, String value);
+
+    /**
+     * 带过期时间的设置缓存, 默认为秒
+     *
+     * @param key    缓存key
+     * @param value  缓存value
+     * @param expire 过期时间
+     * @return 写入完成的Future
+     */
+    CompletableFuture<Boolean> setString(String key, String value, long expire);
+
+    /**
+     * 设置缓存, 当key不存在时才设置, 默认过期时间单位是秒
+     *
+     * @param key    缓存key
+     * @param value  缓存value
+     * @param expire 过期时间
+     * @return 是否设置成功
+     */
+    CompletableFuture<Boolean> setStringWhenNotExists(String key, String value, long expire);
+
+    /**
+     * 获取缓存, 如果不存在则返回空字符串
+     *
+     * @param key 缓存key
+     * @return 缓存value
+     */
+    CompletableFuture<String> getString(String key);
+
+    /**
+     * 批量获取缓存，一次 MGET 取回所有key
+     *
+     * @param keys 缓存key集合
+     * @return key与value的映射，保持入参的遍历顺序，不存在的key对应空字符串
+     */
+    CompletableFuture<Map<String, String>> getStrings(Collection<String> keys);
+
+    /**
+     * 自定义量自增缓存
+     *
+     * @param key   缓存key
+     * @param delta 自增数量
+     * @return 自增后的值
+     */
+    CompletableFuture<Long> incrString(String key, long delta);
+
+    /**
+     * 删除缓存
+     *
+     * @param key 缓存key
+     * @return 是否删除了key
+     */
+    CompletableFuture<Boolean> delete(String key);
+}
@@ -1,5 +1,9 @@
 package com.exercise.redisdemo01.core.provider;
 
+import com.exercise.redisdemo01.core.model.enums.BitRangeUnit;
+
+import java.util.List;
+
 /**
  * @author 王玉涛
  * @version 1.0
@@ -25,6 +29,26 @@ public interface BitMapCacheProvider {
      */
     Boolean getBit(String key, long offset);
 
+    /**
+     * 批量获取位图中多个偏移量的值，通过一条 BITFIELD 命令（每个偏移量一个 GET u1）完成
+     * 偏移量很多时按批次拆分为多条 BITFIELD，通过一次管道发送
+     *
+     * @param key     位图的键
+     * @param offsets 偏移量列表
+     * @return 与偏移量一一对应的值
+     */
+    List<Boolean> getBits(String key, long... offsets);
+
+    /**
+     * 批量设置位图中多个偏移量为同一个值，通过一条 BITFIELD 命令（每个偏移量一个 SET u1）完成
+     *
+     * @param key     位图的键
+     * @param value   要设置的值（0 或 1）
+     * @param offsets 偏移量列表
+     * @return 与偏移量一一对应的旧值
+     */
+    List<Boolean> setBits(String key, boolean value, long... offsets);
+
     /**
      * 统计位图中被设置为1的位数
      *
@@ -33,6 +57,18 @@ public interface BitMapCacheProvider {
      */
     Long bitCount(String key);
 
+    /**
+     * 统计位图指定范围内被设置为1的位数
+     * 按位统计时不依赖 Redis 7.0 的 BIT 参数：首尾不完整的字节用 BITFIELD 读取，中间完整的字节用 BITCOUNT 统计，一次管道完成
+     *
+     * @param key   位图的键
+     * @param start 范围起点（包含）
+     * @param end   范围终点（包含）
+     * @param unit  范围单位
+     * @return 范围内被设置为1的位数
+     */
+    Long bitCount(String key, long start, long end, BitRangeUnit unit);
+
     /**
      * 查找位图中第一个被设置为指定值的位的位置
      *
@@ -42,6 +78,19 @@ public interface BitMapCacheProvider {
      */
     Long bitPos(String key, boolean value);
 
+    /**
+     * 查找位图指定范围内第一个被设置为指定值的位的位置
+     * 按位查找时不依赖 Redis 7.0 的 BIT 参数，首尾不完整的字节用 BITFIELD 读取，中间完整的字节用 BITPOS 查找，一次管道完成
+     *
+     * @param key   位图的键
+     * @param value 要查找的值（0 或 1）
+     * @param start 范围起点（包含）
+     * @param end   范围终点（包含）
+     * @param unit  范围单位
+     * @return 第一个被设置为指定值的位的位置（从位图开头计算的位偏移量），范围内不存在则返回-1
+     */
+    Long bitPos(String key, boolean value, long start, long end, BitRangeUnit unit);
+
     /**
      * 对一个或多个位图执行按位操作，并将结果存储到目标位图中
      *
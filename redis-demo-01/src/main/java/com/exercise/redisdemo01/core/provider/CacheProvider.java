@@ -1,9 +1,12 @@
 package com.exercise.redisdemo01.core.provider;
 
 import com.exercise.redisdemo01.core.model.bean.MemoryMetrics;
+import com.exercise.redisdemo01.core.model.enums.RedisKey;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * 缓存提供者，负责提供缓存的其他底层指令
@@ -26,6 +29,49 @@ public interface CacheProvider {
       */
      MemoryMetrics getMemoryMetrics();
 
+     /**
+      * 通过 SCAN 遍历匹配的键，不会像 KEYS 一样阻塞服务端
+      * 集群模式下每个主节点并行扫描，消费者可能被多个线程同时调用，需要自行保证线程安全
+      *
+      * @param pattern       匹配模式（SCAN MATCH）
+      * @param count         每次扫描的数量提示（SCAN COUNT）
+      * @param batchConsumer 按批处理扫描到的键，每批最多 count 个
+      * @return 扫描到的键数量
+      */
+     long scanKeys(String pattern, int count, Consumer<List<String>> batchConsumer);
+
+     /**
+      * 通过 SCAN 遍历指定前缀下的所有键
+      *
+      * @param redisKey      键前缀
+      * @param count         每次扫描的数量提示（SCAN COUNT）
+      * @param batchConsumer 按批处理扫描到的键，每批最多 count 个
+      * @return 扫描到的键数量
+      */
+     default long scanKeys(RedisKey redisKey, int count, Consumer<List<String>> batchConsumer) {
+         return scanKeys(redisKey.keyPattern(), count, batchConsumer);
+     }
+
+     /**
+      * 通过 SCAN 找出匹配的键并分批 UNLINK 删除，内存回收在服务端后台线程完成
+      *
+      * @param pattern 匹配模式（SCAN MATCH）
+      * @param count   每次扫描的数量提示（SCAN COUNT），同时作为每批删除的键数量
+      * @return 删除的键数量
+      */
+     long unlinkKeys(String pattern, int count);
+
+     /**
+      * 删除指定前缀下的所有键，例如清理某个租户的全部缓存
+      *
+      * @param redisKey 键前缀
+      * @param count    每次扫描的数量提示（SCAN COUNT），同时作为每批删除的键数量
+      * @return 删除的键数量
+      */
+     default long unlinkKeys(RedisKey redisKey, int count) {
+         return unlinkKeys(redisKey.keyPattern(), count);
+     }
+
      /**
       * 缓存提供者内存信息监控告警
       *
@@ -1,5 +1,7 @@
 package com.exercise.redisdemo01.core.provider;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 分布式锁操作接口提供，专注于高级功能提供
  *
@@ -18,6 +20,16 @@ public interface DistributedLockProvider {
      */
     boolean tryLock(String key, long waitTime, long holdTime) throws InterruptedException;
 
+    /**
+     * 异步尝试获取锁，调用线程立即返回，等待过程由 Redisson 通过订阅释放通知异步完成，不占用任何线程
+     * 锁的持有者仍是调用线程，获锁成功后由调用线程执行 unlock
+     * @param key 锁标识
+     * @param waitTime 最大等待时间(ms)
+     * @param holdTime 锁持有时间(ms)
+     * @return 是否获锁成功
+     */
+    CompletableFuture<Boolean> tryLockAsync(String key, long waitTime, long holdTime);
+
     /**
      * 释放锁
      * @param key 锁标识
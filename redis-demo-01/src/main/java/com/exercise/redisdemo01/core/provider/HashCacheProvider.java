@@ -85,6 +85,28 @@ public interface HashCacheProvider {
      */
     java.util.Map<String, String> scanAll(String key, int batchSize);
 
+    /**
+     * 通过 HSCAN 流式遍历哈希表，内存中只保留当前批次，消费者处理完当前批次后才拉取下一批
+     *
+     * @param key      哈希表的键
+     * @param pattern  字段名匹配模式（HSCAN MATCH），为空表示不过滤
+     * @param count    每批扫描的数量提示（HSCAN COUNT）
+     * @param consumer 逐条处理字段和值
+     * @return 处理的字段数量
+     */
+    long scan(String key, String pattern, int count, java.util.function.Consumer<java.util.Map.Entry<String, String>> consumer);
+
+    /**
+     * 通过 HSCAN 返回惰性的字段流，终端操作拉取时才会发起下一批扫描
+     * 返回的流持有游标，使用完毕必须关闭（try-with-resources）
+     *
+     * @param key     哈希表的键
+     * @param pattern 字段名匹配模式（HSCAN MATCH），为空表示不过滤
+     * @param count   每批扫描的数量提示（HSCAN COUNT）
+     * @return 字段和值的流
+     */
+    java.util.stream.Stream<java.util.Map.Entry<String, String>> scanStream(String key, String pattern, int count);
+
     /**
      * 获取哈希表中所有的字段名 (警惕大Key风险)
      *
@@ -0,0 +1,44 @@
+package com.exercise.redisdemo01.core.provider;
+
+import java.util.Collection;
+
+/**
+ * HyperLogLog 本地预聚合提供者，元素先写入本节点的本地草图，定期整体合并到 Redis
+ * 适用于高频UV统计：每个刷新间隔内每个key只产生一次合并，取代逐条 PFADD；
+ * 结果与直接调用 {@link HyperLogLogProvider#save(String, String)} 完全一致，但最多延迟一个刷新间隔可见，
+ * 进程异常退出时最多丢失一个刷新间隔内的元素
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+public interface HyperLogLogBufferProvider {
+
+    /**
+     * 添加一个元素到本地草图
+     *
+     * @param key   HyperLogLog 的键名
+     * @param value 要添加的元素值
+     */
+    void add(String key, String value);
+
+    /**
+     * 批量添加元素到本地草图
+     *
+     * @param key    HyperLogLog 的键名
+     * @param values 要添加的元素值
+     */
+    void addAll(String key, Collection<String> values);
+
+    /**
+     * 立即将所有本地草图合并到 Redis，合并失败的草图保留到下次刷新
+     */
+    void flush();
+
+    /**
+     * 获取当前等待合并的本地草图数量
+     *
+     * @return 本地草图数量
+     */
+    int bufferedKeys();
+}
@@ -1,5 +1,7 @@
 package com.exercise.redisdemo01.core.provider;
 
+import java.util.Collection;
+
 /**
  * @author 王玉涛
  * @version 1.0
@@ -15,6 +17,15 @@ public interface HyperLogLogProvider {
      */
     boolean save(String key, String value);
 
+    /**
+     * 向指定的 HyperLogLog 中批量添加元素，元素按批次大小拆分为多条 PFADD，通过一次管道发送
+     *
+     * @param key    HyperLogLog 的键名
+     * @param values 要添加的元素值
+     * @return 如果任一批次改变了 HyperLogLog 则返回 true，否则返回 false
+     */
+    boolean saveAll(String key, Collection<String> values);
+
     /**
      * 获取指定 HyperLogLog 中不重复元素的估计数量
      *
@@ -22,4 +33,21 @@ public interface HyperLogLogProvider {
      * @return 不重复元素的估计数量
      */
     long querySize(String key);
+
+    /**
+     * 获取多个 HyperLogLog 并集中不重复元素的估计数量，一次 PFCOUNT 完成，不修改任何键
+     * 适用于按天统计的UV汇总为一周UV等场景
+     *
+     * @param keys HyperLogLog 的键名
+     * @return 并集中不重复元素的估计数量
+     */
+    long queryUnionSize(String... keys);
+
+    /**
+     * 将多个 HyperLogLog 合并到目标键中，目标键原有的元素会保留
+     *
+     * @param destKey    目标 HyperLogLog 的键名
+     * @param sourceKeys 源 HyperLogLog 的键名
+     */
+    void merge(String destKey, String... sourceKeys);
 }
@@ -0,0 +1,108 @@
+package com.exercise.redisdemo01.core.provider;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.List;
+
+/**
+ * 本地位图物化提供者，将 Redis 位图一次性读取为原始字节，在本地转换为 Roaring 压缩位图后进行集合运算
+ * 适用于反复对同一批大位图做交集、并集、计数的分析场景，运算在本地多核并行完成，不再占用 Redis CPU
+ * <p>
+ * 物化结果按 位图的键 + 版本号 缓存，版本号由调用方维护（如数据日期或写入批次），
+ * 位图内容变化后使用新的版本号即可重新物化，旧版本由LRU与存活时间自然淘汰
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+public interface LocalBitMapProvider {
+
+    /**
+     * 物化一个位图，命中本地缓存时不访问Redis
+     * 返回值为缓存中的共享实例，调用方不得修改
+     *
+     * @param key     位图的键
+     * @param version 版本号
+     * @return 位图，键不存在时为空位图
+     */
+    RoaringBitmap materialize(String key, long version);
+
+    /**
+     * 批量物化位图，未命中本地缓存的键通过一次 MGET 读取，并行转换
+     * 返回值为缓存中的共享实例，调用方不得修改
+     *
+     * @param version 版本号
+     * @param keys    位图的键
+     * @return 与键一一对应的位图
+     */
+    List<RoaringBitmap> materialize(long version, String... keys);
+
+    /**
+     * 对多个位图求交集，等价于 BITOP AND 但在本地执行
+     *
+     * @param version 版本号
+     * @param keys    位图的键
+     * @return 新的位图，调用方可以修改
+     */
+    RoaringBitmap and(long version, String... keys);
+
+    /**
+     * 对多个位图求并集，等价于 BITOP OR 但在本地并行执行
+     *
+     * @param version 版本号
+     * @param keys    位图的键
+     * @return 新的位图，调用方可以修改
+     */
+    RoaringBitmap or(long version, String... keys);
+
+    /**
+     * 对多个位图求异或，等价于 BITOP XOR 但在本地并行执行
+     *
+     * @param version 版本号
+     * @param keys    位图的键
+     * @return 新的位图，调用方可以修改
+     */
+    RoaringBitmap xor(long version, String... keys);
+
+    /**
+     * 统计位图中被设置为1的位数，等价于 BITCOUNT 但在本地执行
+     *
+     * @param key     位图的键
+     * @param version 版本号
+     * @return 被设置为1的位数
+     */
+    long cardinality(String key, long version);
+
+    /**
+     * 统计多个位图交集中被设置为1的位数，不生成中间结果位图
+     *
+     * @param version 版本号
+     * @param keys    位图的键
+     * @return 交集的位数
+     */
+    long andCardinality(long version, String... keys);
+
+    /**
+     * 统计多个位图并集中被设置为1的位数，不生成中间结果位图
+     *
+     * @param version 版本号
+     * @param keys    位图的键
+     * @return 并集的位数
+     */
+    long orCardinality(long version, String... keys);
+
+    /**
+     * 移除指定版本的本地位图
+     *
+     * @param key     位图的键
+     * @param version 版本号
+     */
+    void evict(String key, long version);
+
+    /**
+     * 获取当前本地缓存的位图数量
+     *
+     * @return 本地位图数量
+     */
+    int localSize();
+}
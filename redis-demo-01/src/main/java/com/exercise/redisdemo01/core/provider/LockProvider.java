@@ -17,6 +17,30 @@ public interface LockProvider {
      */
     boolean tryLock(String key, String value, long expire);
 
+    /**
+     * 尝试获取分布式锁，锁被占用时等待释放通知，最多等待 waitTime
+     * 等待期间不轮询Redis，锁释放或到期时才重试
+     *
+     * @param key 锁的键名，用于唯一标识一把锁
+     * @param value 锁的值，通常为请求标识，用于验证锁的拥有者
+     * @param expire 锁的过期时间（秒），防止死锁
+     * @param waitTime 最大等待时间（毫秒）
+     * @return true-获取锁成功，false-等待超时或获取锁失败
+     */
+    boolean tryLock(String key, String value, long expire, long waitTime);
+
+    /**
+     * 尝试获取公平分布式锁，等待方按到达顺序依次获得锁，最多等待 waitTime
+     * 使用公平锁的请求之间保证先到先得，释放时与普通锁相同调用 releaseLock
+     *
+     * @param key 锁的键名，用于唯一标识一把锁
+     * @param value 锁的值，同时作为排队标识，每个等待方必须唯一
+     * @param expire 锁的过期时间（秒），防止死锁
+     * @param waitTime 最大等待时间（毫秒）
+     * @return true-获取锁成功，false-等待超时或获取锁失败
+     */
+    boolean tryFairLock(String key, String value, long expire, long waitTime);
+
     /**
      * 释放分布式锁
      *
@@ -25,4 +49,14 @@ public interface LockProvider {
      * @return true-释放锁成功，false-释放锁失败
      */
     boolean releaseLock(String key, String value);
+
+    /**
+     * 续期分布式锁，只有锁的拥有者才能续期
+     *
+     * @param key 锁的键名
+     * @param value 锁的值，用于验证锁的拥有者
+     * @param expire 新的过期时间（秒），从续期时刻开始计算
+     * @return true-续期成功，false-锁已过期或被其他请求持有
+     */
+    boolean renewLock(String key, String value, long expire);
 }
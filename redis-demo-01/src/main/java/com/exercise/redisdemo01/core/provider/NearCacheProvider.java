@@ -0,0 +1,85 @@
+package com.exercise.redisdemo01.core.provider;
+
+/**
+ * 近端缓存提供者，在 String 与 Hash 缓存之前增加一层进程内缓存（L1），Redis 作为 L2
+ * 适用于读多写少的热点key，写操作会通过发布/订阅通知所有节点失效本地副本
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+public interface NearCacheProvider {
+
+    /**
+     * 获取缓存，优先读取本地缓存，未命中时回源Redis并写入本地缓存
+     *
+     * @param key 缓存key
+     * @return 缓存value，如果不存在则返回空字符串
+     */
+    String getString(String key);
+
+    /**
+     * 设置缓存，写入Redis后失效所有节点的本地副本
+     *
+     * @param key   缓存key
+     * @param value 缓存value
+     */
+    void setString(String key, String value);
+
+    /**
+     * 带过期时间的设置缓存, 默认为秒，写入Redis后失效所有节点的本地副本
+     *
+     * @param key    缓存key
+     * @param value  缓存value
+     * @param expire 过期时间
+     */
+    void setString(String key, String value, long expire);
+
+    /**
+     * 删除缓存，同时失效所有节点的本地副本
+     *
+     * @param key 缓存key
+     */
+    void delete(String key);
+
+    /**
+     * 获取哈希表中指定字段的值，优先读取本地缓存
+     *
+     * @param key   哈希表的键
+     * @param field 字段名
+     * @return 字段值，如果不存在则返回空字符串
+     */
+    String hashGet(String key, String field);
+
+    /**
+     * 设置哈希表中指定字段的值，写入Redis后失效所有节点中该哈希表的本地副本
+     *
+     * @param key   哈希表的键
+     * @param field 字段名
+     * @param value 字段值
+     */
+    void hashSet(String key, String field, String value);
+
+    /**
+     * 删除哈希表中一个或多个字段，同时失效所有节点中该哈希表的本地副本
+     *
+     * @param key    哈希表的键
+     * @param fields 要删除的字段名数组
+     * @return 被成功删除的字段数量
+     */
+    Long hashDel(String key, String... fields);
+
+    /**
+     * 失效指定key在所有节点上的本地副本，适用于绕过近端缓存直接修改Redis的场景
+     *
+     * @param key 缓存key或哈希表的键
+     */
+    void invalidate(String key);
+
+    /**
+     * 获取当前节点本地缓存的条目数量（String条目与Hash键之和）
+     *
+     * @return 本地缓存条目数量
+     */
+    int localSize();
+}
@@ -0,0 +1,92 @@
+package com.exercise.redisdemo01.core.provider;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 响应式哈希缓存提供者，HashCacheProvider 的非阻塞版本
+ * 返回 Mono/Flux，订阅时才发送命令，可与其他响应式调用组合后并发执行
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+public interface ReactiveHashCacheProvider {
+
+    /**
+     * 设置哈希表中指定字段的值
+     *
+     * @param key   哈希表的键
+     * @param field 字段名
+     * @param value 字段值
+     * @return 如果是新增字段返回true，覆盖已有字段返回false
+     */
+    Mono<Boolean> set(String key, String field, String value);
+
+    /**
+     * 批量设置哈希表中的多个字段
+     *
+     * @param key 哈希表的键
+     * @param map 包含字段和值的映射
+     * @return 写入完成的信号
+     */
+    Mono<Boolean> set(String key, Map<String, String> map);
+
+    /**
+     * 获取哈希表中指定字段的值
+     *
+     * @param key   哈希表的键
+     * @param field 字段名
+     * @return 字段值，如果不存在则返回空字符串
+     */
+    Mono<String> get(String key, String field);
+
+    /**
+     * 批量获取哈希表中多个字段的值
+     *
+     * @param key    哈希表的键
+     * @param fields 字段名数组
+     * @return 字段值列表，与字段顺序一致，不存在的字段对应空字符串
+     */
+    Mono<List<String>> get(String key, String... fields);
+
+    /**
+     * 删除哈希表中一个或多个字段
+     *
+     * @param key    哈希表的键
+     * @param fields 要删除的字段名数组
+     * @return 被成功删除的字段数量
+     */
+    Mono<Long> del(String key, String... fields);
+
+    /**
+     * 将哈希表中指定字段的值增加指定整数
+     *
+     * @param key   哈希表的键
+     * @param field 字段名
+     * @param delta 增加的数值
+     * @return 增加后的值
+     */
+    Mono<Long> incrBy(String key, String field, long delta);
+
+    /**
+     * 通过 HSCAN 逐条推送哈希表中的字段和值，下游按需拉取，不会一次性加载整个哈希表
+     *
+     * @param key 哈希表的键
+     * @return 字段和值的流
+     */
+    Flux<Map.Entry<String, String>> scanAll(String key);
+
+    /**
+     * 通过 HSCAN 逐条推送哈希表中匹配的字段和值，下游请求更多数据时才发起下一批扫描
+     *
+     * @param key     哈希表的键
+     * @param pattern 字段名匹配模式（HSCAN MATCH），为空表示不过滤
+     * @param count   每批扫描的数量提示（HSCAN COUNT）
+     * @return 字段和值的流
+     */
+    Flux<Map.Entry<String, String>> scanAll(String key, String pattern, int count);
+}
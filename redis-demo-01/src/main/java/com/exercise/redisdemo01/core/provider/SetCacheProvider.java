@@ -2,6 +2,7 @@ package com.exercise.redisdemo01.core.provider;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -38,6 +39,32 @@ public interface SetCacheProvider {
      */
     void atomicitySet(String... keyValues);
 
+    /**
+     * 原子性地批量设置多个 Set 集合的元素，每个集合可以携带多个元素，一次脚本调用完成
+     *
+     * @param members 集合的键与要添加的元素
+     * @return 新增的元素总数
+     */
+    Long atomicitySet(Map<String, ? extends Collection<String>> members);
+
+    /**
+     * 通过管道批量设置多个 Set 集合的元素，参数格式为 key1, value1, key2, value2, ...
+     * 相同key的元素合并为一条 SADD，所有命令通过管道发送，不保证原子性
+     *
+     * @param keyValues 键值对数组，必须为偶数个
+     * @return 新增的元素总数
+     * @throws IllegalArgumentException 当参数个数不是偶数时抛出
+     */
+    Long pipelinedSet(String... keyValues);
+
+    /**
+     * 通过管道批量设置多个 Set 集合的元素，每个集合的元素合并为 SADD 命令发送，不保证原子性
+     *
+     * @param members 集合的键与要添加的元素
+     * @return 新增的元素总数
+     */
+    Long pipelinedSet(Map<String, ? extends Collection<String>> members);
+
     /**
      * 获取指定 Set 集合中的所有元素
      *
@@ -125,6 +152,32 @@ public interface SetCacheProvider {
      */
     void zAtomicityAdd(String... keyValues);
 
+    /**
+     * 原子性地批量添加有序集合元素，每个有序集合可以携带多个元素，一次脚本调用完成
+     *
+     * @param members 有序集合的键与要添加的元素及其分数
+     * @return 新增的元素总数
+     */
+    Long zAtomicityAdd(Map<String, Map<String, Double>> members);
+
+    /**
+     * 通过管道批量添加有序集合元素，参数格式为 key1, value1, score1, key2, value2, score2, ...
+     * 相同key的元素合并为一条 ZADD，所有命令通过管道发送，不保证原子性
+     *
+     * @param keyValues 键值对和分数数组，必须为3的倍数
+     * @return 新增的元素总数
+     * @throws IllegalArgumentException 当参数个数不是3的倍数时抛出
+     */
+    Long pipelinedZAdd(String... keyValues);
+
+    /**
+     * 通过管道批量添加有序集合元素，适合排行榜重建等大批量写入，不保证原子性
+     *
+     * @param members 有序集合的键与要添加的元素及其分数
+     * @return 新增的元素总数
+     */
+    Long pipelinedZAdd(Map<String, Map<String, Double>> members);
+
     /**
      * 批量添加有序集合元素
      * 参数格式为 key1, value1, score1, key2, value2, score2, ...
@@ -0,0 +1,78 @@
+package com.exercise.redisdemo01.core.provider;
+
+import java.util.Set;
+
+/**
+ * 分片位图提供者，将超大且稀疏的偏移量空间按固定位数拆分为多个子位图 key:shard:{序号}
+ * 适用于以十亿级用户ID作为偏移量的场景：只有出现过的分片才会创建，避免 Redis 为单个位图分配巨大的字符串
+ * <p>
+ * 每个位图额外维护一个 key:shards 集合记录已创建的分片序号，统计、位运算与内存查询按该集合扇出到各分片
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+public interface ShardedBitMapProvider {
+
+    /**
+     * 设置位图中指定偏移量的值，所在分片不存在时自动创建
+     *
+     * @param key    位图的键
+     * @param offset 偏移量，必须为非负数
+     * @param value  要设置的值（0 或 1）
+     * @return 旧值
+     */
+    Boolean setBit(String key, long offset, boolean value);
+
+    /**
+     * 获取位图中指定偏移量的值，所在分片不存在时返回false
+     *
+     * @param key    位图的键
+     * @param offset 偏移量，必须为非负数
+     * @return 指定偏移量的值
+     */
+    Boolean getBit(String key, long offset);
+
+    /**
+     * 统计所有分片中被设置为1的位数
+     *
+     * @param key 位图的键
+     * @return 被设置为1的位数
+     */
+    Long bitCount(String key);
+
+    /**
+     * 对一个或多个分片位图按分片执行按位操作，结果写入目标分片位图（覆盖原有内容）
+     * AND 只计算所有源位图都存在的分片，OR 与 XOR 计算任一源位图存在的分片；不支持 NOT，
+     * 因为不存在的分片取反后全部为1，会失去分片的意义。
+     * 不同位图的同一个分片位于同一个槽位，集群模式下位图的键不能带有不同的哈希标签
+     *
+     * @param operation 操作类型（AND, OR, XOR）
+     * @param destKey   目标位图的键
+     * @param keys      源位图的键列表
+     */
+    void bitOp(String operation, String destKey, String... keys);
+
+    /**
+     * 获取所有分片与分片集合的内存使用量之和（字节）
+     *
+     * @param key 位图的键
+     * @return 内存使用量（字节）
+     */
+    Long memoryUsage(String key);
+
+    /**
+     * 获取已创建的分片序号
+     *
+     * @param key 位图的键
+     * @return 分片序号集合
+     */
+    Set<Long> shards(String key);
+
+    /**
+     * 删除位图的所有分片与分片集合
+     *
+     * @param key 位图的键
+     */
+    void delete(String key);
+}
@@ -0,0 +1,56 @@
+package com.exercise.redisdemo01.core.provider;
+
+/**
+ * 分片计数器提供者，将一个热点计数器拆分为多个子key，自增分散到不同子key上，读取时汇总所有分片
+ * 适用于页面浏览量等写远多于读、且所有节点都在自增同一个key的场景
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+public interface ShardedCounterProvider {
+
+    /**
+     * 计数器自增1，随机选择一个分片执行 INCRBY
+     *
+     * @param key 计数器key
+     */
+    void increment(String key);
+
+    /**
+     * 计数器自定义量自增，随机选择一个分片执行 INCRBY
+     *
+     * @param key   计数器key
+     * @param delta 自增数量，可以为负数
+     */
+    void increment(String key, long delta);
+
+    /**
+     * 计数器自定义量自增，先累加到本地缓冲，由后台定时批量写入Redis
+     * 未刷新的增量对 {@link #get(String)} 不可见，进程异常退出时最多丢失一个刷新间隔内的增量
+     *
+     * @param key   计数器key
+     * @param delta 自增数量，可以为负数
+     */
+    void incrementBuffered(String key, long delta);
+
+    /**
+     * 立即将本地缓冲中的增量写入Redis
+     */
+    void flush();
+
+    /**
+     * 获取计数器的值，通过一次 MGET 读取所有分片并求和
+     *
+     * @param key 计数器key
+     * @return 所有分片之和，不存在时返回0
+     */
+    long get(String key);
+
+    /**
+     * 删除计数器的所有分片，本地缓冲中尚未刷新的增量不受影响
+     *
+     * @param key 计数器key
+     */
+    void delete(String key);
+}
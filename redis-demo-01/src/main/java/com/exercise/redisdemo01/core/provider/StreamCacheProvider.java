@@ -1,8 +1,15 @@
 package com.exercise.redisdemo01.core.provider;
 
+import com.exercise.redisdemo01.core.model.bean.StreamPage;
+import com.exercise.redisdemo01.core.model.bean.StreamReclaimResult;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.MapRecord;
+
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * @author 王玉涛
@@ -11,6 +18,21 @@ import java.util.Map;
  */
 public interface StreamCacheProvider {
 
+    /**
+     * 消息记录处理器，处理完整的一条消息记录（消息ID + 所有字段）
+     */
+    @FunctionalInterface
+    interface RecordHandler {
+
+        /**
+         * 处理一条消息记录，正常返回视为处理成功，抛出异常视为处理失败
+         *
+         * @param record 消息记录
+         * @throws Exception 处理失败
+         */
+        void handle(MapRecord<String, String, String> record) throws Exception;
+    }
+
     /**
      * 向指定的 Stream 中添加单个消息
      *
@@ -43,8 +65,23 @@ public interface StreamCacheProvider {
      */
     void addMessages(String streamName, String... keyValue);
 
+    /**
+     * 通过一次管道向指定的 Stream 中批量添加消息，每条消息一个 XADD
+     * 裁剪选项随每个 XADD 发送，如 {@code XAddOptions.maxlen(n).approximateTrimming(true)} 对应 MAXLEN ~ n
+     * 部分 XADD 失败时不抛出异常，失败消息对应的ID为null，调用方只需重试这些消息，避免重复写入已成功的消息
+     *
+     * @param streamName 流名称，不能为空
+     * @param messages   消息列表，每个元素为一条消息的键值对
+     * @param options    XADD 选项，不需要裁剪时使用 {@link RedisStreamCommands.XAddOptions#none()}
+     * @return 与消息一一对应的消息ID，写入失败的消息为null
+     * @throws RuntimeException 如果获取连接等整体失败，此时没有消息写入
+     */
+    List<String> addMessagesPipelined(String streamName, List<Map<String, String>> messages,
+                                      RedisStreamCommands.XAddOptions options);
+
     /**
      * 读取指定 Stream 中的所有消息，并按消息ID组织返回
+     * 所有消息一次性加载到内存，消息量大的流请使用 {@link #range} 分页读取或 {@link #iterate} 流式遍历
      *
      * @param streamName 消息队列名称，不能为空
      * @param clazzK     key类型，用于类型转换
@@ -54,6 +91,72 @@ public interface StreamCacheProvider {
      */
     <K, V> Map<String, HashMap<K, V>> readAll(String streamName, Class<K> clazzK, Class<V> clazzV);
 
+    /**
+     * 读取指定 Stream 中的所有消息，直接从原始字节解码为目标类型的对象
+     * 目标类型可以是 record 或带无参构造器的普通类，按字段名匹配消息字段，类型为 RecordId 的字段写入消息ID
+     *
+     * @param streamName 流名称
+     * @param type       目标类型
+     * @return 按消息ID顺序排列的对象列表
+     * @throws RuntimeException 如果 Redis 操作失败或字段无法解码为目标类型
+     */
+    <T> List<T> readAllAs(String streamName, Class<T> type);
+
+    /**
+     * 按ID范围正向分页读取消息（XRANGE ... COUNT）
+     * ID支持 Redis 语法：- 表示最小，+ 表示最大，(id 表示排他，返回页的 {@link StreamPage#nextCursor()} 可直接作为下一页的 startId
+     *
+     * @param streamName 流名称
+     * @param startId    起始ID（包含，除非以 ( 开头）
+     * @param endId      结束ID（包含，除非以 ( 开头）
+     * @param count      本页最多读取的消息数量
+     * @return 一页消息
+     */
+    StreamPage<MapRecord<String, String, String>> range(String streamName, String startId, String endId, int count);
+
+    /**
+     * 按ID范围反向分页读取消息（XREVRANGE ... COUNT），从新到旧
+     * 返回页的 {@link StreamPage#nextCursor()} 可直接作为下一页的 endId
+     *
+     * @param streamName 流名称
+     * @param endId      结束ID，即本页第一条消息的上界（包含，除非以 ( 开头）
+     * @param startId    起始ID，即读取的下界（包含，除非以 ( 开头）
+     * @param count      本页最多读取的消息数量
+     * @return 一页消息
+     */
+    StreamPage<MapRecord<String, String, String>> reverseRange(String streamName, String endId, String startId, int count);
+
+    /**
+     * 按ID范围正向分页读取消息，直接从原始字节解码为目标类型的对象
+     *
+     * @param streamName 流名称
+     * @param startId    起始ID（包含，除非以 ( 开头）
+     * @param endId      结束ID（包含，除非以 ( 开头）
+     * @param count      本页最多读取的消息数量
+     * @param type       目标类型
+     * @return 一页对象
+     */
+    <T> StreamPage<T> rangeAs(String streamName, String startId, String endId, int count, Class<T> type);
+
+    /**
+     * 从头到尾流式遍历整个 Stream，按页懒加载，内存中最多只持有一页消息
+     *
+     * @param streamName 流名称
+     * @param pageSize   每页读取的消息数量
+     * @return 按消息ID顺序的消息流，只能遍历一次
+     */
+    Stream<MapRecord<String, String, String>> iterate(String streamName, int pageSize);
+
+    /**
+     * 从头到尾流式遍历整个 Stream 并解码为目标类型，按页懒加载，内存中最多只持有一页消息
+     *
+     * @param streamName 流名称
+     * @param pageSize   每页读取的消息数量
+     * @param type       目标类型
+     * @return 按消息ID顺序的对象流，只能遍历一次
+     */
+    <T> Stream<T> iterateAs(String streamName, int pageSize, Class<T> type);
+
     /**
      * 读取指定数量的消息
      *
@@ -76,6 +179,18 @@ public interface StreamCacheProvider {
      */
     <K, V> List<Map<K, V>> readMapBlock(String streamName, long blockTime, Class<K> clazzK, Class<V> clazzV);
 
+    /**
+     * 异步阻塞式读取消息，阻塞等待在独立线程中进行，调用线程立即返回
+     * 同一节点上同时阻塞的读取数量受 redis.blocking-executor.max-concurrency-per-node 限制
+     *
+     * @param streamName 流名称
+     * @param blockTime  阻塞等待时间（毫秒）
+     * @param clazzK     key类型
+     * @param clazzV     value类型
+     * @return 消息列表
+     */
+    <K, V> CompletableFuture<List<Map<K, V>>> readMapBlockAsync(String streamName, long blockTime, Class<K> clazzK, Class<V> clazzV);
+
     /**
      * 读取指定数量的消息并支持阻塞
      *
@@ -116,4 +231,51 @@ public interface StreamCacheProvider {
      * @param messageIds  消息ID列表
      */
     void ackMessage(String streamName, String groupName, String... messageIds);
+
+    /**
+     * 从消费者组中批量读取消息，逐条交给处理器处理，处理成功的消息通过一次 XACK 统一确认
+     * 处理失败的消息不确认，留在待处理列表（PEL）中等待重新投递
+     *
+     * @param streamName   流名称
+     * @param groupName    消费者组名称
+     * @param consumerName 消费者名称
+     * @param count        单次最多读取的消息数量
+     * @param blockTime    没有新消息时阻塞等待的时间（毫秒），小于等于0表示不阻塞
+     * @param handler      消息记录处理器
+     * @return 读取到的消息数量
+     */
+    int readGroupBatch(String streamName, String groupName, String consumerName, int count, long blockTime,
+                       RecordHandler handler);
+
+    /**
+     * 从ID 0开始分页读取指定消费者自己的待处理列表（PEL），逐条交给处理器处理，处理成功的消息按页统一确认
+     * 处理失败的消息继续留在待处理列表中，读取游标越过它们，不会在本次调用中重复处理
+     *
+     * @param streamName   流名称
+     * @param groupName    消费者组名称
+     * @param consumerName 消费者名称
+     * @param count        每页最多读取的消息数量
+     * @param handler      消息记录处理器
+     * @return 读取到的消息数量
+     */
+    int drainPending(String streamName, String groupName, String consumerName, int count, RecordHandler handler);
+
+    /**
+     * 回收消费者组中长时间未确认的消息：通过 XPENDING 找出空闲超过阈值的消息，XCLAIM 转移给指定消费者
+     * 投递次数未达上限的消息交给处理器重新处理，处理成功的统一确认；处理器为null时只转移不处理，
+     * 由接收的消费者通过 {@link #drainPending} 在自己的线程中处理；
+     * 投递次数达到上限的消息写入死信流并确认，不再重新投递
+     *
+     * @param streamName       流名称
+     * @param groupName        消费者组名称
+     * @param consumerName     接收消息的消费者名称，应为仍在运行的消费者
+     * @param minIdleTime      消息空闲超过该时间（毫秒）才会被回收
+     * @param count            单次最多回收的消息数量
+     * @param maxDeliveries    最大投递次数，投递次数达到该值的消息转入死信流
+     * @param deadLetterStream 死信流名称
+     * @param handler          消息记录处理器，为null时只转移不处理
+     * @return 回收结果
+     */
+    StreamReclaimResult reclaimPending(String streamName, String groupName, String consumerName, long minIdleTime,
+                                       int count, long maxDeliveries, String deadLetterStream, RecordHandler handler);
 }
@@ -0,0 +1,95 @@
+package com.exercise.redisdemo01.core.provider;
+
+import com.exercise.redisdemo01.core.model.bean.StreamConsumerMetrics;
+
+import java.util.List;
+
+/**
+ * Stream 消费者运行时，托管消费者组的轮询线程，业务只需要提供消息记录处理器
+ * 消费者名称自动生成，应用关闭时等待消费者处理完当前批次后退出
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+public interface StreamConsumerProvider {
+
+    /**
+     * 订阅句柄，用于停止订阅和查看运行指标
+     */
+    interface Subscription {
+
+        /**
+         * 获取流名称
+         *
+         * @return 流名称
+         */
+        String streamName();
+
+        /**
+         * 获取消费者组名称
+         *
+         * @return 消费者组名称
+         */
+        String groupName();
+
+        /**
+         * 获取该订阅使用的消费者名称
+         *
+         * @return 消费者名称列表
+         */
+        List<String> consumerNames();
+
+        /**
+         * 是否仍有消费者在运行
+         *
+         * @return 是否运行中
+         */
+        boolean isRunning();
+
+        /**
+         * 停止订阅，消费者处理完当前批次后退出
+         *
+         * @param timeout 等待消费者退出的最长时间（毫秒）
+         * @return 是否所有消费者都已在超时前退出
+         */
+        boolean cancel(long timeout);
+
+        /**
+         * 获取当前的运行指标快照
+         *
+         * @return 运行指标
+         */
+        StreamConsumerMetrics metrics();
+    }
+
+    /**
+     * 使用默认配置订阅消费者组，消费者组不存在时自动创建
+     *
+     * @param streamName 流名称
+     * @param groupName  消费者组名称
+     * @param handler    消息记录处理器，正常返回的消息会被确认
+     * @return 订阅句柄
+     */
+    Subscription subscribe(String streamName, String groupName, StreamCacheProvider.RecordHandler handler);
+
+    /**
+     * 指定消费者数量与批次大小订阅消费者组，消费者组不存在时自动创建
+     *
+     * @param streamName  流名称
+     * @param groupName   消费者组名称
+     * @param concurrency 消费者数量
+     * @param batchSize   每个消费者单次读取的最大消息数量
+     * @param handler     消息记录处理器，正常返回的消息会被确认
+     * @return 订阅句柄
+     */
+    Subscription subscribe(String streamName, String groupName, int concurrency, int batchSize,
+                           StreamCacheProvider.RecordHandler handler);
+
+    /**
+     * 获取所有运行中订阅的指标
+     *
+     * @return 运行指标列表
+     */
+    List<StreamConsumerMetrics> metrics();
+}
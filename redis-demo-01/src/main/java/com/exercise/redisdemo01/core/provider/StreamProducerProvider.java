@@ -0,0 +1,37 @@
+package com.exercise.redisdemo01.core.provider;
+
+import java.util.Map;
+
+/**
+ * Stream 批量生产者，消息先按流缓冲在本地，攒够一批或到达刷新间隔后通过管道批量 XADD
+ * 每个 XADD 按配置携带 MAXLEN ~ 或 MINID 裁剪参数，避免流无限增长
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+public interface StreamProducerProvider {
+
+    /**
+     * 发送一条消息，先写入本地缓冲，缓冲达到一批时在当前线程刷新该流
+     * 消息写入缓冲后不再抛出异常，刷新失败的消息留在缓冲中等待下次刷新
+     *
+     * @param streamName 流名称
+     * @param message    消息键值对
+     * @throws IllegalArgumentException 消息为空，XADD 至少需要一个字段
+     * @throws java.util.concurrent.RejectedExecutionException 该流的缓冲已满，消息没有写入缓冲
+     */
+    void send(String streamName, Map<String, String> message);
+
+    /**
+     * 立即将所有流缓冲中的消息写入Redis
+     */
+    void flush();
+
+    /**
+     * 获取本地缓冲中尚未写入的消息数量
+     *
+     * @return 待写入的消息数量
+     */
+    int pendingMessages();
+}
@@ -1,5 +1,8 @@
 package com.exercise.redisdemo01.core.provider;
 
+import com.exercise.redisdemo01.core.model.bean.CacheEntry;
+
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -131,6 +134,25 @@ public interface StringCacheProvider {
      */
     void batchSetWhenNotExists(Map<String, String> map);
 
+    /**
+     * 批量设置带过期时间的缓存，所有key使用相同的过期时间，按默认批次大小通过管道发送
+     *
+     * @param map    缓存map
+     * @param expire 过期时间（秒），小于等于0表示不过期
+     * @return 每个key的写入结果，保持入参的遍历顺序
+     */
+    Map<String, Boolean> batchSetStringWithExpire(Map<String, String> map, long expire);
+
+    /**
+     * 批量设置带过期时间的缓存，每个条目可以指定独立的过期时间
+     * 条目按批次大小切分，每一批通过一次管道发送 SET key value EX expire
+     *
+     * @param entries   缓存条目列表
+     * @param batchSize 每一批管道发送的条目数量，必须大于0
+     * @return 每个key的写入结果，保持入参的顺序，写入失败的key对应false
+     */
+    Map<String, Boolean> batchSetStringWithExpire(List<CacheEntry> entries, int batchSize);
+
     /**
      * 设置缓存的bit位
      *
@@ -0,0 +1,65 @@
+package com.exercise.redisdemo01.core.provider;
+
+import com.exercise.redisdemo01.core.model.bean.WriteBehindMetrics;
+
+/**
+ * 计数器延迟写（write-behind）提供者，自增/自减先在本地按key与哈希字段合并，再批量写入Redis
+ * 适用于高频计数、允许短暂延迟可见的场景，进程异常退出时最多丢失一个刷新间隔内的增量
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+public interface WriteBehindCounterProvider {
+
+    /**
+     * 延迟自增1，对应 {@link StringCacheProvider#incrString(String)}
+     *
+     * @param key 缓存key
+     */
+    void incrString(String key);
+
+    /**
+     * 延迟自定义量自增，对应 {@link StringCacheProvider#incrString(String, long)}
+     *
+     * @param key   缓存key
+     * @param value 自增数量
+     */
+    void incrString(String key, long value);
+
+    /**
+     * 延迟自减1，对应 {@link StringCacheProvider#decrString(String)}
+     *
+     * @param key 缓存key
+     */
+    void decrString(String key);
+
+    /**
+     * 延迟自定义量自减，对应 {@link StringCacheProvider#decrString(String, long)}
+     *
+     * @param key   缓存key
+     * @param value 自减数量
+     */
+    void decrString(String key, long value);
+
+    /**
+     * 延迟将哈希表中指定字段的值增加指定整数，对应 {@link HashCacheProvider#incrBy(String, String, long)}
+     *
+     * @param key   哈希表的键
+     * @param field 字段名
+     * @param delta 增加的数值
+     */
+    void incrBy(String key, String field, long delta);
+
+    /**
+     * 立即将所有待刷新的增量通过管道写入Redis，写入失败的增量保留到下次刷新
+     */
+    void flush();
+
+    /**
+     * 获取当前的运行指标快照
+     *
+     * @return 运行指标
+     */
+    WriteBehindMetrics metrics();
+}
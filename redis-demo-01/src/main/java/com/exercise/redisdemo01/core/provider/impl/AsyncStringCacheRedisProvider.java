@@ -0,0 +1,150 @@
+package com.exercise.redisdemo01.core.provider.impl;
+
+import com.exercise.redisdemo01.core.provider.AsyncStringCacheProvider;
+import com.exercise.redisdemo01.core.util.LogValues;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 基于 Lettuce 响应式连接实现的异步缓存提供者
+ * 命令通过共享连接直接发出，不占用调用线程；失败时记录日志并以异常完成Future
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AsyncStringCacheRedisProvider implements AsyncStringCacheProvider {
+
+    /**
+     * 响应式Redis模板
+     */
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+
+    /**
+     * 设置缓存
+     *
+     * @param key   缓存key
+     * @param value 缓存value
+     * @return 写入完成的Future
+     */
+    @Override
+    public CompletableFuture<Boolean> setString(String key, String value) {
+        return reactiveRedisTemplate.opsForValue().set(key, value)
+                .doOnError(e -> log.error("异步设置缓存失败 key={}, value={}", key, LogValues.brief(value), e))
+                .toFuture();
+    }
+
+    /**
+     * 带过期时间的设置缓存, 默认为秒
+     *
+     * @param key    缓存key
+     * @param value  缓存value
+     * @param expire 过期时间
+     * @return 写入完成的Future
+     */
+    @Override
+    public CompletableFuture<Boolean> setString(String key, String value, long expire) {
+        return reactiveRedisTemplate.opsForValue().set(key, value, Duration.ofSeconds(expire))
+                .doOnError(e -> log.error("异步设置带过期时间缓存失败 key={}, value={}, expire={}",
+                        key, LogValues.brief(value), expire, e))
+                .toFuture();
+    }
+
+    /**
+     * 设置缓存, 当key不存在时才设置, 默认过期时间单位是秒
+     *
+     * @param key    缓存key
+     * @param value  缓存value
+     * @param expire 过期时间
+     * @return 是否设置成功
+     */
+    @Override
+    public CompletableFuture<Boolean> setStringWhenNotExists(String key, String value, long expire) {
+        return reactiveRedisTemplate.opsForValue().setIfAbsent(key, value, Duration.ofSeconds(expire))
+                .doOnError(e -> log.error("异步设置缓存失败 key={}, value={}", key, LogValues.brief(value), e))
+                .toFuture();
+    }
+
+    /**
+     * 获取缓存, 如果不存在则返回空字符串
+     *
+     * @param key 缓存key
+     * @return 缓存value
+     */
+    @Override
+    public CompletableFuture<String> getString(String key) {
+        return reactiveRedisTemplate.opsForValue().get(key)
+                .defaultIfEmpty("")
+                .doOnError(e -> log.error("异步获取缓存失败 key={}", key, e))
+                .toFuture();
+    }
+
+    /**
+     * 批量获取缓存，一次 MGET 取回所有key
+     *
+     * @param keys 缓存key集合
+     * @return key与value的映射，保持入参的遍历顺序，不存在的key对应空字符串
+     */
+    @Override
+    public CompletableFuture<Map<String, String>> getStrings(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return CompletableFuture.completedFuture(new LinkedHashMap<>());
+        }
+        List<String> keyList = new ArrayList<>(keys);
+        return reactiveRedisTemplate.opsForValue().multiGet(keyList)
+                .map(values -> {
+                    Map<String, String> result = new LinkedHashMap<>(keyList.size() * 2);
+                    Iterator<String> iterator = values.iterator();
+                    for (String key : keyList) {
+                        String value = iterator.hasNext() ? iterator.next() : null;
+                        result.put(key, Objects.isNull(value) ? "" : value);
+                    }
+                    return result;
+                })
+                .doOnError(e -> log.error("异步批量获取缓存失败 keys={}", LogValues.brief(keyList), e))
+                .toFuture();
+    }
+
+    /**
+     * 自定义量自增缓存
+     *
+     * @param key   缓存key
+     * @param delta 自增数量
+     * @return 自增后的值
+     */
+    @Override
+    public CompletableFuture<Long> incrString(String key, long delta) {
+        return reactiveRedisTemplate.opsForValue().increment(key, delta)
+                .doOnError(e -> log.error("异步自增缓存失败 key={}, delta={}", key, delta, e))
+                .toFuture();
+    }
+
+    /**
+     * 删除缓存
+     *
+     * @param key 缓存key
+     * @return 是否删除了key
+     */
+    @Override
+    public CompletableFuture<Boolean> delete(String key) {
+        return reactiveRedisTemplate.delete(key)
+                .map(deleted -> deleted > 0)
+                .doOnError(e -> log.error("异步删除缓存失败 key={}", key, e))
+                .toFuture();
+    }
+}
@@ -1,13 +1,22 @@
 package com.exercise.redisdemo01.core.provider.impl;
 
+import com.exercise.redisdemo01.core.model.enums.BitRangeUnit;
 import com.exercise.redisdemo01.core.provider.BitMapCacheProvider;
+import com.exercise.redisdemo01.core.util.LogValues;
+import com.exercise.redisdemo01.core.util.RedisPipelines;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.BitFieldSubCommands;
 import org.springframework.data.redis.connection.RedisStringCommands;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
 /**
  * @author 王玉涛
  * @version 1.0
@@ -18,6 +27,16 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class BitMapCacheRedisProvider implements BitMapCacheProvider {
 
+    /**
+     * 单条 BITFIELD 命令携带的最大子命令数量，超出后拆分为多条命令通过管道发送
+     */
+    private static final int BIT_FIELD_BATCH_SIZE = 1024;
+
+    /**
+     * 单个位的无符号类型 u1
+     */
+    private static final BitFieldSubCommands.BitFieldType SINGLE_BIT = BitFieldSubCommands.BitFieldType.unsigned(1);
+
     private final StringRedisTemplate stringRedisTemplate;
 
     /**
@@ -31,7 +50,9 @@ public class BitMapCacheRedisProvider implements BitMapCacheProvider {
     public void setBit(String key, long offset, boolean value) {
         try {
             stringRedisTemplate.opsForValue().setBit(key, offset, value);
-            log.debug("设置位图成功 key={}, offset={}, value={}", key, offset, value);
+            if (log.isDebugEnabled()) {
+                log.debug("设置位图成功 key={}, offset={}, value={}", key, offset, value);
+            }
         } catch (Exception e) {
             log.error("设置位图失败 key={}, offset={}, value={}", key, offset, value, e);
             throw e;
@@ -49,7 +70,9 @@ public class BitMapCacheRedisProvider implements BitMapCacheProvider {
     public Boolean getBit(String key, long offset) {
         try {
             Boolean value = stringRedisTemplate.opsForValue().getBit(key, offset);
-            log.debug("获取位图值成功 key={}, offset={}, value={}", key, offset, value);
+            if (log.isDebugEnabled()) {
+                log.debug("获取位图值成功 key={}, offset={}, value={}", key, offset, value);
+            }
             return value;
         } catch (Exception e) {
             log.error("获取位图值失败 key={}, offset={}", key, offset, e);
@@ -57,6 +80,58 @@ public class BitMapCacheRedisProvider implements BitMapCacheProvider {
         }
     }
 
+    /**
+     * 批量获取位图中多个偏移量的值，通过 BITFIELD GET u1 完成
+     *
+     * @param key     位图的键
+     * @param offsets 偏移量列表
+     * @return 与偏移量一一对应的值
+     */
+    @Override
+    public List<Boolean> getBits(String key, long... offsets) {
+        try {
+            List<BitFieldSubCommands.BitFieldSubCommand> subCommands = new ArrayList<>(offsets.length);
+            for (long offset : offsets) {
+                subCommands.add(BitFieldSubCommands.BitFieldGet.create(SINGLE_BIT, BitFieldSubCommands.Offset.offset(offset)));
+            }
+            List<Boolean> values = toBooleans(bitField(key, subCommands));
+            if (log.isDebugEnabled()) {
+                log.debug("批量获取位图值成功 key={}, offsets={}", key, LogValues.brief(offsets));
+            }
+            return values;
+        } catch (Exception e) {
+            log.error("批量获取位图值失败 key={}, offsets={}", key, LogValues.brief(offsets), e);
+            throw e;
+        }
+    }
+
+    /**
+     * 批量设置位图中多个偏移量为同一个值，通过 BITFIELD SET u1 完成
+     *
+     * @param key     位图的键
+     * @param value   要设置的值（0 或 1）
+     * @param offsets 偏移量列表
+     * @return 与偏移量一一对应的旧值
+     */
+    @Override
+    public List<Boolean> setBits(String key, boolean value, long... offsets) {
+        try {
+            List<BitFieldSubCommands.BitFieldSubCommand> subCommands = new ArrayList<>(offsets.length);
+            for (long offset : offsets) {
+                subCommands.add(BitFieldSubCommands.BitFieldSet.create(SINGLE_BIT,
+                        BitFieldSubCommands.Offset.offset(offset), value ? 1 : 0));
+            }
+            List<Boolean> previous = toBooleans(bitField(key, subCommands));
+            if (log.isDebugEnabled()) {
+                log.debug("批量设置位图成功 key={}, value={}, offsets={}", key, value, LogValues.brief(offsets));
+            }
+            return previous;
+        } catch (Exception e) {
+            log.error("批量设置位图失败 key={}, value={}, offsets={}", key, value, LogValues.brief(offsets), e);
+            throw e;
+        }
+    }
+
     /**
      * 统计位图中被设置为1的位数
      *
@@ -67,7 +142,9 @@ public class BitMapCacheRedisProvider implements BitMapCacheProvider {
     public Long bitCount(String key) {
         try {
             Long count = stringRedisTemplate.execute(connection -> connection.stringCommands().bitCount(key.getBytes()), true);
-            log.debug("统计位图中1的个数成功 key={}, count={}", key, count);
+            if (log.isDebugEnabled()) {
+                log.debug("统计位图中1的个数成功 key={}, count={}", key, count);
+            }
             return count;
         } catch (Exception e) {
             log.error("统计位图中1的个数失败 key={}", key, e);
@@ -75,6 +152,36 @@ public class BitMapCacheRedisProvider implements BitMapCacheProvider {
         }
     }
 
+    /**
+     * 统计位图指定范围内被设置为1的位数
+     *
+     * @param key   位图的键
+     * @param start 范围起点（包含）
+     * @param end   范围终点（包含）
+     * @param unit  范围单位
+     * @return 范围内被设置为1的位数
+     */
+    @Override
+    public Long bitCount(String key, long start, long end, BitRangeUnit unit) {
+        try {
+            byte[] rawKey = rawKey(key);
+            Long count;
+            if (unit == BitRangeUnit.BYTE) {
+                count = stringRedisTemplate.execute((RedisCallback<Long>) connection ->
+                        connection.stringCommands().bitCount(rawKey, start, end));
+            } else {
+                count = bitCountInBits(rawKey, start, end);
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("范围统计位图中1的个数成功 key={}, start={}, end={}, unit={}, count={}", key, start, end, unit, count);
+            }
+            return count;
+        } catch (Exception e) {
+            log.error("范围统计位图中1的个数失败 key={}, start={}, end={}, unit={}", key, start, end, unit, e);
+            throw e;
+        }
+    }
+
     /**
      * 查找位图中第一个被设置为指定值的位的位置
      *
@@ -86,7 +193,9 @@ public class BitMapCacheRedisProvider implements BitMapCacheProvider {
     public Long bitPos(String key, boolean value) {
         try {
             Long pos = stringRedisTemplate.execute(connection -> connection.stringCommands().bitPos(key.getBytes(), value), true);
-            log.debug("查找位图中第一个{}的位置成功 key={}, pos={}", value ? 1 : 0, key, pos);
+            if (log.isDebugEnabled()) {
+                log.debug("查找位图中第一个{}的位置成功 key={}, pos={}", value ? 1 : 0, key, pos);
+            }
             return pos;
         } catch (Exception e) {
             log.error("查找位图中第一个{}的位置失败 key={}", value ? 1 : 0, key, e);
@@ -94,6 +203,39 @@ public class BitMapCacheRedisProvider implements BitMapCacheProvider {
         }
     }
 
+    /**
+     * 查找位图指定范围内第一个被设置为指定值的位的位置
+     *
+     * @param key   位图的键
+     * @param value 要查找的值（0 或 1）
+     * @param start 范围起点（包含）
+     * @param end   范围终点（包含）
+     * @param unit  范围单位
+     * @return 第一个被设置为指定值的位的位置，范围内不存在则返回-1
+     */
+    @Override
+    public Long bitPos(String key, boolean value, long start, long end, BitRangeUnit unit) {
+        try {
+            byte[] rawKey = rawKey(key);
+            Long pos;
+            if (unit == BitRangeUnit.BYTE) {
+                pos = stringRedisTemplate.execute((RedisCallback<Long>) connection ->
+                        connection.stringCommands().bitPos(rawKey, value, Range.closed(start, end)));
+            } else {
+                pos = bitPosInBits(rawKey, value, start, end);
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("范围查找位图中第一个{}的位置成功 key={}, start={}, end={}, unit={}, pos={}",
+                        value ? 1 : 0, key, start, end, unit, pos);
+            }
+            return pos;
+        } catch (Exception e) {
+            log.error("范围查找位图中第一个{}的位置失败 key={}, start={}, end={}, unit={}",
+                    value ? 1 : 0, key, start, end, unit, e);
+            throw e;
+        }
+    }
+
     /**
      * 对一个或多个位图执行按位操作，并将结果存储到目标位图中
      *
@@ -127,15 +269,17 @@ public class BitMapCacheRedisProvider implements BitMapCacheProvider {
 
             }, true);
 
-            log.debug("位图操作成功 operation={}, destKey={}, keys={}", operation, destKey, keys);
+            if (log.isDebugEnabled()) {
+                log.debug("位图操作成功 operation={}, destKey={}, keys={}", operation, destKey, LogValues.brief(keys));
+            }
         } catch (Exception e) {
-            log.error("位图操作失败 operation={}, destKey={}, keys={}", operation, destKey, keys, e);
+            log.error("位图操作失败 operation={}, destKey={}, keys={}", operation, destKey, LogValues.brief(keys), e);
             throw e;
         }
     }
 
     /**
-     * 获取位图的内存使用量（字节）
+     * 获取位图的内存使用量（字节），键不存在时返回0
      *
      * @param key 位图的键
      * @return 内存使用量（字节）
@@ -143,11 +287,18 @@ public class BitMapCacheRedisProvider implements BitMapCacheProvider {
     @Override
     public Long memoryUsage(String key) {
         try {
-            byte[] serialize = stringRedisTemplate.getStringSerializer().serialize(key);
-            Long memoryUsage = (Long) stringRedisTemplate.execute((RedisCallback<Object>) connection ->
-                    connection.execute("MEMORY USAGE", serialize));
+            // 通用的 execute 只能按字节数组解析返回值，MEMORY USAGE 返回整数，因此通过 Lettuce 的异步命令执行
+            byte[] rawKey = Objects.requireNonNull(stringRedisTemplate.getStringSerializer().serialize(key));
+            Object usage = RedisPipelines.executeEach(stringRedisTemplate,
+                    commands -> List.of(commands.memoryUsage(rawKey))).get(0);
+            if (usage instanceof Exception error) {
+                throw new IllegalStateException("获取位图内存使用量失败: " + error.getMessage(), error);
+            }
+            Long memoryUsage = usage == null ? 0L : (Long) usage;
 
-            log.debug("获取位图内存使用量成功 key={}, usage={} bytes", key, memoryUsage);
+            if (log.isDebugEnabled()) {
+                log.debug("获取位图内存使用量成功 key={}, usage={} bytes", key, memoryUsage);
+            }
             return memoryUsage;
         } catch (Exception e) {
             log.error("获取位图内存使用量失败 key={}", key, e);
@@ -170,4 +321,198 @@ public class BitMapCacheRedisProvider implements BitMapCacheProvider {
             throw e;
         }
     }
+
+    /**
+     * 执行 BITFIELD 子命令，超出单条命令上限时按批次拆分，通过一次管道发送
+     *
+     * @param key         位图的键
+     * @param subCommands 子命令列表
+     * @return 与子命令一一对应的结果
+     */
+    @SuppressWarnings("unchecked")
+    private List<Long> bitField(String key, List<BitFieldSubCommands.BitFieldSubCommand> subCommands) {
+        if (subCommands.isEmpty()) {
+            return List.of();
+        }
+        byte[] rawKey = rawKey(key);
+        if (subCommands.size() <= BIT_FIELD_BATCH_SIZE) {
+            List<Long> values = stringRedisTemplate.execute((RedisCallback<List<Long>>) connection ->
+                    connection.stringCommands().bitField(rawKey, BitFieldSubCommands.create(
+                            subCommands.toArray(new BitFieldSubCommands.BitFieldSubCommand[0]))));
+            return values == null ? List.of() : values;
+        }
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int from = 0; from < subCommands.size(); from += BIT_FIELD_BATCH_SIZE) {
+                List<BitFieldSubCommands.BitFieldSubCommand> batch =
+                        subCommands.subList(from, Math.min(from + BIT_FIELD_BATCH_SIZE, subCommands.size()));
+                connection.stringCommands().bitField(rawKey, BitFieldSubCommands.create(
+                        batch.toArray(new BitFieldSubCommands.BitFieldSubCommand[0])));
+            }
+            return null;
+        });
+        List<Long> values = new ArrayList<>(subCommands.size());
+        for (Object result : results) {
+            values.addAll((List<Long>) result);
+        }
+        return values;
+    }
+
+    /**
+     * 按位统计范围内1的个数：首尾不完整的字节通过 BITFIELD GET 读取后本地统计，中间完整的字节通过 BITCOUNT 统计
+     *
+     * @param rawKey 位图的键
+     * @param start  起始位偏移量（包含）
+     * @param end    结束位偏移量（包含）
+     * @return 范围内1的个数
+     */
+    @SuppressWarnings("unchecked")
+    private Long bitCountInBits(byte[] rawKey, long start, long end) {
+        checkBitRange(start, end);
+        if (end < start) {
+            return 0L;
+        }
+        long startByte = start >>> 3;
+        long endByte = end >>> 3;
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().bitField(rawKey, edgeBits(start, end));
+            if (endByte - startByte > 1) {
+                connection.stringCommands().bitCount(rawKey, startByte + 1, endByte - 1);
+            }
+            return null;
+        });
+        long count = 0;
+        for (Long edge : (List<Long>) results.get(0)) {
+            count += Long.bitCount(edge);
+        }
+        if (results.size() > 1) {
+            count += (Long) results.get(1);
+        }
+        return count;
+    }
+
+    /**
+     * 按位查找范围内第一个指定值的位：依次检查首字节、中间完整字节（BITPOS）与尾字节，所需数据通过一次管道读取
+     * 查找0时，超出字符串长度的字节视为全0，BITPOS 不会返回这部分，需要结合 STRLEN 判断
+     *
+     * @param rawKey 位图的键
+     * @param value  要查找的值
+     * @param start  起始位偏移量（包含）
+     * @param end    结束位偏移量（包含）
+     * @return 第一个指定值的位的位置，范围内不存在则返回-1
+     */
+    @SuppressWarnings("unchecked")
+    private Long bitPosInBits(byte[] rawKey, boolean value, long start, long end) {
+        checkBitRange(start, end);
+        if (end < start) {
+            return -1L;
+        }
+        long startByte = start >>> 3;
+        long endByte = end >>> 3;
+        boolean hasMiddle = endByte - startByte > 1;
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().bitField(rawKey, edgeBits(start, end));
+            if (hasMiddle) {
+                connection.stringCommands().bitPos(rawKey, value, Range.closed(startByte + 1, endByte - 1));
+                connection.stringCommands().strLen(rawKey);
+            }
+            return null;
+        });
+        List<Long> edges = (List<Long>) results.get(0);
+        long headEnd = Math.min(end, (startByte << 3) + 7);
+        long found = firstBit(edges.get(0), (int) (headEnd - start + 1), value);
+        if (found >= 0) {
+            return start + found;
+        }
+        if (hasMiddle) {
+            long middle = (Long) results.get(1);
+            if (middle >= 0) {
+                return middle;
+            }
+            long firstMissingByte = Math.max(startByte + 1, (Long) results.get(2));
+            if (!value && firstMissingByte <= endByte - 1) {
+                return firstMissingByte << 3;
+            }
+        }
+        if (edges.size() > 1) {
+            long tailStart = endByte << 3;
+            found = firstBit(edges.get(1), (int) (end - tailStart + 1), value);
+            if (found >= 0) {
+                return tailStart + found;
+            }
+        }
+        return -1L;
+    }
+
+    /**
+     * 生成读取首尾不完整字节的 BITFIELD 子命令，首尾在同一个字节时只有一个 GET
+     *
+     * @param start 起始位偏移量（包含）
+     * @param end   结束位偏移量（包含）
+     * @return BITFIELD 子命令
+     */
+    private static BitFieldSubCommands edgeBits(long start, long end) {
+        long startByte = start >>> 3;
+        long endByte = end >>> 3;
+        if (startByte == endByte) {
+            return BitFieldSubCommands.create().get(BitFieldSubCommands.BitFieldType.unsigned((int) (end - start + 1)))
+                    .valueAt(start);
+        }
+        long tailStart = endByte << 3;
+        return BitFieldSubCommands.create()
+                .get(BitFieldSubCommands.BitFieldType.unsigned((int) (8 - (start & 7)))).valueAt(start)
+                .get(BitFieldSubCommands.BitFieldType.unsigned((int) (end - tailStart + 1))).valueAt(tailStart);
+    }
+
+    /**
+     * 在 BITFIELD 读取的无符号值中查找第一个指定值的位，高位在前
+     *
+     * @param bits  BITFIELD 读取的值
+     * @param width 位数
+     * @param value 要查找的值
+     * @return 第一个指定值的位在这段位中的下标，不存在则返回-1
+     */
+    private static long firstBit(long bits, int width, boolean value) {
+        for (int i = 0; i < width; i++) {
+            if ((((bits >>> (width - 1 - i)) & 1) == 1) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 校验按位范围，按位查询不支持负数下标
+     *
+     * @param start 起始位偏移量
+     * @param end   结束位偏移量
+     */
+    private static void checkBitRange(long start, long end) {
+        if (start < 0 || end < 0) {
+            throw new IllegalArgumentException("按位范围查询的起点与终点必须为非负数");
+        }
+    }
+
+    /**
+     * 将 BITFIELD 返回的0/1值转换为布尔值
+     *
+     * @param values BITFIELD 返回值
+     * @return 布尔值列表
+     */
+    private static List<Boolean> toBooleans(List<Long> values) {
+        List<Boolean> result = new ArrayList<>(values.size());
+        for (Long value : values) {
+            result.add(value != null && value == 1L);
+        }
+        return result;
+    }
+
+    /**
+     * 序列化位图的键
+     *
+     * @param key 位图的键
+     * @return 键的字节
+     */
+    private byte[] rawKey(String key) {
+        return Objects.requireNonNull(stringRedisTemplate.getStringSerializer().serialize(key));
+    }
 }
@@ -1,6 +1,7 @@
 package com.exercise.redisdemo01.core.provider.impl;
 
 import com.exercise.redisdemo01.core.provider.BloomFilterProvider;
+import com.exercise.redisdemo01.core.util.LogValues;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RedissonClient;
@@ -33,16 +34,20 @@ public class BloomFilterRedissonProvider implements BloomFilterProvider {
     @Override
     public boolean save(String key, String value) {
         try {
-            log.debug("向布隆过滤器中存储数据: key={}, value={}", key, value);
+            if (log.isDebugEnabled()) {
+                log.debug("向布隆过滤器中存储数据: key={}, value={}", key, LogValues.brief(value));
+            }
             boolean isSaved = redissonClient.getBloomFilter(key).add(value);
             if (!isSaved) {
-                log.error("保存数据失败! key={}, value={}", key, value);
+                log.error("保存数据失败! key={}, value={}", key, LogValues.brief(value));
             } else {
-                log.debug("保存数据成功! key={}, value={}", key, value);
+                if (log.isDebugEnabled()) {
+                    log.debug("保存数据成功! key={}, value={}", key, LogValues.brief(value));
+                }
             }
             return isSaved;
         } catch (Exception e) {
-            log.error("保存数据出现异常！key={}, value={}", key, value, e);
+            log.error("保存数据出现异常！key={}, value={}", key, LogValues.brief(value), e);
             return false;
         }
     }
@@ -57,16 +62,20 @@ public class BloomFilterRedissonProvider implements BloomFilterProvider {
     @Override
     public boolean save(String key, Collection<String> values) {
         try {
-            log.debug("向布隆过滤器中批量存储数据: key={}, values={}", key, values);
+            if (log.isDebugEnabled()) {
+                log.debug("向布隆过滤器中批量存储数据: key={}, values={}", key, LogValues.brief(values));
+            }
             boolean isSaved = redissonClient.getBloomFilter(key).add(values);
             if (!isSaved) {
-                log.error("批量保存数据失败! key={}, values={}", key, values);
+                log.error("批量保存数据失败! key={}, values={}", key, LogValues.brief(values));
             } else {
-                log.debug("批量保存数据成功! key={}, values={}", key, values);
+                if (log.isDebugEnabled()) {
+                    log.debug("批量保存数据成功! key={}, values={}", key, LogValues.brief(values));
+                }
             }
             return isSaved;
         } catch (Exception e) {
-            log.error("批量保存数据出现异常！key={}, values={}", key, values, e);
+            log.error("批量保存数据出现异常！key={}, values={}", key, LogValues.brief(values), e);
             return false;
         }
     }
@@ -81,16 +90,20 @@ public class BloomFilterRedissonProvider implements BloomFilterProvider {
     @Override
     public boolean contains(String key, String value) {
         try {
-            log.debug("从布隆过滤器中查询数据: key={}, value={}", key, value);
+            if (log.isDebugEnabled()) {
+                log.debug("从布隆过滤器中查询数据: key={}, value={}", key, LogValues.brief(value));
+            }
             boolean isExist = redissonClient.getBloomFilter(key).contains(value);
             if (!isExist) {
-                log.error("查询数据失败! key={}, value={}", key, value);
+                log.error("查询数据失败! key={}, value={}", key, LogValues.brief(value));
             } else {
-                log.debug("查询数据成功! key={}, value={}", key, value);
+                if (log.isDebugEnabled()) {
+                    log.debug("查询数据成功! key={}, value={}", key, LogValues.brief(value));
+                }
             }
             return isExist;
         } catch (Exception e) {
-            log.error("查询数据出现异常！key={}, value={}", key, value, e);
+            log.error("查询数据出现异常！key={}, value={}", key, LogValues.brief(value), e);
             return false; 
         }
     }
@@ -105,16 +118,20 @@ public class BloomFilterRedissonProvider implements BloomFilterProvider {
     @Override
     public boolean contains(String key, Collection<String> values) {
         try {
-            log.debug("从布隆过滤器中批量查询数据: key={}, values={}", key, values);
+            if (log.isDebugEnabled()) {
+                log.debug("从布隆过滤器中批量查询数据: key={}, values={}", key, LogValues.brief(values));
+            }
             boolean isExist = redissonClient.getBloomFilter(key).contains(values);
             if (!isExist) {
-                log.error("批量查询数据失败! key={}, values={}", key, values);
+                log.error("批量查询数据失败! key={}, values={}", key, LogValues.brief(values));
             } else {
-                log.debug("批量查询数据成功! key={}, values={}", key, values);
+                if (log.isDebugEnabled()) {
+                    log.debug("批量查询数据成功! key={}, values={}", key, LogValues.brief(values));
+                }
             }
             return isExist;
         } catch (Exception e) {
-            log.error("批量查询数据出现异常！key={}, values={}", key, values, e);
+            log.error("批量查询数据出现异常！key={}, values={}", key, LogValues.brief(values), e);
             return false;
         }
     }
@@ -129,7 +146,9 @@ public class BloomFilterRedissonProvider implements BloomFilterProvider {
         try {
             log.debug("查询布隆过滤器中元素数量: key={}", key);
             long count = redissonClient.getBloomFilter(key).count();
-            log.debug("查询布隆过滤器中元素数量成功: key={}, count={}", key, count);
+            if (log.isDebugEnabled()) {
+                log.debug("查询布隆过滤器中元素数量成功: key={}, count={}", key, count);
+            }
             return count;
         } catch (Exception e) {
             log.error("查询布隆过滤器中元素数量异常！: key={}", key, e);
@@ -3,14 +3,25 @@ package com.exercise.redisdemo01.core.provider.impl;
 import com.exercise.redisdemo01.core.model.bean.MemoryMetrics;
 import com.exercise.redisdemo01.core.model.bean.RedisMemoryMetrics;
 import com.exercise.redisdemo01.core.provider.CacheProvider;
+import com.exercise.redisdemo01.core.util.BlockingCallExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -25,8 +36,17 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CacheRedisProvider implements CacheProvider {
 
+    /**
+     * 管道批量删除时单条 UNLINK 命令携带的最大键数量
+     */
+    private static final int UNLINK_KEYS_PER_COMMAND = 100;
+
     private final StringRedisTemplate redisTemplate;
 
+    private final LettuceConnectionFactory connectionFactory;
+
+    private final BlockingCallExecutor blockingCallExecutor;
+
     /**
      * 获取Redis内存信息
      * 
@@ -83,4 +103,126 @@ public class CacheRedisProvider implements CacheProvider {
         }
         log.info("缓存提供者内存信息监控正常");
     }
+
+    /**
+     * 通过 SCAN 遍历匹配的键，不会像 KEYS 一样阻塞服务端
+     * 集群模式下每个主节点在阻塞调用执行器中并行扫描
+     *
+     * @param pattern       匹配模式（SCAN MATCH）
+     * @param count         每次扫描的数量提示（SCAN COUNT）
+     * @param batchConsumer 按批处理扫描到的键，每批最多 count 个
+     * @return 扫描到的键数量
+     */
+    @Override
+    public long scanKeys(String pattern, int count, Consumer<List<String>> batchConsumer) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(count).build();
+        try {
+            long scanned;
+            if (connectionFactory.isClusterAware()) {
+                scanned = scanClusterKeys(options, count, batchConsumer);
+            } else {
+                scanned = drain(redisTemplate.scan(options), Function.identity(), count, batchConsumer);
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("扫描键完成 pattern={}, count={}, scanned={}", pattern, count, scanned);
+            }
+            return scanned;
+        } catch (Exception e) {
+            log.error("扫描键失败 pattern={}, count={}", pattern, count, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 通过 SCAN 找出匹配的键并分批 UNLINK 删除，内存回收在服务端后台线程完成
+     *
+     * @param pattern 匹配模式（SCAN MATCH）
+     * @param count   每次扫描的数量提示（SCAN COUNT），同时作为每批删除的键数量
+     * @return 删除的键数量
+     */
+    @Override
+    public long unlinkKeys(String pattern, int count) {
+        AtomicLong unlinked = new AtomicLong();
+        try {
+            long scanned = scanKeys(pattern, count, keys -> unlinked.addAndGet(unlinkBatch(keys)));
+            log.info("批量删除键完成 pattern={}, scanned={}, unlinked={}", pattern, scanned, unlinked.get());
+            return unlinked.get();
+        } catch (Exception e) {
+            log.error("批量删除键失败 pattern={}, unlinked={}", pattern, unlinked.get(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * 集群模式下对每个主节点并行执行 SCAN，每个节点使用独立的集群连接
+     */
+    private long scanClusterKeys(ScanOptions options, int count, Consumer<List<String>> batchConsumer) {
+        Set<RedisClusterNode> masters;
+        try (RedisClusterConnection connection = connectionFactory.getClusterConnection()) {
+            masters = connection.clusterGetMasterReplicaMap().keySet();
+        }
+        List<CompletableFuture<Long>> futures = new ArrayList<>(masters.size());
+        for (RedisClusterNode master : masters) {
+            futures.add(blockingCallExecutor.submitOnNode(master.asString(), () -> {
+                try (RedisClusterConnection connection = connectionFactory.getClusterConnection()) {
+                    return drain(connection.scan(master, options),
+                            key -> new String(key, StandardCharsets.UTF_8), count, batchConsumer);
+                }
+            }));
+        }
+        return futures.stream().mapToLong(CompletableFuture::join).sum();
+    }
+
+    /**
+     * 读取游标并按批交给消费者，内存中最多保留一批键
+     */
+    private static <T> long drain(Cursor<T> cursor, Function<T, String> mapper, int batchSize, Consumer<List<String>> batchConsumer) {
+        long scanned = 0;
+        List<String> batch = new ArrayList<>(batchSize);
+        try (cursor) {
+            while (cursor.hasNext()) {
+                batch.add(mapper.apply(cursor.next()));
+                if (batch.size() >= batchSize) {
+                    batchConsumer.accept(batch);
+                    scanned += batch.size();
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            batchConsumer.accept(batch);
+            scanned += batch.size();
+        }
+        return scanned;
+    }
+
+    /**
+     * 删除一批键，单机模式通过一次管道发送多条 UNLINK
+     * 集群连接不支持管道，直接发送 UNLINK，由连接按槽位拆分
+     *
+     * @param keys 待删除的键
+     * @return 删除的键数量
+     */
+    private long unlinkBatch(List<String> keys) {
+        if (connectionFactory.isClusterAware()) {
+            Long unlinked = redisTemplate.unlink(keys);
+            return Objects.isNull(unlinked) ? 0 : unlinked;
+        }
+        List<Object> replies = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int from = 0; from < keys.size(); from += UNLINK_KEYS_PER_COMMAND) {
+                byte[][] rawKeys = keys.subList(from, Math.min(from + UNLINK_KEYS_PER_COMMAND, keys.size())).stream()
+                        .map(key -> key.getBytes(StandardCharsets.UTF_8))
+                        .toArray(byte[][]::new);
+                connection.keyCommands().unlink(rawKeys);
+            }
+            return null;
+        });
+        long unlinked = 0;
+        for (Object reply : replies) {
+            if (reply instanceof Long count) {
+                unlinked += count;
+            }
+        }
+        return unlinked;
+    }
 }
@@ -7,6 +7,7 @@ import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -37,7 +38,9 @@ public class DistributedLockRedissonProvider implements DistributedLockProvider
         // 通过Redisson客户端获取指定key的可重入锁实例
         RLock lock = redissonClient.getLock(key);
 
-        log.debug("尝试获取锁 key={}, holdTime={}ms", key, holdTime);
+        if (log.isDebugEnabled()) {
+            log.debug("尝试获取锁 key={}, holdTime={}ms", key, holdTime);
+        }
         boolean tryLock = false;
         try {
             // 尝试获取锁，最多等待waitTime毫秒，持有锁holdTime毫秒后自动释放
@@ -53,11 +56,40 @@ public class DistributedLockRedissonProvider implements DistributedLockProvider
         if (!tryLock) {
             log.warn("获取锁超时或失败！key={}", key);
         } else {
-            log.debug("获取锁成功！key={}, holdTime={}ms", key, holdTime);
+            if (log.isDebugEnabled()) {
+                log.debug("获取锁成功！key={}, holdTime={}ms", key, holdTime);
+            }
         }
         return tryLock;
     }
 
+    /**
+     * 异步尝试获取分布式锁
+     * Redisson 按线程ID记录锁的持有者，这里以调用线程的ID加锁，等待过程由 Redisson 异步完成，不占用任何线程，
+     * 获锁成功后调用线程可以直接调用 unlock 释放
+     *
+     * @param key      锁标识，用于唯一标识一个锁资源
+     * @param waitTime 获取锁的最大等待时间(ms)
+     * @param holdTime 锁的持有时间(ms)
+     * @return 是否成功获取锁
+     */
+    @Override
+    public CompletableFuture<Boolean> tryLockAsync(String key, long waitTime, long holdTime) {
+        RLock lock = redissonClient.getLock(key);
+        long threadId = Thread.currentThread().getId();
+        if (log.isDebugEnabled()) {
+            log.debug("异步尝试获取锁 key={}, waitTime={}ms, holdTime={}ms, threadId={}", key, waitTime, holdTime, threadId);
+        }
+        return lock.tryLockAsync(waitTime, holdTime, TimeUnit.MILLISECONDS, threadId).toCompletableFuture()
+                .whenComplete((tryLock, e) -> {
+                    if (e != null) {
+                        log.error("异步获取锁出现异常! key={}", key, e);
+                    } else if (!tryLock) {
+                        log.warn("获取锁超时或失败！key={}", key);
+                    }
+                });
+    }
+
     /**
      * 安全地释放分布式锁
      * 只有当前持有锁的线程才能释放锁，防止误释放其他线程持有的锁
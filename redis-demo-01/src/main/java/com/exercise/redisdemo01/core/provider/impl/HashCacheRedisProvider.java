@@ -1,14 +1,18 @@
 package com.exercise.redisdemo01.core.provider.impl;
 
 import com.exercise.redisdemo01.core.provider.HashCacheProvider;
+import com.exercise.redisdemo01.core.util.LogValues;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * @author 王玉涛
@@ -33,9 +37,11 @@ public class HashCacheRedisProvider implements HashCacheProvider {
     public void set(String key, String field, String value) {
         try {
             redisTemplate.opsForHash().put(key, field, value);
-            log.debug("设置哈希字段成功 key={}, field={}, value={}", key, field, value);
+            if (log.isDebugEnabled()) {
+                log.debug("设置哈希字段成功 key={}, field={}, value={}", key, field, LogValues.brief(value));
+            }
         } catch (Exception e) {
-            log.error("设置哈希字段失败 key={}, field={}, value={}", key, field, value, e);
+            log.error("设置哈希字段失败 key={}, field={}, value={}", key, field, LogValues.brief(value), e);
             throw e;
         }
     }
@@ -52,7 +58,9 @@ public class HashCacheRedisProvider implements HashCacheProvider {
         try {
             Object value = redisTemplate.opsForHash().get(key, field);
             String result = value == null ? "" : value.toString();
-            log.debug("获取哈希字段成功 key={}, field={}, value={}", key, field, result);
+            if (log.isDebugEnabled()) {
+                log.debug("获取哈希字段成功 key={}, field={}, value={}", key, field, LogValues.brief(result));
+            }
             return result;
         } catch (Exception e) {
             log.error("获取哈希字段失败 key={}, field={}", key, field, e);
@@ -71,10 +79,12 @@ public class HashCacheRedisProvider implements HashCacheProvider {
     public Long del(String key, String... fields) {
         try {
             Long result = redisTemplate.opsForHash().delete(key, (Object[]) fields);
-            log.debug("删除哈希字段成功 key={}, fields={}, deletedCount={}", key, fields, result);
+            if (log.isDebugEnabled()) {
+                log.debug("删除哈希字段成功 key={}, fields={}, deletedCount={}", key, LogValues.brief(fields), result);
+            }
             return result;
         } catch (Exception e) {
-            log.error("删除哈希字段失败 key={}, fields={}", key, fields, e);
+            log.error("删除哈希字段失败 key={}, fields={}", key, LogValues.brief(fields), e);
             throw e;
         }
     }
@@ -90,7 +100,9 @@ public class HashCacheRedisProvider implements HashCacheProvider {
     public Boolean isExists(String key, String field) {
         try {
             Boolean exists = redisTemplate.opsForHash().hasKey(key, field);
-            log.debug("检查哈希字段存在性 key={}, field={}, exists={}", key, field, exists);
+            if (log.isDebugEnabled()) {
+                log.debug("检查哈希字段存在性 key={}, field={}, exists={}", key, field, exists);
+            }
             return exists;
         } catch (Exception e) {
             log.error("检查哈希字段存在性失败 key={}, field={}", key, field, e);
@@ -108,7 +120,9 @@ public class HashCacheRedisProvider implements HashCacheProvider {
     public Long getLength(String key) {
         try {
             Long size = redisTemplate.opsForHash().size(key);
-            log.debug("获取哈希表字段数量 key={}, size={}", key, size);
+            if (log.isDebugEnabled()) {
+                log.debug("获取哈希表字段数量 key={}, size={}", key, size);
+            }
             return size;
         } catch (Exception e) {
             log.error("获取哈希表字段数量失败 key={}", key, e);
@@ -126,9 +140,11 @@ public class HashCacheRedisProvider implements HashCacheProvider {
     public void set(String key, Map<String, String> map) {
         try {
             redisTemplate.opsForHash().putAll(key, map);
-            log.debug("批量设置哈希字段成功 key={}, map={}", key, map);
+            if (log.isDebugEnabled()) {
+                log.debug("批量设置哈希字段成功 key={}, map={}", key, LogValues.brief(map));
+            }
         } catch (Exception e) {
-            log.error("批量设置哈希字段失败 key={}, map={}", key, map, e);
+            log.error("批量设置哈希字段失败 key={}, map={}", key, LogValues.brief(map), e);
             throw e;
         }
     }
@@ -148,10 +164,12 @@ public class HashCacheRedisProvider implements HashCacheProvider {
             for (Object value : values) {
                 result.add(value == null ? "" : value.toString());
             }
-            log.debug("批量获取哈希字段成功 key={}, fields={}, values={}", key, fields, result);
+            if (log.isDebugEnabled()) {
+                log.debug("批量获取哈希字段成功 key={}, fields={}, values={}", key, LogValues.brief(fields), LogValues.brief(result));
+            }
             return result;
         } catch (Exception e) {
-            log.error("批量获取哈希字段失败 key={}, fields={}", key, fields, e);
+            log.error("批量获取哈希字段失败 key={}, fields={}", key, LogValues.brief(fields), e);
             throw e;
         }
     }
@@ -170,7 +188,9 @@ public class HashCacheRedisProvider implements HashCacheProvider {
             for (java.util.Map.Entry<Object, Object> entry : entries.entrySet()) {
                 result.put(entry.getKey().toString(), entry.getValue().toString());
             }
-            log.debug("获取哈希表所有字段成功 key={}, entries={}", key, result);
+            if (log.isDebugEnabled()) {
+                log.debug("获取哈希表所有字段成功 key={}, entries={}", key, LogValues.brief(result));
+            }
             return result;
         } catch (Exception e) {
             log.error("获取哈希表所有字段失败 key={}", key, e);
@@ -211,6 +231,63 @@ public class HashCacheRedisProvider implements HashCacheProvider {
         return result;
     }
 
+    /**
+     * 通过 HSCAN 流式遍历哈希表，内存中只保留当前批次，消费者处理完当前批次后才拉取下一批
+     *
+     * @param key      哈希表的键
+     * @param pattern  字段名匹配模式（HSCAN MATCH），为空表示不过滤
+     * @param count    每批扫描的数量提示（HSCAN COUNT）
+     * @param consumer 逐条处理字段和值
+     * @return 处理的字段数量
+     */
+    @Override
+    public long scan(String key, String pattern, int count, Consumer<Map.Entry<String, String>> consumer) {
+        long scanned = 0;
+        try (Cursor<Map.Entry<Object, Object>> cursor = redisTemplate.opsForHash().scan(key, scanOptions(pattern, count))) {
+            while (cursor.hasNext()) {
+                Map.Entry<Object, Object> entry = cursor.next();
+                consumer.accept(Map.entry(entry.getKey().toString(), entry.getValue().toString()));
+                scanned++;
+            }
+        } catch (Exception e) {
+            log.error("流式扫描哈希表失败 key={}, pattern={}, count={}, scanned={}", key, pattern, count, scanned, e);
+            throw e;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("流式扫描哈希表完成 key={}, pattern={}, count={}, scanned={}", key, pattern, count, scanned);
+        }
+        return scanned;
+    }
+
+    /**
+     * 通过 HSCAN 返回惰性的字段流，终端操作拉取时才会发起下一批扫描
+     * 返回的流持有游标，使用完毕必须关闭（try-with-resources）
+     *
+     * @param key     哈希表的键
+     * @param pattern 字段名匹配模式（HSCAN MATCH），为空表示不过滤
+     * @param count   每批扫描的数量提示（HSCAN COUNT）
+     * @return 字段和值的流
+     */
+    @Override
+    public Stream<Map.Entry<String, String>> scanStream(String key, String pattern, int count) {
+        try {
+            Cursor<Map.Entry<Object, Object>> cursor = redisTemplate.opsForHash().scan(key, scanOptions(pattern, count));
+            // Cursor.stream() 在流关闭时关闭游标
+            return cursor.stream().map(entry -> Map.entry(entry.getKey().toString(), entry.getValue().toString()));
+        } catch (Exception e) {
+            log.error("创建哈希表扫描流失败 key={}, pattern={}, count={}", key, pattern, count, e);
+            throw e;
+        }
+    }
+
+    private static ScanOptions scanOptions(String pattern, int count) {
+        ScanOptions.ScanOptionsBuilder builder = ScanOptions.scanOptions().count(count);
+        if (StringUtils.hasText(pattern)) {
+            builder.match(pattern);
+        }
+        return builder.build();
+    }
+
     /**
      * 获取哈希表中所有的字段名 (警惕大Key风险)
      *
@@ -226,7 +303,9 @@ public class HashCacheRedisProvider implements HashCacheProvider {
                 String keyString = (String) k;
                 result.add(keyString);
             }
-            log.debug("获取哈希表所有字段名成功 key={}, keys={}", key, result);
+            if (log.isDebugEnabled()) {
+                log.debug("获取哈希表所有字段名成功 key={}, keys={}", key, LogValues.brief(result));
+            }
             return result;
         } catch (Exception e) {
             log.error("获取哈希表所有字段名失败 key={}", key, e);
@@ -248,7 +327,9 @@ public class HashCacheRedisProvider implements HashCacheProvider {
             for (Object value : values) {
                 result.add(value == null ? "" : value.toString());
             }
-            log.debug("获取哈希表所有字段值成功 key={}, values={}", key, result);
+            if (log.isDebugEnabled()) {
+                log.debug("获取哈希表所有字段值成功 key={}, values={}", key, LogValues.brief(result));
+            }
             return result;
         } catch (Exception e) {
             log.error("获取哈希表所有字段值失败 key={}", key, e);
@@ -268,7 +349,9 @@ public class HashCacheRedisProvider implements HashCacheProvider {
     public Long incrBy(String key, String field, long delta) {
         try {
             Long result = redisTemplate.opsForHash().increment(key, field, delta);
-            log.debug("哈希字段自增成功 key={}, field={}, delta={}, result={}", key, field, delta, result);
+            if (log.isDebugEnabled()) {
+                log.debug("哈希字段自增成功 key={}, field={}, delta={}, result={}", key, field, delta, result);
+            }
             return result;
         } catch (Exception e) {
             log.error("哈希字段自增失败 key={}, field={}, delta={}", key, field, delta, e);
@@ -288,7 +371,9 @@ public class HashCacheRedisProvider implements HashCacheProvider {
     public Double incrByFloat(String key, String field, double delta) {
         try {
             Double result = redisTemplate.opsForHash().increment(key, field, delta);
-            log.debug("哈希字段浮点自增成功 key={}, field={}, delta={}, result={}", key, field, delta, result);
+            if (log.isDebugEnabled()) {
+                log.debug("哈希字段浮点自增成功 key={}, field={}, delta={}, result={}", key, field, delta, result);
+            }
             return result;
         } catch (Exception e) {
             log.error("哈希字段浮点自增失败 key={}, field={}, delta={}", key, field, delta, e);
@@ -308,10 +393,12 @@ public class HashCacheRedisProvider implements HashCacheProvider {
     public boolean setIfAbsent(String key, String field, String value) {
         try {
             Boolean result = redisTemplate.opsForHash().putIfAbsent(key, field, value);
-            log.debug("哈希字段不存在时设置成功 key={}, field={}, value={}, result={}", key, field, value, result);
+            if (log.isDebugEnabled()) {
+                log.debug("哈希字段不存在时设置成功 key={}, field={}, value={}, result={}", key, field, LogValues.brief(value), result);
+            }
             return result;
         } catch (Exception e) {
-            log.error("哈希字段不存在时设置失败 key={}, field={}, value={}", key, field, value, e);
+            log.error("哈希字段不存在时设置失败 key={}, field={}, value={}", key, field, LogValues.brief(value), e);
             throw e;
         }
     }
@@ -327,7 +414,9 @@ public class HashCacheRedisProvider implements HashCacheProvider {
     public Long queryFieldLen(String key, String field) {
         try {
             Long length = redisTemplate.opsForHash().lengthOfValue(key, field);
-            log.debug("获取哈希字段值长度成功 key={}, field={}, length={}", key, field, length);
+            if (log.isDebugEnabled()) {
+                log.debug("获取哈希字段值长度成功 key={}, field={}, length={}", key, field, length);
+            }
             return length;
         } catch (Exception e) {
             log.error("获取哈希字段值长度失败 key={}, field={}", key, field, e);
@@ -0,0 +1,239 @@
+package com.exercise.redisdemo01.core.provider.impl;
+
+import com.exercise.redisdemo01.core.config.HyperLogLogConfig;
+import com.exercise.redisdemo01.core.provider.HyperLogLogBufferProvider;
+import com.exercise.redisdemo01.core.util.HyperLogLogSketch;
+import com.exercise.redisdemo01.core.util.RedisPipelines;
+import com.exercise.redisdemo01.core.util.RedisScriptRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 基于本地 {@link HyperLogLogSketch} + PFMERGE 实现的 HyperLogLog 预聚合提供者
+ * <p>
+ * 元素在 ConcurrentHashMap 的 compute 中写入对应key的草图，刷新时逐个 remove 取出草图，
+ * 与并发写入不会互相覆盖；草图序列化为 dense 编码后通过脚本写入临时键、PFMERGE 到目标键并删除临时键，
+ * 临时键使用 {目标键} 作为哈希标签，集群模式下与不含哈希标签的目标键位于同一槽位。
+ * 草图数量达到上限时立即触发刷新，否则由后台线程按间隔刷新，进程关闭前会再刷新一次；网络等原因合并失败的草图合并回本地等待重试，
+ * 服务端拒绝的合并（如目标键类型错误、INVALIDOBJ）重试也不会成功，直接丢弃草图并记录日志。
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HyperLogLogBufferRedisProvider implements HyperLogLogBufferProvider {
+
+    /**
+     * 临时键的后缀
+     */
+    private static final String MERGE_SUFFIX = ":hll-merge";
+
+    /**
+     * 合并脚本返回值的反序列化器
+     */
+    private static final RedisSerializer<Long> RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final HyperLogLogConfig hyperLogLogConfig;
+
+    /**
+     * 等待合并的本地草图，key为 HyperLogLog 的键名
+     */
+    private final Map<String, HyperLogLogSketch> sketches = new ConcurrentHashMap<>();
+
+    /**
+     * 是否已经提交了一次按数量触发的刷新，避免高频写入时重复提交
+     */
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private ScheduledExecutorService flushScheduler;
+
+    /**
+     * 启动后台刷新线程
+     */
+    @PostConstruct
+    public void init() {
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "redis-hyperloglog-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = hyperLogLogConfig.getFlushInterval();
+        flushScheduler.scheduleWithFixedDelay(this::scheduledFlush, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("HyperLogLog 本地预聚合初始化成功 flushInterval={}ms, maxBufferedKeys={}",
+                interval, hyperLogLogConfig.getMaxBufferedKeys());
+    }
+
+    /**
+     * 停止后台刷新线程，并将剩余的草图合并到Redis
+     */
+    @PreDestroy
+    public void destroy() {
+        flushScheduler.shutdown();
+        try {
+            flushScheduler.awaitTermination(hyperLogLogConfig.getFlushInterval(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        if (!sketches.isEmpty()) {
+            log.error("HyperLogLog 本地预聚合关闭时仍有草图未合并 bufferedKeys={}", sketches.size());
+        }
+    }
+
+    /**
+     * 添加一个元素到本地草图
+     *
+     * @param key   HyperLogLog 的键名
+     * @param value 要添加的元素值
+     */
+    @Override
+    public void add(String key, String value) {
+        sketches.compute(key, (k, sketch) -> {
+            HyperLogLogSketch target = sketch == null ? new HyperLogLogSketch() : sketch;
+            target.add(value);
+            return target;
+        });
+        checkBufferedKeys();
+    }
+
+    /**
+     * 批量添加元素到本地草图
+     *
+     * @param key    HyperLogLog 的键名
+     * @param values 要添加的元素值
+     */
+    @Override
+    public void addAll(String key, Collection<String> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        sketches.compute(key, (k, sketch) -> {
+            HyperLogLogSketch target = sketch == null ? new HyperLogLogSketch() : sketch;
+            for (String value : values) {
+                target.add(value);
+            }
+            return target;
+        });
+        checkBufferedKeys();
+    }
+
+    /**
+     * 立即将所有本地草图合并到 Redis
+     * 同一时间只有一个线程刷新，保证返回时之前添加的元素都已合并或已放回本地
+     */
+    @Override
+    public synchronized void flush() {
+        flushRequested.set(false);
+        List<String> keys = new ArrayList<>(sketches.keySet());
+        int merged = 0;
+        int failed = 0;
+        int dropped = 0;
+        for (String key : keys) {
+            HyperLogLogSketch sketch = sketches.remove(key);
+            if (sketch == null || sketch.isEmpty()) {
+                continue;
+            }
+            try {
+                redisTemplate.execute(RedisScriptRegistry.HLL_MERGE, RedisSerializer.byteArray(), RESULT_SERIALIZER,
+                        List.of(key, mergeKey(key)), (Object) sketch.toDenseBytes());
+                merged++;
+            } catch (Exception e) {
+                if (RedisPipelines.isRejected(e)) {
+                    dropped++;
+                    log.error("HyperLogLog 草图合并被服务端拒绝，丢弃草图 key={}, error={}", key, e.getMessage());
+                    continue;
+                }
+                failed++;
+                restore(key, sketch);
+                log.error("HyperLogLog 草图合并失败，草图保留到下次刷新 key={}", key, e);
+            }
+        }
+        if (failed > 0 || dropped > 0) {
+            log.error("HyperLogLog 本地预聚合刷新部分失败 total={}, failed={}, dropped={}",
+                    merged + failed + dropped, failed, dropped);
+            return;
+        }
+        if (merged > 0 && log.isDebugEnabled()) {
+            log.debug("HyperLogLog 本地预聚合刷新成功 keys={}", merged);
+        }
+    }
+
+    /**
+     * 获取当前等待合并的本地草图数量
+     *
+     * @return 本地草图数量
+     */
+    @Override
+    public int bufferedKeys() {
+        return sketches.size();
+    }
+
+    /**
+     * 后台定时刷新，异常只记录日志，保证调度不中断
+     */
+    private void scheduledFlush() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("HyperLogLog 本地预聚合定时刷新失败，草图保留到下次刷新", e);
+        }
+    }
+
+    /**
+     * 草图数量达到上限时提交一次刷新，刷新在后台线程执行，不阻塞写入线程
+     */
+    private void checkBufferedKeys() {
+        if (sketches.size() >= hyperLogLogConfig.getMaxBufferedKeys() && flushRequested.compareAndSet(false, true)) {
+            try {
+                flushScheduler.execute(this::scheduledFlush);
+            } catch (Exception e) {
+                flushRequested.set(false);
+                log.warn("提交 HyperLogLog 本地预聚合刷新失败，等待定时刷新", e);
+            }
+        }
+    }
+
+    /**
+     * 将合并失败的草图放回本地，与刷新期间新写入的草图合并
+     *
+     * @param key    HyperLogLog 的键名
+     * @param sketch 合并失败的草图
+     */
+    private void restore(String key, HyperLogLogSketch sketch) {
+        sketches.merge(key, sketch, (current, failed) -> {
+            current.merge(failed);
+            return current;
+        });
+    }
+
+    /**
+     * 获取合并使用的临时键
+     *
+     * @param key HyperLogLog 的键名
+     * @return 临时键
+     */
+    private static String mergeKey(String key) {
+        return "{" + key + "}" + MERGE_SUFFIX;
+    }
+}
@@ -1,12 +1,17 @@
 package com.exercise.redisdemo01.core.provider.impl;
 
+import com.exercise.redisdemo01.core.config.HyperLogLogConfig;
 import com.exercise.redisdemo01.core.provider.HyperLogLogProvider;
+import com.exercise.redisdemo01.core.util.LogValues;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -14,6 +19,7 @@ import java.util.Objects;
  * 
  * HyperLogLog 是一种概率数据结构，用于基数统计（即统计不重复元素的个数）。
  * 它的优点是内存占用固定且很小（通常12K左右），但存在一定的误差率（约0.81%）。
+ * 键与元素统一按 UTF-8 编码，不依赖平台默认字符集。
  * 
  * @author 王玉涛
  * @version 1.0
@@ -26,6 +32,8 @@ public class HyperLogLogRedisProvider implements HyperLogLogProvider {
 
     private final StringRedisTemplate stringRedisTemplate;
 
+    private final HyperLogLogConfig hyperLogLogConfig;
+
     /**
      * 向指定的 HyperLogLog 中添加元素
      * 
@@ -38,17 +46,65 @@ public class HyperLogLogRedisProvider implements HyperLogLogProvider {
      */
     @Override
     public boolean save(String key, String value) {
-        Boolean result = stringRedisTemplate.opsForValue().getOperations().execute((RedisCallback<Boolean>) connection -> {
-            Object executeResult = connection.execute("PFADD", key.getBytes(), value.getBytes());
+        try {
+            byte[] rawKey = rawKey(key);
+            byte[] rawValue = value.getBytes(StandardCharsets.UTF_8);
             // PFADD 命令返回 1 表示至少有一个元素被添加，0 表示所有元素都已存在
-            // executeResult 通常是 Long 类型
-            if (executeResult instanceof Long longResult) {
-                return longResult > 0;
+            Long result = stringRedisTemplate.execute((RedisCallback<Long>) connection ->
+                    connection.hyperLogLogCommands().pfAdd(rawKey, rawValue));
+            if (log.isDebugEnabled()) {
+                log.debug("保存 HyperLogLog 成功 key={}, value={}, result={}", key, LogValues.brief(value), result);
             }
+            return result != null && result > 0;
+        } catch (Exception e) {
+            log.error("保存 HyperLogLog 失败 key={}, value={}", key, LogValues.brief(value), e);
+            throw e;
+        }
+    }
+
+    /**
+     * 向指定的 HyperLogLog 中批量添加元素
+     * 
+     * 元素按批次大小拆分，每一批作为一条 PFADD 的参数，所有批次通过一次管道发送，
+     * 相比逐个 PFADD 大幅减少网络往返与命令解析次数。
+     * 
+     * @param key    HyperLogLog 的键名
+     * @param values 要添加的元素值
+     * @return 如果任一批次改变了 HyperLogLog 则返回 true，否则返回 false
+     */
+    @Override
+    public boolean saveAll(String key, Collection<String> values) {
+        if (values.isEmpty()) {
             return false;
-        });
-        log.debug("保存 HyperLogLog 成功 key={}, value={}, result={}", key, value, result);
-        return result != null && result;
+        }
+        try {
+            byte[] rawKey = rawKey(key);
+            int batchSize = Math.max(1, hyperLogLogConfig.getBatchSize());
+            List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                byte[][] batch = new byte[Math.min(batchSize, values.size())][];
+                int size = 0;
+                int remaining = values.size();
+                for (String value : values) {
+                    batch[size++] = value.getBytes(StandardCharsets.UTF_8);
+                    remaining--;
+                    if (size == batch.length) {
+                        connection.hyperLogLogCommands().pfAdd(rawKey, batch);
+                        batch = new byte[Math.min(batchSize, remaining)][];
+                        size = 0;
+                    }
+                }
+                return null;
+            });
+            boolean changed = results.stream().anyMatch(result -> result instanceof Long changedResult && changedResult > 0);
+            if (log.isDebugEnabled()) {
+                log.debug("批量保存 HyperLogLog 成功 key={}, values={}, commands={}, result={}",
+                        key, values.size(), results.size(), changed);
+            }
+            return changed;
+        } catch (Exception e) {
+            log.error("批量保存 HyperLogLog 失败 key={}, values={}", key, values.size(), e);
+            throw e;
+        }
     }
 
     /**
@@ -63,19 +119,99 @@ public class HyperLogLogRedisProvider implements HyperLogLogProvider {
     @Override
     public long querySize(String key) {
         try {
-            Long result = stringRedisTemplate.opsForValue().getOperations().execute((RedisCallback<Long>) connection -> {
-                Object executeResult = connection.execute("PFCOUNT", key.getBytes());
-                // PFCOUNT 命令返回 HyperLogLog 的元素数量
-                if (executeResult instanceof Long longResult) {
-                    return longResult;
-                }
-                return 0L;
-            });
-            log.debug("查询 HyperLogLog 元素数量成功 key={}, result={}", key, result);
-            return Objects.isNull(result) ? 0L : result;
+            long result = pfCount(key);
+            if (log.isDebugEnabled()) {
+                log.debug("查询 HyperLogLog 元素数量成功 key={}, result={}", key, result);
+            }
+            return result;
         } catch (Exception e) {
             log.error("查询 HyperLogLog 元素数量异常! key={}", key, e);
             return 0L;
         }
     }
+
+    /**
+     * 获取多个 HyperLogLog 并集中不重复元素的估计数量
+     * 
+     * 使用多个键的 PFCOUNT 实现，服务端在临时结构中合并后计数，不修改任何键。
+     * 
+     * @param keys HyperLogLog 的键名
+     * @return 并集中不重复元素的估计数量，如果发生异常则返回 0
+     */
+    @Override
+    public long queryUnionSize(String... keys) {
+        try {
+            long result = pfCount(keys);
+            if (log.isDebugEnabled()) {
+                log.debug("查询 HyperLogLog 并集元素数量成功 keys={}, result={}", LogValues.brief(keys), result);
+            }
+            return result;
+        } catch (Exception e) {
+            log.error("查询 HyperLogLog 并集元素数量异常! keys={}", LogValues.brief(keys), e);
+            return 0L;
+        }
+    }
+
+    /**
+     * 将多个 HyperLogLog 合并到目标键中
+     * 
+     * 使用 Redis 的 PFMERGE 命令实现，目标键不存在时创建，存在时作为合并的输入之一。
+     * 
+     * @param destKey    目标 HyperLogLog 的键名
+     * @param sourceKeys 源 HyperLogLog 的键名
+     */
+    @Override
+    public void merge(String destKey, String... sourceKeys) {
+        try {
+            byte[] rawDestKey = rawKey(destKey);
+            byte[][] rawSourceKeys = rawKeys(sourceKeys);
+            stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+                connection.hyperLogLogCommands().pfMerge(rawDestKey, rawSourceKeys);
+                return null;
+            });
+            if (log.isDebugEnabled()) {
+                log.debug("合并 HyperLogLog 成功 destKey={}, sourceKeys={}", destKey, LogValues.brief(sourceKeys));
+            }
+        } catch (Exception e) {
+            log.error("合并 HyperLogLog 失败 destKey={}, sourceKeys={}", destKey, LogValues.brief(sourceKeys), e);
+            throw e;
+        }
+    }
+
+    /**
+     * 执行 PFCOUNT，多个键时返回并集的估计数量
+     *
+     * @param keys HyperLogLog 的键名
+     * @return 不重复元素的估计数量
+     */
+    private long pfCount(String... keys) {
+        byte[][] rawKeys = rawKeys(keys);
+        Long result = stringRedisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.hyperLogLogCommands().pfCount(rawKeys));
+        return Objects.isNull(result) ? 0L : result;
+    }
+
+    /**
+     * 序列化键
+     *
+     * @param key 键
+     * @return 键的字节
+     */
+    private byte[] rawKey(String key) {
+        return Objects.requireNonNull(stringRedisTemplate.getStringSerializer().serialize(key));
+    }
+
+    /**
+     * 序列化多个键
+     *
+     * @param keys 键
+     * @return 键的字节
+     */
+    private byte[][] rawKeys(String... keys) {
+        byte[][] rawKeys = new byte[keys.length][];
+        for (int i = 0; i < keys.length; i++) {
+            rawKeys[i] = rawKey(keys[i]);
+        }
+        return rawKeys;
+    }
 }
@@ -1,6 +1,7 @@
 package com.exercise.redisdemo01.core.provider.impl;
 
 import com.exercise.redisdemo01.core.provider.ListCacheProvider;
+import com.exercise.redisdemo01.core.util.LogValues;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -36,9 +37,11 @@ public class ListCacheRedisProvider implements ListCacheProvider {
     public void leftPush(String key, String value) {
         try {
             redisTemplate.opsForList().leftPush(key, value);
-            log.debug("左侧添加元素缓存 key={}, value={}", key, value);
+            if (log.isDebugEnabled()) {
+                log.debug("左侧添加元素缓存 key={}, value={}", key, LogValues.brief(value));
+            }
         } catch (Exception e) {
-            log.error("左侧添加元素缓存失败 key={}, value={}", key, value, e);
+            log.error("左侧添加元素缓存失败 key={}, value={}", key, LogValues.brief(value), e);
             throw e;
         }
     }
@@ -53,9 +56,11 @@ public class ListCacheRedisProvider implements ListCacheProvider {
     public void rightPush(String key, String value) {
         try {
             redisTemplate.opsForList().rightPush(key, value);
-            log.debug("右侧添加元素缓存 key={}, value={}", key, value);
+            if (log.isDebugEnabled()) {
+                log.debug("右侧添加元素缓存 key={}, value={}", key, LogValues.brief(value));
+            }
         } catch (Exception e) {
-            log.error("右侧添加元素缓存失败 key={}, value={}", key, value, e);
+            log.error("右侧添加元素缓存失败 key={}, value={}", key, LogValues.brief(value), e);
             throw e;
         }
     }
@@ -70,7 +75,9 @@ public class ListCacheRedisProvider implements ListCacheProvider {
     public String leftPop(String key) {
         try {
             String value = redisTemplate.opsForList().leftPop(key);
-            log.debug("左侧弹出元素缓存 key={}, value={}", key, value);
+            if (log.isDebugEnabled()) {
+                log.debug("左侧弹出元素缓存 key={}, value={}", key, LogValues.brief(value));
+            }
             return value;
         } catch (Exception e) {
             log.error("左侧弹出元素缓存失败 key={}", key, e);
@@ -88,7 +95,9 @@ public class ListCacheRedisProvider implements ListCacheProvider {
     public String rightPop(String key) {
         try {
             String value = redisTemplate.opsForList().rightPop(key);
-            log.debug("右侧弹出元素缓存 key={}, value={}", key, value);
+            if (log.isDebugEnabled()) {
+                log.debug("右侧弹出元素缓存 key={}, value={}", key, LogValues.brief(value));
+            }
             return value;
         } catch (Exception e) {
             log.error("右侧弹出元素缓存失败 key={}", key, e);
@@ -146,7 +155,9 @@ public class ListCacheRedisProvider implements ListCacheProvider {
      */
     private static void checkSizeAndDebug(String key, List<String> stringList) {
         if (stringList.size() < 20) {
-            log.debug("获取缓存 key={}, value={}", key, stringList);
+            if (log.isDebugEnabled()) {
+                log.debug("获取缓存 key={}, value={}", key, LogValues.brief(stringList));
+            }
         }
     }
 
@@ -161,7 +172,9 @@ public class ListCacheRedisProvider implements ListCacheProvider {
     public String getIndex(String key, long index) {
         try {
             String value = redisTemplate.opsForList().index(key, index);
-            log.debug("获取缓存 key={}, index={}, value={}", key, index, value);
+            if (log.isDebugEnabled()) {
+                log.debug("获取缓存 key={}, index={}, value={}", key, index, LogValues.brief(value));
+            }
             return Objects.isNull(value) ? "" : value;
         } catch (Exception e) {
             log.error("获取索引元素缓存失败 key={}, index={}", key, index, e);
@@ -179,7 +192,9 @@ public class ListCacheRedisProvider implements ListCacheProvider {
     public Long getLength(String key) {
         try {
             Long size = redisTemplate.opsForList().size(key);
-            log.debug("获取缓存 key={}, size={}", key, size);
+            if (log.isDebugEnabled()) {
+                log.debug("获取缓存 key={}, size={}", key, size);
+            }
             return Objects.isNull(size) ? 0L : size;
         } catch (Exception e) {
             log.error("获取列表长度缓存失败 key={}", key, e);
@@ -0,0 +1,266 @@
+package com.exercise.redisdemo01.core.provider.impl;
+
+import cn.hutool.cache.impl.LRUCache;
+import com.exercise.redisdemo01.core.config.LocalBitMapConfig;
+import com.exercise.redisdemo01.core.provider.LocalBitMapProvider;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.BitSetUtil;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.ParallelAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * 基于 GET 原始字节 + 本地 Roaring 位图实现的位图物化提供者
+ * <p>
+ * Redis 位图的偏移量0对应第一个字节的最高位，转换时先按字节翻转位序，再按小端拼装成 long 数组交给
+ * {@link BitSetUtil#bitmapOf(long[])} 生成 Roaring 位图；多个键的转换与并集、异或运算使用公共 ForkJoin 线程池并行执行。
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalBitMapRedisProvider implements LocalBitMapProvider {
+
+    /**
+     * 每个字节位序翻转后的值，下标为无符号字节
+     */
+    private static final long[] REVERSED_BYTES = new long[256];
+
+    static {
+        for (int i = 0; i < REVERSED_BYTES.length; i++) {
+            REVERSED_BYTES[i] = Integer.reverse(i) >>> 24;
+        }
+    }
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final LocalBitMapConfig localBitMapConfig;
+
+    /**
+     * 本地位图缓存
+     */
+    private LRUCache<CacheKey, RoaringBitmap> bitmapCache;
+
+    /**
+     * 本地缓存的键
+     *
+     * @param key     位图的键
+     * @param version 版本号
+     */
+    private record CacheKey(String key, long version) {
+    }
+
+    /**
+     * 初始化本地位图缓存
+     */
+    @PostConstruct
+    public void init() {
+        bitmapCache = new LRUCache<>(localBitMapConfig.getMaxSize(), localBitMapConfig.getExpire());
+        log.info("本地位图缓存初始化成功 maxSize={}, expire={}ms", localBitMapConfig.getMaxSize(), localBitMapConfig.getExpire());
+    }
+
+    /**
+     * 物化一个位图，命中本地缓存时不访问Redis
+     *
+     * @param key     位图的键
+     * @param version 版本号
+     * @return 位图，键不存在时为空位图
+     */
+    @Override
+    public RoaringBitmap materialize(String key, long version) {
+        return materialize(version, key).get(0);
+    }
+
+    /**
+     * 批量物化位图，未命中本地缓存的键通过一次 MGET 读取，并行转换
+     *
+     * @param version 版本号
+     * @param keys    位图的键
+     * @return 与键一一对应的位图
+     */
+    @Override
+    public List<RoaringBitmap> materialize(long version, String... keys) {
+        RoaringBitmap[] bitmaps = new RoaringBitmap[keys.length];
+        List<Integer> missing = new ArrayList<>();
+        for (int i = 0; i < keys.length; i++) {
+            // 不刷新访问时间，保证存活时间从物化开始计算
+            bitmaps[i] = bitmapCache.get(new CacheKey(keys[i], version), false);
+            if (bitmaps[i] == null) {
+                missing.add(i);
+            }
+        }
+        if (missing.isEmpty()) {
+            return Arrays.asList(bitmaps);
+        }
+        List<byte[]> values = fetch(missing.stream().map(i -> keys[i]).toList());
+        IntStream.range(0, missing.size()).parallel().forEach(i -> {
+            int index = missing.get(i);
+            RoaringBitmap bitmap = toBitmap(values.get(i));
+            bitmapCache.put(new CacheKey(keys[index], version), bitmap);
+            bitmaps[index] = bitmap;
+        });
+        if (log.isDebugEnabled()) {
+            log.debug("物化位图成功 version={}, keys={}, loaded={}", version, keys.length, missing.size());
+        }
+        return Arrays.asList(bitmaps);
+    }
+
+    /**
+     * 对多个位图求交集
+     *
+     * @param version 版本号
+     * @param keys    位图的键
+     * @return 新的位图
+     */
+    @Override
+    public RoaringBitmap and(long version, String... keys) {
+        return FastAggregation.and(materializeArray(version, keys));
+    }
+
+    /**
+     * 对多个位图求并集，按容器分组并行计算
+     *
+     * @param version 版本号
+     * @param keys    位图的键
+     * @return 新的位图
+     */
+    @Override
+    public RoaringBitmap or(long version, String... keys) {
+        return ParallelAggregation.or(materializeArray(version, keys));
+    }
+
+    /**
+     * 对多个位图求异或，按容器分组并行计算
+     *
+     * @param version 版本号
+     * @param keys    位图的键
+     * @return 新的位图
+     */
+    @Override
+    public RoaringBitmap xor(long version, String... keys) {
+        return ParallelAggregation.xor(materializeArray(version, keys));
+    }
+
+    /**
+     * 统计位图中被设置为1的位数
+     *
+     * @param key     位图的键
+     * @param version 版本号
+     * @return 被设置为1的位数
+     */
+    @Override
+    public long cardinality(String key, long version) {
+        return materialize(key, version).getLongCardinality();
+    }
+
+    /**
+     * 统计多个位图交集中被设置为1的位数
+     *
+     * @param version 版本号
+     * @param keys    位图的键
+     * @return 交集的位数
+     */
+    @Override
+    public long andCardinality(long version, String... keys) {
+        return FastAggregation.andCardinality(materializeArray(version, keys));
+    }
+
+    /**
+     * 统计多个位图并集中被设置为1的位数
+     *
+     * @param version 版本号
+     * @param keys    位图的键
+     * @return 并集的位数
+     */
+    @Override
+    public long orCardinality(long version, String... keys) {
+        return FastAggregation.orCardinality(materializeArray(version, keys));
+    }
+
+    /**
+     * 移除指定版本的本地位图
+     *
+     * @param key     位图的键
+     * @param version 版本号
+     */
+    @Override
+    public void evict(String key, long version) {
+        bitmapCache.remove(new CacheKey(key, version));
+    }
+
+    /**
+     * 获取当前本地缓存的位图数量
+     *
+     * @return 本地位图数量
+     */
+    @Override
+    public int localSize() {
+        return bitmapCache.size();
+    }
+
+    /**
+     * 批量物化位图并转为数组，供 Roaring 的聚合方法使用
+     *
+     * @param version 版本号
+     * @param keys    位图的键
+     * @return 位图数组
+     */
+    private RoaringBitmap[] materializeArray(long version, String... keys) {
+        return materialize(version, keys).toArray(new RoaringBitmap[0]);
+    }
+
+    /**
+     * 通过一次 MGET 读取多个位图的原始字节
+     *
+     * @param keys 位图的键
+     * @return 与键一一对应的原始字节，键不存在时为null
+     */
+    private List<byte[]> fetch(List<String> keys) {
+        try {
+            byte[][] rawKeys = keys.stream()
+                    .map(key -> Objects.requireNonNull(stringRedisTemplate.getStringSerializer().serialize(key)))
+                    .toArray(byte[][]::new);
+            List<byte[]> values = stringRedisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                    connection.stringCommands().mGet(rawKeys));
+            return Objects.requireNonNull(values);
+        } catch (Exception e) {
+            log.error("读取位图原始字节失败 keys={}", keys, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 将 Redis 位图的原始字节转换为 Roaring 位图
+     *
+     * @param bytes 原始字节，null表示键不存在
+     * @return Roaring 位图
+     */
+    private static RoaringBitmap toBitmap(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return new RoaringBitmap();
+        }
+        long[] words = new long[(bytes.length + 7) >>> 3];
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] != 0) {
+                words[i >>> 3] |= REVERSED_BYTES[bytes[i] & 0xFF] << ((i & 7) << 3);
+            }
+        }
+        RoaringBitmap bitmap = BitSetUtil.bitmapOf(words);
+        bitmap.runOptimize();
+        return bitmap;
+    }
+}
@@ -1,18 +1,32 @@
 package com.exercise.redisdemo01.core.provider.impl;
 
+import com.exercise.redisdemo01.core.config.LockConfig;
 import com.exercise.redisdemo01.core.provider.LockProvider;
+import com.exercise.redisdemo01.core.util.LogValues;
+import com.exercise.redisdemo01.core.util.RedisScriptRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Phaser;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Redis分布式锁提供者实现类
  * 
  * 基于Redis的SETNX命令实现分布式锁机制，提供获取锁和释放锁的功能。
  * 锁的过期时间可配置，防止死锁情况发生。
+ * 释放锁时通过发布/订阅广播通知，等待中的请求收到通知后立即重试，无需轮询。
  * 
  * @author 王玉涛
  * @version 1.0
@@ -21,12 +35,29 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class LockRedisProvider implements LockProvider {
+public class LockRedisProvider implements LockProvider, MessageListener {
     
     /**
      * Redis操作模板类，用于执行Redis命令
      */
     private final StringRedisTemplate redisTemplate;
+
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final LockConfig lockConfig;
+
+    /**
+     * 本节点正在等待的锁，key为锁的键名
+     */
+    private final ConcurrentHashMap<String, LockWaiters> waiters = new ConcurrentHashMap<>();
+
+    /**
+     * 订阅锁释放通知频道
+     */
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(lockConfig.getReleaseChannel()));
+    }
     
     /**
      * 尝试获取分布式锁
@@ -42,29 +73,160 @@ public class LockRedisProvider implements LockProvider {
     @Override
     public boolean tryLock(String key, String value, long expire) {
         try {
-            log.debug("尝试获取锁: key={}, value={}, expire={}s", key, value, expire);
+            if (log.isDebugEnabled()) {
+                log.debug("尝试获取锁: key={}, value={}, expire={}s", key, LogValues.brief(value), expire);
+            }
             // 使用SETNX命令尝试设置键值对，如果key不存在则设置成功返回true
             Boolean tryLock = redisTemplate.opsForValue().setIfAbsent(key, value, expire, TimeUnit.SECONDS);
 
             // 判断是否成功获取锁
             boolean isLocked = Boolean.TRUE.equals(tryLock);
             if (isLocked) {
-                log.debug("获取锁成功: key={}, value={}, expire={}s", key, value, expire);
+                if (log.isDebugEnabled()) {
+                    log.debug("获取锁成功: key={}, value={}, expire={}s", key, LogValues.brief(value), expire);
+                }
             } else {
-                log.debug("获取锁失败: key={}, value={}, expire={}s", key, value, expire);
+                if (log.isDebugEnabled()) {
+                    log.debug("获取锁失败: key={}, value={}, expire={}s", key, LogValues.brief(value), expire);
+                }
             }
             return isLocked;
         } catch (Exception e) {
-            log.error("获取锁失败: key={}, value={}, expire={}s", key, value, expire, e);
+            log.error("获取锁失败: key={}, value={}, expire={}s", key, LogValues.brief(value), expire, e);
             return false;
         }
     }
     
+    /**
+     * 尝试获取分布式锁，锁被占用时等待释放通知
+     * 
+     * 每次尝试由脚本返回锁的剩余存活时间，等待方挂起到收到释放通知或锁到期为止，
+     * 不会在锁被占用期间反复请求Redis。
+     * 
+     * @param key 锁的键名，用于唯一标识一把锁
+     * @param value 锁的值，通常为请求标识，用于验证锁的拥有者
+     * @param expire 锁的过期时间（秒），防止死锁
+     * @param waitTime 最大等待时间（毫秒）
+     * @return true-获取锁成功，false-等待超时或获取锁失败
+     */
+    @Override
+    public boolean tryLock(String key, String value, long expire, long waitTime) {
+        return awaitLock(key, value, expire, waitTime, false);
+    }
+
+    /**
+     * 尝试获取公平分布式锁
+     * 
+     * 等待方按到达顺序进入以锁的键名为前缀的等待队列，锁空闲时只有队首可以获取；
+     * 放弃或宕机的等待方在排队截止时间后被移出队列，不会阻塞后续等待方。
+     * 
+     * @param key 锁的键名，用于唯一标识一把锁
+     * @param value 锁的值，同时作为排队标识，每个等待方必须唯一
+     * @param expire 锁的过期时间（秒），防止死锁
+     * @param waitTime 最大等待时间（毫秒）
+     * @return true-获取锁成功，false-等待超时或获取锁失败
+     */
+    @Override
+    public boolean tryFairLock(String key, String value, long expire, long waitTime) {
+        return awaitLock(key, value, expire, waitTime, true);
+    }
+
+    /**
+     * 等待获取锁
+     * 在发起尝试之前记录通知阶段，尝试失败后只等待该阶段之后的通知，避免错过尝试期间的释放
+     */
+    private boolean awaitLock(String key, String value, long expire, long waitTime, boolean fair) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTime);
+        LockWaiters lockWaiters = waiters.compute(key, (k, existing) -> {
+            LockWaiters current = existing == null ? new LockWaiters() : existing;
+            current.count++;
+            return current;
+        });
+        try {
+            while (true) {
+                int phase = lockWaiters.released.getPhase();
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                Long waitHint = fair
+                        ? redisTemplate.execute(RedisScriptRegistry.LOCK_FAIR_ACQUIRE, fairKeys(key), value,
+                                String.valueOf(expire), String.valueOf(Math.max(remaining, 0) + lockConfig.getFairQueueGrace()))
+                        : redisTemplate.execute(RedisScriptRegistry.LOCK_ACQUIRE, List.of(key), value, String.valueOf(expire));
+                if (Long.valueOf(0L).equals(waitHint)) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("获取锁成功: key={}, value={}, expire={}s, fair={}", key, LogValues.brief(value), expire, fair);
+                    }
+                    return true;
+                }
+                remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("等待锁超时: key={}, value={}, waitTime={}ms, fair={}", key, LogValues.brief(value), waitTime, fair);
+                    }
+                    cancelFairWait(key, value, fair);
+                    return false;
+                }
+                long waitMillis = waitHint != null && waitHint > 0 ? Math.min(waitHint, remaining) : remaining;
+                try {
+                    lockWaiters.released.awaitAdvanceInterruptibly(phase, waitMillis, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException ignored) {
+                    // 锁到期或等待时间用完，回到循环开头重试
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("等待锁被中断: key={}, value={}", key, LogValues.brief(value));
+            cancelFairWait(key, value, fair);
+            return false;
+        } catch (Exception e) {
+            log.error("等待锁失败: key={}, value={}, expire={}s, waitTime={}ms", key, LogValues.brief(value), expire, waitTime, e);
+            cancelFairWait(key, value, fair);
+            return false;
+        } finally {
+            waiters.computeIfPresent(key, (k, current) -> --current.count == 0 ? null : current);
+        }
+    }
+
+    /**
+     * 公平锁等待失败时退出队列，让后续等待方不必等到排队截止时间
+     */
+    private void cancelFairWait(String key, String value, boolean fair) {
+        if (!fair) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RedisScriptRegistry.LOCK_FAIR_CANCEL, fairKeys(key), value, lockConfig.getReleaseChannel());
+        } catch (Exception e) {
+            log.warn("退出公平锁队列失败，将在排队截止时间后自动移除: key={}, value={}", key, LogValues.brief(value), e);
+        }
+    }
+
+    /**
+     * 公平锁使用的键：锁、等待队列、排队截止时间
+     * 集群模式下锁的键名需要带 hash tag，保证三个键位于同一槽位
+     */
+    private static List<String> fairKeys(String key) {
+        return List.of(key, key + ":fair:queue", key + ":fair:timeout");
+    }
+
+    /**
+     * 接收锁释放通知，唤醒本节点上等待该锁的请求
+     *
+     * @param message 释放通知，消息体为锁的键名
+     * @param pattern 订阅的频道
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String key = new String(message.getBody(), StandardCharsets.UTF_8);
+        LockWaiters lockWaiters = waiters.get(key);
+        if (lockWaiters != null) {
+            lockWaiters.released.arrive();
+        }
+    }
+
     /**
      * 释放分布式锁
      * 
-     * 在释放锁之前会验证当前锁的值是否与请求标识一致，
-     * 防止误释放其他请求持有的锁。
+     * 通过 Lua 脚本在服务端比较锁的值与请求标识，一致时才删除，
+     * 校验与删除在一次往返内原子完成，不会误释放其他请求在间隙中获取的锁。
      * 
      * @param key 锁的键名
      * @param value 锁的值，用于验证锁的拥有者
@@ -73,21 +235,58 @@ public class LockRedisProvider implements LockProvider {
     @Override
     public boolean releaseLock(String key, String value) {
         try {
-            log.debug("尝试释放锁: key={}, value={}", key, value);
-            // 获取当前锁的值
-            String currentValue = redisTemplate.opsForValue().get(key);
-            // 验证请求标识与锁的值是否一致
-            if (value.equals(currentValue)) {
-                log.debug("释放锁成功: key={}, value={}", key, value);
-                // 删除键以释放锁
-                redisTemplate.delete(key);
-                return true;
+            if (log.isDebugEnabled()) {
+                log.debug("尝试释放锁: key={}, value={}", key, LogValues.brief(value));
+            }
+            Long released = redisTemplate.execute(RedisScriptRegistry.LOCK_RELEASE, List.of(key), value, lockConfig.getReleaseChannel());
+            boolean isReleased = Long.valueOf(1L).equals(released);
+            if (log.isDebugEnabled()) {
+                log.debug("释放锁{}: key={}, value={}", isReleased ? "成功" : "失败", key, LogValues.brief(value));
             }
-            log.debug("释放锁失败: key={}, value={}", key, value);
+            return isReleased;
+        } catch (Exception e) {
+            log.error("释放锁失败: key={}, value={}", key, LogValues.brief(value), e);
             return false;
+        }
+    }
+
+    /**
+     * 续期分布式锁
+     * 
+     * 与释放锁相同，通过 Lua 脚本校验拥有者后设置新的过期时间，
+     * 适用于业务执行时间可能超过初始过期时间的场景。
+     * 
+     * @param key 锁的键名
+     * @param value 锁的值，用于验证锁的拥有者
+     * @param expire 新的过期时间（秒），从续期时刻开始计算
+     * @return true-续期成功，false-锁已过期或被其他请求持有
+     */
+    @Override
+    public boolean renewLock(String key, String value, long expire) {
+        try {
+            Long renewed = redisTemplate.execute(RedisScriptRegistry.LOCK_RENEW, List.of(key), value, String.valueOf(expire));
+            boolean isRenewed = Long.valueOf(1L).equals(renewed);
+            if (log.isDebugEnabled()) {
+                log.debug("续期锁{}: key={}, value={}, expire={}s", isRenewed ? "成功" : "失败", key, LogValues.brief(value), expire);
+            }
+            return isRenewed;
         } catch (Exception e) {
-            log.error("释放锁失败: key={}, value={}", key, value, e);
+            log.error("续期锁失败: key={}, value={}, expire={}s", key, LogValues.brief(value), expire, e);
             return false;
         }
     }
+
+    /**
+     * 同一把锁在本节点上的等待方
+     * 每收到一次释放通知，released 前进一个阶段，所有等待方被唤醒
+     */
+    private static final class LockWaiters {
+
+        private final Phaser released = new Phaser(1);
+
+        /**
+         * 等待方数量，只在 ConcurrentHashMap.compute 中修改
+         */
+        private int count;
+    }
 }
@@ -0,0 +1,254 @@
+package com.exercise.redisdemo01.core.provider.impl;
+
+import cn.hutool.cache.impl.LRUCache;
+import com.exercise.redisdemo01.core.config.NearCacheConfig;
+import com.exercise.redisdemo01.core.provider.HashCacheProvider;
+import com.exercise.redisdemo01.core.provider.NearCacheProvider;
+import com.exercise.redisdemo01.core.provider.StringCacheProvider;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 基于本地LRU缓存 + Redis 实现的近端缓存提供者
+ * <p>
+ * 本地缓存同时受最大条目数和存活时间约束；写操作先清理本节点副本，再通过 Redis 发布/订阅广播失效通知，
+ * 其他节点收到通知后删除本地副本，存活时间兜底通知丢失的情况。
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NearCacheRedisProvider implements NearCacheProvider, MessageListener {
+
+    /**
+     * 失效通知中节点标识与key的分隔符
+     */
+    private static final char MESSAGE_SEPARATOR = '|';
+
+    private final StringCacheProvider stringCacheProvider;
+
+    private final HashCacheProvider hashCacheProvider;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final NearCacheConfig nearCacheConfig;
+
+    /**
+     * 当前节点标识，作为失效通知的前缀，用于忽略自身发出的通知
+     */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * 失效序号，每收到一次失效通知自增一次
+     * 回源前记录序号，回源后序号未变才写入本地缓存，避免回源期间的失效通知被旧值覆盖
+     */
+    private final AtomicLong invalidateSequence = new AtomicLong();
+
+    /**
+     * String 类型的本地缓存
+     */
+    private LRUCache<String, String> stringCache;
+
+    /**
+     * Hash 类型的本地缓存，按哈希表的键整体失效
+     */
+    private LRUCache<String, Map<String, String>> hashCache;
+
+    /**
+     * 初始化本地缓存，并订阅失效通知频道
+     */
+    @PostConstruct
+    public void init() {
+        stringCache = new LRUCache<>(nearCacheConfig.getMaxSize(), nearCacheConfig.getExpire());
+        hashCache = new LRUCache<>(nearCacheConfig.getMaxSize(), nearCacheConfig.getExpire());
+        listenerContainer.addMessageListener(this, new ChannelTopic(nearCacheConfig.getChannel()));
+        log.info("近端缓存初始化成功 maxSize={}, expire={}ms, channel={}",
+                nearCacheConfig.getMaxSize(), nearCacheConfig.getExpire(), nearCacheConfig.getChannel());
+    }
+
+    /**
+     * 获取缓存，优先读取本地缓存，未命中时回源Redis并写入本地缓存
+     *
+     * @param key 缓存key
+     * @return 缓存value，如果不存在则返回空字符串
+     */
+    @Override
+    public String getString(String key) {
+        // 不刷新访问时间，保证存活时间从写入开始计算
+        String value = stringCache.get(key, false);
+        if (value != null) {
+            return value;
+        }
+        long sequence = invalidateSequence.get();
+        value = stringCacheProvider.getString(key);
+        if (sequence == invalidateSequence.get()) {
+            stringCache.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * 设置缓存，写入Redis后失效所有节点的本地副本
+     *
+     * @param key   缓存key
+     * @param value 缓存value
+     */
+    @Override
+    public void setString(String key, String value) {
+        stringCacheProvider.setString(key, value);
+        invalidate(key);
+    }
+
+    /**
+     * 带过期时间的设置缓存, 默认为秒，写入Redis后失效所有节点的本地副本
+     *
+     * @param key    缓存key
+     * @param value  缓存value
+     * @param expire 过期时间
+     */
+    @Override
+    public void setString(String key, String value, long expire) {
+        stringCacheProvider.setString(key, value, expire);
+        invalidate(key);
+    }
+
+    /**
+     * 删除缓存，同时失效所有节点的本地副本
+     *
+     * @param key 缓存key
+     */
+    @Override
+    public void delete(String key) {
+        stringCacheProvider.delete(key);
+        invalidate(key);
+    }
+
+    /**
+     * 获取哈希表中指定字段的值，优先读取本地缓存
+     *
+     * @param key   哈希表的键
+     * @param field 字段名
+     * @return 字段值，如果不存在则返回空字符串
+     */
+    @Override
+    public String hashGet(String key, String field) {
+        Map<String, String> fields = hashCache.get(key, false);
+        if (fields != null) {
+            String value = fields.get(field);
+            if (value != null) {
+                return value;
+            }
+        }
+        long sequence = invalidateSequence.get();
+        String value = hashCacheProvider.get(key, field);
+        if (sequence == invalidateSequence.get()) {
+            if (fields == null) {
+                fields = new ConcurrentHashMap<>();
+                hashCache.put(key, fields);
+            }
+            fields.put(field, value);
+        }
+        return value;
+    }
+
+    /**
+     * 设置哈希表中指定字段的值，写入Redis后失效所有节点中该哈希表的本地副本
+     *
+     * @param key   哈希表的键
+     * @param field 字段名
+     * @param value 字段值
+     */
+    @Override
+    public void hashSet(String key, String field, String value) {
+        hashCacheProvider.set(key, field, value);
+        invalidate(key);
+    }
+
+    /**
+     * 删除哈希表中一个或多个字段，同时失效所有节点中该哈希表的本地副本
+     *
+     * @param key    哈希表的键
+     * @param fields 要删除的字段名数组
+     * @return 被成功删除的字段数量
+     */
+    @Override
+    public Long hashDel(String key, String... fields) {
+        Long deleted = hashCacheProvider.del(key, fields);
+        invalidate(key);
+        return deleted;
+    }
+
+    /**
+     * 失效指定key在所有节点上的本地副本
+     * 先清理本地，再广播通知，保证本节点的后续读取立即可见
+     *
+     * @param key 缓存key或哈希表的键
+     */
+    @Override
+    public void invalidate(String key) {
+        evictLocal(key);
+        try {
+            redisTemplate.convertAndSend(nearCacheConfig.getChannel(), nodeId + MESSAGE_SEPARATOR + key);
+        } catch (Exception e) {
+            log.error("发送近端缓存失效通知失败 key={}", key, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 获取当前节点本地缓存的条目数量（String条目与Hash键之和）
+     *
+     * @return 本地缓存条目数量
+     */
+    @Override
+    public int localSize() {
+        return stringCache.size() + hashCache.size();
+    }
+
+    /**
+     * 接收失效通知，删除本地副本
+     *
+     * @param message 失效通知，消息体格式为 节点标识|key
+     * @param pattern 订阅的频道
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separatorIndex = body.indexOf(MESSAGE_SEPARATOR);
+        if (separatorIndex < 0 || nodeId.equals(body.substring(0, separatorIndex))) {
+            return;
+        }
+        String key = body.substring(separatorIndex + 1);
+        evictLocal(key);
+        log.debug("收到近端缓存失效通知 key={}", key);
+    }
+
+    /**
+     * 删除本地副本并推进失效序号
+     *
+     * @param key 缓存key或哈希表的键
+     */
+    private void evictLocal(String key) {
+        invalidateSequence.incrementAndGet();
+        stringCache.remove(key);
+        hashCache.remove(key);
+    }
+}
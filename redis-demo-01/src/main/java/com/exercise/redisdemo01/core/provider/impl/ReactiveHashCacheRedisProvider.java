@@ -0,0 +1,153 @@
+package com.exercise.redisdemo01.core.provider.impl;
+
+import com.exercise.redisdemo01.core.provider.ReactiveHashCacheProvider;
+import com.exercise.redisdemo01.core.util.LogValues;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveHashOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 基于 Lettuce 响应式连接实现的哈希缓存提供者
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactiveHashCacheRedisProvider implements ReactiveHashCacheProvider {
+
+    /**
+     * 响应式Redis模板
+     */
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+
+    /**
+     * 设置哈希表中指定字段的值
+     *
+     * @param key   哈希表的键
+     * @param field 字段名
+     * @param value 字段值
+     * @return 如果是新增字段返回true，覆盖已有字段返回false
+     */
+    @Override
+    public Mono<Boolean> set(String key, String field, String value) {
+        return hashOps().put(key, field, value)
+                .doOnError(e -> log.error("响应式设置哈希字段失败 key={}, field={}, value={}",
+                        key, field, LogValues.brief(value), e));
+    }
+
+    /**
+     * 批量设置哈希表中的多个字段
+     *
+     * @param key 哈希表的键
+     * @param map 包含字段和值的映射
+     * @return 写入完成的信号
+     */
+    @Override
+    public Mono<Boolean> set(String key, Map<String, String> map) {
+        return hashOps().putAll(key, map)
+                .doOnError(e -> log.error("响应式批量设置哈希字段失败 key={}, map={}", key, LogValues.brief(map), e));
+    }
+
+    /**
+     * 获取哈希表中指定字段的值
+     *
+     * @param key   哈希表的键
+     * @param field 字段名
+     * @return 字段值，如果不存在则返回空字符串
+     */
+    @Override
+    public Mono<String> get(String key, String field) {
+        return hashOps().get(key, field)
+                .defaultIfEmpty("")
+                .doOnError(e -> log.error("响应式获取哈希字段失败 key={}, field={}", key, field, e));
+    }
+
+    /**
+     * 批量获取哈希表中多个字段的值
+     *
+     * @param key    哈希表的键
+     * @param fields 字段名数组
+     * @return 字段值列表，与字段顺序一致，不存在的字段对应空字符串
+     */
+    @Override
+    public Mono<List<String>> get(String key, String... fields) {
+        return hashOps().multiGet(key, Arrays.asList(fields))
+                .map(values -> values.stream().map(value -> Objects.isNull(value) ? "" : value).toList())
+                .doOnError(e -> log.error("响应式批量获取哈希字段失败 key={}, fields={}", key, LogValues.brief(fields), e));
+    }
+
+    /**
+     * 删除哈希表中一个或多个字段
+     *
+     * @param key    哈希表的键
+     * @param fields 要删除的字段名数组
+     * @return 被成功删除的字段数量
+     */
+    @Override
+    public Mono<Long> del(String key, String... fields) {
+        return hashOps().remove(key, (Object[]) fields)
+                .doOnError(e -> log.error("响应式删除哈希字段失败 key={}, fields={}", key, LogValues.brief(fields), e));
+    }
+
+    /**
+     * 将哈希表中指定字段的值增加指定整数
+     *
+     * @param key   哈希表的键
+     * @param field 字段名
+     * @param delta 增加的数值
+     * @return 增加后的值
+     */
+    @Override
+    public Mono<Long> incrBy(String key, String field, long delta) {
+        return hashOps().increment(key, field, delta)
+                .doOnError(e -> log.error("响应式哈希字段自增失败 key={}, field={}, delta={}", key, field, delta, e));
+    }
+
+    /**
+     * 通过 HSCAN 逐条推送哈希表中的字段和值，下游按需拉取，不会一次性加载整个哈希表
+     *
+     * @param key 哈希表的键
+     * @return 字段和值的流
+     */
+    @Override
+    public Flux<Map.Entry<String, String>> scanAll(String key) {
+        return hashOps().scan(key)
+                .doOnError(e -> log.error("响应式扫描哈希表失败 key={}", key, e));
+    }
+
+    /**
+     * 通过 HSCAN 逐条推送哈希表中匹配的字段和值，下游请求更多数据时才发起下一批扫描
+     *
+     * @param key     哈希表的键
+     * @param pattern 字段名匹配模式（HSCAN MATCH），为空表示不过滤
+     * @param count   每批扫描的数量提示（HSCAN COUNT）
+     * @return 字段和值的流
+     */
+    @Override
+    public Flux<Map.Entry<String, String>> scanAll(String key, String pattern, int count) {
+        ScanOptions.ScanOptionsBuilder builder = ScanOptions.scanOptions().count(count);
+        if (StringUtils.hasText(pattern)) {
+            builder.match(pattern);
+        }
+        return hashOps().scan(key, builder.build())
+                .doOnError(e -> log.error("响应式扫描哈希表失败 key={}, pattern={}, count={}", key, pattern, count, e));
+    }
+
+    private ReactiveHashOperations<String, String, String> hashOps() {
+        return reactiveRedisTemplate.opsForHash();
+    }
+}
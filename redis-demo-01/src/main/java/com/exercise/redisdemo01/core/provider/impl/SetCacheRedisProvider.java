@@ -1,13 +1,20 @@
 package com.exercise.redisdemo01.core.provider.impl;
 
 import com.exercise.redisdemo01.core.provider.SetCacheProvider;
+import com.exercise.redisdemo01.core.util.LogValues;
+import com.exercise.redisdemo01.core.util.RedisScriptRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.function.BiConsumer;
 
 /**
  * Redis Set 集合缓存操作实现类
@@ -22,6 +29,16 @@ import java.util.*;
 @RequiredArgsConstructor
 public class SetCacheRedisProvider implements SetCacheProvider {
 
+    /**
+     * 管道模式下单条 SADD/ZADD 命令携带的最大元素数量
+     */
+    private static final int PIPELINE_MEMBERS_PER_COMMAND = 1000;
+
+    /**
+     * 管道模式下每次发送的最大命令数量，避免一次管道积压过多响应
+     */
+    private static final int PIPELINE_COMMANDS_PER_FLUSH = 100;
+
     private final StringRedisTemplate redisTemplate;
 
     /**
@@ -35,9 +52,11 @@ public class SetCacheRedisProvider implements SetCacheProvider {
         try {
             String[] valuesArray = values.toArray(new String[0]);
             redisTemplate.opsForSet().add(key, valuesArray);
-            log.debug("设置缓存成功 key={}, values={}", key, values);
+            if (log.isDebugEnabled()) {
+                log.debug("设置缓存成功 key={}, values={}", key, LogValues.brief(values));
+            }
         } catch (Exception e) {
-            log.error("设置缓存失败 key={}, values={}", key, values, e);
+            log.error("设置缓存失败 key={}, values={}", key, LogValues.brief(values), e);
             throw e;
         }
     }
@@ -58,17 +77,19 @@ public class SetCacheRedisProvider implements SetCacheProvider {
             }
             for (int i = 0; i < length; i += 2) {
                 redisTemplate.opsForSet().add(keyValues[i], keyValues[i + 1]);
-                log.debug("设置缓存成功 key={}, value={}", keyValues[i], keyValues[i + 1]);
+                if (log.isDebugEnabled()) {
+                    log.debug("设置缓存成功 key={}, value={}", keyValues[i], LogValues.brief(keyValues[i + 1]));
+                }
             }
         } catch (Exception e) {
-            log.error("设置缓存失败 keyValues={}", keyValues, e);
+            log.error("设置缓存失败 keyValues={}", LogValues.brief(keyValues), e);
             throw e;
         }
     }
 
     /**
      * 原子性地批量设置多个 Set 集合的元素，使用 Lua 脚本保证操作的原子性
-     * 参数格式为 key1, value1, key2, value2, ...
+     * 参数格式为 key1, value1, key2, value2, ...，相同key的元素合并后一次发送
      *
      * @param keyValues 键值对数组，必须为偶数个
      * @throws IllegalArgumentException 当参数个数不是偶数时抛出
@@ -82,34 +103,149 @@ public class SetCacheRedisProvider implements SetCacheProvider {
                 throw new IllegalArgumentException("参数个数必须为偶数");
             }
 
-            // 拆分参数：偶数位为集合名，奇数位为值
-            List<String> keys = new ArrayList<>();
-            List<String> values = new ArrayList<>();
-            for (int i = 0; i < keyValues.length; i += 2) {
-                keys.add(keyValues[i]);
-                values.add(keyValues[i + 1]);
+            // 拆分参数：偶数位为集合名，奇数位为值，按集合名分组
+            Map<String, List<String>> members = new LinkedHashMap<>();
+            for (int i = 0; i < length; i += 2) {
+                members.computeIfAbsent(keyValues[i], key -> new ArrayList<>()).add(keyValues[i + 1]);
             }
-            Object[] valuesArray = values.toArray();
+            executeSetBatch(members);
 
-            // 构建 Lua 脚本
-            String luaScript = "for i = 1, #KEYS do " +
-                    "redis.call('SADD', KEYS[i], ARGV[i]) " +
-                    "end";
+            if (log.isDebugEnabled()) {
+                log.debug("原子性设置缓存成功 keyValues={}", LogValues.brief(keyValues));
+            }
+        } catch (Exception e) {
+            log.error("原子性设置缓存失败 keyValues={}", LogValues.brief(keyValues), e);
+            throw e;
+        }
+    }
 
-            // 执行 Lua 脚本
-            redisTemplate.execute(
-                    new DefaultRedisScript<>(luaScript, String.class),
-                    keys,
-                    valuesArray
-            );
+    /**
+     * 原子性地批量设置多个 Set 集合的元素，每个集合可以携带多个元素，一次脚本调用完成
+     *
+     * @param members 集合的键与要添加的元素
+     * @return 新增的元素总数
+     */
+    @Override
+    public Long atomicitySet(Map<String, ? extends Collection<String>> members) {
+        try {
+            Long added = executeSetBatch(members);
+            if (log.isDebugEnabled()) {
+                log.debug("原子性设置缓存成功 members={}, added={}", LogValues.brief(members), added);
+            }
+            return added;
+        } catch (Exception e) {
+            log.error("原子性设置缓存失败 members={}", LogValues.brief(members), e);
+            throw e;
+        }
+    }
 
-            log.debug("原子性设置缓存成功 keyValues={}", (Object[]) keyValues);
+    /**
+     * 通过管道批量设置多个 Set 集合的元素，参数格式为 key1, value1, key2, value2, ...
+     * 相同key的元素合并为一条 SADD，所有命令通过管道发送，不保证原子性
+     *
+     * @param keyValues 键值对数组，必须为偶数个
+     * @return 新增的元素总数
+     * @throws IllegalArgumentException 当参数个数不是偶数时抛出
+     */
+    @Override
+    public Long pipelinedSet(String... keyValues) {
+        int length = keyValues.length;
+        if (length % 2 != 0) {
+            log.error("缓存键数目必须为偶数！");
+            throw new IllegalArgumentException("参数个数必须为偶数");
+        }
+        Map<String, List<String>> members = new LinkedHashMap<>();
+        for (int i = 0; i < length; i += 2) {
+            members.computeIfAbsent(keyValues[i], key -> new ArrayList<>()).add(keyValues[i + 1]);
+        }
+        return pipelinedSet(members);
+    }
+
+    /**
+     * 通过管道批量设置多个 Set 集合的元素，每个集合的元素合并为 SADD 命令发送，不保证原子性
+     *
+     * @param members 集合的键与要添加的元素
+     * @return 新增的元素总数
+     */
+    @Override
+    public Long pipelinedSet(Map<String, ? extends Collection<String>> members) {
+        try {
+            // 每个key的元素按单条命令上限切分
+            List<Map.Entry<byte[], byte[][]>> commands = new ArrayList<>();
+            members.forEach((key, values) -> {
+                byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+                List<byte[]> chunk = new ArrayList<>(Math.min(values.size(), PIPELINE_MEMBERS_PER_COMMAND));
+                for (String value : values) {
+                    chunk.add(value.getBytes(StandardCharsets.UTF_8));
+                    if (chunk.size() == PIPELINE_MEMBERS_PER_COMMAND) {
+                        commands.add(Map.entry(rawKey, chunk.toArray(new byte[0][])));
+                        chunk.clear();
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    commands.add(Map.entry(rawKey, chunk.toArray(new byte[0][])));
+                }
+            });
+            long added = executePipelined(commands,
+                    (connection, command) -> connection.setCommands().sAdd(command.getKey(), command.getValue()));
+            if (log.isDebugEnabled()) {
+                log.debug("管道批量设置缓存成功 keys={}, commands={}, added={}", members.size(), commands.size(), added);
+            }
+            return added;
         } catch (Exception e) {
-            log.error("原子性设置缓存失败 keyValues={}", keyValues, e);
+            log.error("管道批量设置缓存失败 keys={}", LogValues.brief(members.keySet()), e);
             throw e;
         }
     }
 
+    /**
+     * 分批通过管道发送命令，累加每条命令返回的新增数量
+     *
+     * @param commands 待发送的命令
+     * @param writer   将单条命令写入管道连接
+     * @return 新增数量之和
+     */
+    private <T> long executePipelined(List<T> commands, BiConsumer<RedisConnection, T> writer) {
+        long added = 0;
+        int total = commands.size();
+        for (int from = 0; from < total; from += PIPELINE_COMMANDS_PER_FLUSH) {
+            List<T> batch = commands.subList(from, Math.min(from + PIPELINE_COMMANDS_PER_FLUSH, total));
+            List<Object> replies = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                batch.forEach(command -> writer.accept(connection, command));
+                return null;
+            });
+            for (Object reply : replies) {
+                if (reply instanceof Long count) {
+                    added += count;
+                }
+            }
+        }
+        return added;
+    }
+
+    /**
+     * 执行批量 SADD 脚本，ARGV 中每个key先写成员数量，再写成员
+     *
+     * @param members 集合的键与要添加的元素
+     * @return 新增的元素总数
+     */
+    private Long executeSetBatch(Map<String, ? extends Collection<String>> members) {
+        List<String> keys = new ArrayList<>(members.size());
+        List<String> args = new ArrayList<>();
+        members.forEach((key, values) -> {
+            if (values.isEmpty()) {
+                return;
+            }
+            keys.add(key);
+            args.add(String.valueOf(values.size()));
+            args.addAll(values);
+        });
+        if (keys.isEmpty()) {
+            return 0L;
+        }
+        return redisTemplate.execute(RedisScriptRegistry.SADD_BATCH, keys, args.toArray());
+    }
+
     /**
      * 获取指定 Set 集合中的所有元素
      *
@@ -120,7 +256,9 @@ public class SetCacheRedisProvider implements SetCacheProvider {
     public Set<String> queryAll(String key) {
         try {
             Set<String> values = redisTemplate.opsForSet().members(key);
-            log.debug("查询缓存成功 key={}, values={}", key, values);
+            if (log.isDebugEnabled()) {
+                log.debug("查询缓存成功 key={}, values={}", key, LogValues.brief(values));
+            }
             return values;
         } catch (Exception e) {
             log.error("查询缓存失败 key={}", key, e);
@@ -139,10 +277,12 @@ public class SetCacheRedisProvider implements SetCacheProvider {
     public boolean isExist(String key, String value) {
         try {
             Boolean exists = redisTemplate.opsForSet().isMember(key, value);
-            log.debug("查询缓存成功 key={}, value={}, exists={}", key, value, exists);
+            if (log.isDebugEnabled()) {
+                log.debug("查询缓存成功 key={}, value={}, exists={}", key, LogValues.brief(value), exists);
+            }
             return Boolean.TRUE.equals(exists);
         } catch (Exception e) {
-            log.error("查询缓存失败 key={}, value={}", key, value, e);
+            log.error("查询缓存失败 key={}, value={}", key, LogValues.brief(value), e);
             throw e;
         }
     }
@@ -157,7 +297,9 @@ public class SetCacheRedisProvider implements SetCacheProvider {
     public String randomPop(String key) {
         try {
             String value = redisTemplate.opsForSet().pop(key);
-            log.debug("随机弹出缓存成功 key={}, value={}", key, value);
+            if (log.isDebugEnabled()) {
+                log.debug("随机弹出缓存成功 key={}, value={}", key, LogValues.brief(value));
+            }
             return value;
         } catch (Exception e) {
             log.error("随机弹出缓存失败 key={}", key, e);
@@ -176,7 +318,9 @@ public class SetCacheRedisProvider implements SetCacheProvider {
     public Set<String> interSection(String key, String otherKey) {
         try {
             Set<String> intersect = redisTemplate.opsForSet().intersect(key, otherKey);
-            log.debug("集合交集成功 key={}, otherKey={}, values={}", key, otherKey, intersect);
+            if (log.isDebugEnabled()) {
+                log.debug("集合交集成功 key={}, otherKey={}, values={}", key, otherKey, LogValues.brief(intersect));
+            }
             return intersect;
         } catch (Exception e) {
             log.error("集合交集失败 key={}, otherKey={}", key, otherKey, e);
@@ -194,10 +338,12 @@ public class SetCacheRedisProvider implements SetCacheProvider {
     public Set<String> interSection(Collection<String> keys) {
         try {
             Set<String> intersect = redisTemplate.opsForSet().intersect(keys);
-            log.debug("集合交集成功 keys={}, values={}", keys, intersect);
+            if (log.isDebugEnabled()) {
+                log.debug("集合交集成功 keys={}, values={}", LogValues.brief(keys), LogValues.brief(intersect));
+            }
             return intersect;
         } catch (Exception e) {
-            log.error("集合交集失败 keys={}", keys, e);
+            log.error("集合交集失败 keys={}", LogValues.brief(keys), e);
             throw e;
         }
     }
@@ -212,10 +358,12 @@ public class SetCacheRedisProvider implements SetCacheProvider {
     public Set<String> unionSection(Collection<String> keys) {
         try {
             Set<String> union = redisTemplate.opsForSet().union(keys);
-            log.debug("集合并集成功 keys={}, values={}", keys, union);
+            if (log.isDebugEnabled()) {
+                log.debug("集合并集成功 keys={}, values={}", LogValues.brief(keys), LogValues.brief(union));
+            }
             return union;
         } catch (Exception e) {
-            log.error("集合并集失败 keys={}", keys, e);
+            log.error("集合并集失败 keys={}", LogValues.brief(keys), e);
             throw e;
         }
     }
@@ -231,7 +379,9 @@ public class SetCacheRedisProvider implements SetCacheProvider {
     public Set<String> unionSection(String key, String otherKey) {
         try {
             Set<String> union = redisTemplate.opsForSet().union(key, otherKey);
-            log.debug("集合并集成功 key={}, otherKey={}, values={}", key, otherKey, union);
+            if (log.isDebugEnabled()) {
+                log.debug("集合并集成功 key={}, otherKey={}, values={}", key, otherKey, LogValues.brief(union));
+            }
             return union;
         } catch (Exception e) {
             log.error("集合并集失败 key={}, otherKey={}", key, otherKey, e);
@@ -249,9 +399,11 @@ public class SetCacheRedisProvider implements SetCacheProvider {
     public void remove(String key, String value) {
         try {
             redisTemplate.opsForSet().remove(key, value);
-            log.debug("删除缓存成功 key={}, value={}", key, value);
+            if (log.isDebugEnabled()) {
+                log.debug("删除缓存成功 key={}, value={}", key, LogValues.brief(value));
+            }
         } catch (Exception e) {
-            log.error("删除缓存失败 key={}, value={}", key, value, e);
+            log.error("删除缓存失败 key={}, value={}", key, LogValues.brief(value), e);
             throw e;
         }
     }
@@ -269,9 +421,11 @@ public class SetCacheRedisProvider implements SetCacheProvider {
     public void zAdd(String key, String value, double score) {
         try {
             redisTemplate.opsForZSet().add(key, value, score);
-            log.debug("ZSet 添加元素成功 key={}, value={}, score={}", key, value, score);
+            if (log.isDebugEnabled()) {
+                log.debug("ZSet 添加元素成功 key={}, value={}, score={}", key, LogValues.brief(value), score);
+            }
         } catch (Exception e) {
-            log.error("ZSet 添加元素失败 key={}, value={}, score={}", key, value, score, e);
+            log.error("ZSet 添加元素失败 key={}, value={}, score={}", key, LogValues.brief(value), score, e);
             throw e;
         }
     }
@@ -292,44 +446,149 @@ public class SetCacheRedisProvider implements SetCacheProvider {
                 throw new IllegalArgumentException("参数个数必须为3的倍数");
             }
 
-            // 拆分参数：每三个参数为一组，分别是 key, value, score
-            List<String> keys = new ArrayList<>();
-            List<String> values = new ArrayList<>();
-            List<String> scores = new ArrayList<>();
-
+            // 拆分参数：每三个参数为一组，分别是 key, value, score，按 key 分组为 score, member 对
+            Map<String, List<String>> scoreMembers = new LinkedHashMap<>();
             for (int i = 0; i < length; i += 3) {
-                keys.add(keyValues[i]);
-                values.add(keyValues[i + 1]);
-                scores.add(keyValues[i + 2]);
+                List<String> pairs = scoreMembers.computeIfAbsent(keyValues[i], key -> new ArrayList<>());
+                pairs.add(keyValues[i + 2]);
+                pairs.add(keyValues[i + 1]);
             }
+            executeZSetBatch(scoreMembers);
 
-            // 构建 Lua 脚本，原子性地添加 ZSet 元素
-            String luaScript = "for i = 1, #KEYS do " +
-                    "redis.call('ZADD', KEYS[i], ARGV[i * 2 - 1], ARGV[i * 2]) " +
-                    "end";
+            if (log.isDebugEnabled()) {
+                log.debug("ZSet 原子性添加元素成功 keyValues={}", LogValues.brief(keyValues));
+            }
+        } catch (Exception e) {
+            log.error("ZSet 原子性添加元素失败 keyValues={}", LogValues.brief(keyValues), e);
+            throw e;
+        }
+    }
 
-            // 合并 values 和 scores 作为 ARGV 参数传递
-            List<String> args = new ArrayList<>();
-            for (int i = 0; i < values.size(); i++) {
-                args.add(scores.get(i));
-                args.add(values.get(i));
+    /**
+     * 原子性地批量添加有序集合元素，每个有序集合可以携带多个元素，一次脚本调用完成
+     *
+     * @param members 有序集合的键与要添加的元素及其分数
+     * @return 新增的元素总数
+     */
+    @Override
+    public Long zAtomicityAdd(Map<String, Map<String, Double>> members) {
+        try {
+            Map<String, List<String>> scoreMembers = new LinkedHashMap<>();
+            members.forEach((key, values) -> {
+                List<String> pairs = new ArrayList<>(values.size() * 2);
+                values.forEach((value, score) -> {
+                    pairs.add(formatScore(score));
+                    pairs.add(value);
+                });
+                scoreMembers.put(key, pairs);
+            });
+            Long added = executeZSetBatch(scoreMembers);
+            if (log.isDebugEnabled()) {
+                log.debug("ZSet 原子性添加元素成功 members={}, added={}", LogValues.brief(members), added);
             }
+            return added;
+        } catch (Exception e) {
+            log.error("ZSet 原子性添加元素失败 members={}", LogValues.brief(members), e);
+            throw e;
+        }
+    }
 
-            Object[] argsArray = args.toArray();
-            // 执行 Lua 脚本
-            redisTemplate.execute(
-                    new DefaultRedisScript<>(luaScript, String.class),
-                    keys,
-                    argsArray
-            );
+    /**
+     * 通过管道批量添加有序集合元素，参数格式为 key1, value1, score1, key2, value2, score2, ...
+     * 相同key的元素合并为一条 ZADD，所有命令通过管道发送，不保证原子性
+     *
+     * @param keyValues 键值对和分数数组，必须为3的倍数
+     * @return 新增的元素总数
+     * @throws IllegalArgumentException 当参数个数不是3的倍数时抛出
+     */
+    @Override
+    public Long pipelinedZAdd(String... keyValues) {
+        int length = keyValues.length;
+        if (length % 3 != 0) {
+            log.error("参数个数必须为3的倍数，格式为：key, value, score");
+            throw new IllegalArgumentException("参数个数必须为3的倍数");
+        }
+        Map<String, Map<String, Double>> members = new LinkedHashMap<>();
+        for (int i = 0; i < length; i += 3) {
+            members.computeIfAbsent(keyValues[i], key -> new LinkedHashMap<>())
+                    .put(keyValues[i + 1], Double.parseDouble(keyValues[i + 2]));
+        }
+        return pipelinedZAdd(members);
+    }
 
-            log.debug("ZSet 原子性添加元素成功 keyValues={}", (Object[]) keyValues);
+    /**
+     * 通过管道批量添加有序集合元素，适合排行榜重建等大批量写入，不保证原子性
+     *
+     * @param members 有序集合的键与要添加的元素及其分数
+     * @return 新增的元素总数
+     */
+    @Override
+    public Long pipelinedZAdd(Map<String, Map<String, Double>> members) {
+        try {
+            // 每个key的元素按单条命令上限切分
+            List<Map.Entry<byte[], Set<Tuple>>> commands = new ArrayList<>();
+            members.forEach((key, scores) -> {
+                byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+                Set<Tuple> chunk = new LinkedHashSet<>();
+                for (Map.Entry<String, Double> entry : scores.entrySet()) {
+                    chunk.add(new DefaultTuple(entry.getKey().getBytes(StandardCharsets.UTF_8), entry.getValue()));
+                    if (chunk.size() == PIPELINE_MEMBERS_PER_COMMAND) {
+                        commands.add(Map.entry(rawKey, chunk));
+                        chunk = new LinkedHashSet<>();
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    commands.add(Map.entry(rawKey, chunk));
+                }
+            });
+            long added = executePipelined(commands,
+                    (connection, command) -> connection.zSetCommands().zAdd(command.getKey(), command.getValue()));
+            if (log.isDebugEnabled()) {
+                log.debug("ZSet 管道批量添加元素成功 keys={}, commands={}, added={}", members.size(), commands.size(), added);
+            }
+            return added;
         } catch (Exception e) {
-            log.error("ZSet 原子性添加元素失败 keyValues={}", keyValues, e);
+            log.error("ZSet 管道批量添加元素失败 keys={}", LogValues.brief(members.keySet()), e);
             throw e;
         }
     }
 
+    /**
+     * 执行批量 ZADD 脚本，ARGV 中每个key先写成员数量，再写 score, member 对
+     *
+     * @param scoreMembers 有序集合的键与 score, member 交替排列的列表
+     * @return 新增的元素总数
+     */
+    private Long executeZSetBatch(Map<String, List<String>> scoreMembers) {
+        List<String> keys = new ArrayList<>(scoreMembers.size());
+        List<String> args = new ArrayList<>();
+        scoreMembers.forEach((key, pairs) -> {
+            if (pairs.isEmpty()) {
+                return;
+            }
+            keys.add(key);
+            args.add(String.valueOf(pairs.size() / 2));
+            args.addAll(pairs);
+        });
+        if (keys.isEmpty()) {
+            return 0L;
+        }
+        return redisTemplate.execute(RedisScriptRegistry.ZADD_BATCH, keys, args.toArray());
+    }
+
+    /**
+     * 将分数转换为 Redis 可以识别的格式，无穷大需要写成 +inf / -inf
+     *
+     * @param score 分数
+     * @return 分数字符串
+     */
+    private static String formatScore(double score) {
+        if (Double.isInfinite(score)) {
+            return score > 0 ? "+inf" : "-inf";
+        }
+        return String.valueOf(score);
+    }
+
     /**
      * 批量添加有序集合元素
      * 参数格式为 key1, value1, score1, key2, value2, score2, ...
@@ -351,10 +610,12 @@ public class SetCacheRedisProvider implements SetCacheProvider {
                 String value = keyValues[i + 1];
                 double score = Double.parseDouble(keyValues[i + 2]);
                 redisTemplate.opsForZSet().add(key, value, score);
-                log.debug("ZSet添加元素成功 key={}, value={}, score={}", key, value, score);
+                if (log.isDebugEnabled()) {
+                    log.debug("ZSet添加元素成功 key={}, value={}, score={}", key, LogValues.brief(value), score);
+                }
             }
         } catch (Exception e) {
-            log.error("ZSet 添加元素失败 keyValues={}", keyValues, e);
+            log.error("ZSet 添加元素失败 keyValues={}", LogValues.brief(keyValues), e);
             throw e;
         }
     }
@@ -369,9 +630,11 @@ public class SetCacheRedisProvider implements SetCacheProvider {
     public void zRemove(String key, Object... values) {
         try {
             redisTemplate.opsForZSet().remove(key, values);
-            log.debug("ZSet 删除元素成功 key={}, values={}", key, values);
+            if (log.isDebugEnabled()) {
+                log.debug("ZSet 删除元素成功 key={}, values={}", key, LogValues.brief(values));
+            }
         } catch (Exception e) {
-            log.error("ZSet 删除元素失败 key={}, values={}", key, values, e);
+            log.error("ZSet 删除元素失败 key={}, values={}", key, LogValues.brief(values), e);
             throw e;
         }
     }
@@ -388,7 +651,9 @@ public class SetCacheRedisProvider implements SetCacheProvider {
     public Set<String> zRange(String key, long start, long end) {
         try {
             Set<String> values = redisTemplate.opsForZSet().range(key, start, end);
-            log.debug("ZSet 范围查询成功 key={}, start={}, end={}, values={}", key, start, end, values);
+            if (log.isDebugEnabled()) {
+                log.debug("ZSet 范围查询成功 key={}, start={}, end={}, values={}", key, start, end, LogValues.brief(values));
+            }
             return values;
         } catch (Exception e) {
             log.error("ZSet 范围查询失败 key={}, start={}, end={}", key, start, end, e);
@@ -408,7 +673,9 @@ public class SetCacheRedisProvider implements SetCacheProvider {
     public Set<String> zRevRange(String key, long start, long end) {
         try {
             Set<String> values = redisTemplate.opsForZSet().reverseRange(key, start, end);
-            log.debug("ZSet 倒序范围查询成功 key={}, start={}, end={}, values={}", key, start, end, values);
+            if (log.isDebugEnabled()) {
+                log.debug("ZSet 倒序范围查询成功 key={}, start={}, end={}, values={}", key, start, end, LogValues.brief(values));
+            }
             return values;
         } catch (Exception e) {
             log.error("ZSet 倒序范围查询失败 key={}, start={}, end={}", key, start, end, e);
@@ -427,10 +694,12 @@ public class SetCacheRedisProvider implements SetCacheProvider {
     public Double zScore(String key, Object value) {
         try {
             Double score = redisTemplate.opsForZSet().score(key, value);
-            log.debug("ZSet 查询分数成功 key={}, value={}, score={}", key, value, score);
+            if (log.isDebugEnabled()) {
+                log.debug("ZSet 查询分数成功 key={}, value={}, score={}", key, LogValues.brief(value), score);
+            }
             return score;
         } catch (Exception e) {
-            log.error("ZSet 查询分数失败 key={}, value={}", key, value, e);
+            log.error("ZSet 查询分数失败 key={}, value={}", key, LogValues.brief(value), e);
             throw e;
         }
     }
@@ -446,10 +715,12 @@ public class SetCacheRedisProvider implements SetCacheProvider {
     public Long zRank(String key, Object value) {
         try {
             Long rank = redisTemplate.opsForZSet().rank(key, value);
-            log.debug("ZSet 查询排名成功 key={}, value={}, rank={}", key, value, rank);
+            if (log.isDebugEnabled()) {
+                log.debug("ZSet 查询排名成功 key={}, value={}, rank={}", key, LogValues.brief(value), rank);
+            }
             return rank;
         } catch (Exception e) {
-            log.error("ZSet 查询排名失败 key={}, value={}", key, value, e);
+            log.error("ZSet 查询排名失败 key={}, value={}", key, LogValues.brief(value), e);
             throw e;
         }
     }
@@ -465,10 +736,12 @@ public class SetCacheRedisProvider implements SetCacheProvider {
     public Long zRevRank(String key, Object value) {
         try {
             Long rank = redisTemplate.opsForZSet().reverseRank(key, value);
-            log.debug("ZSet 倒序查询排名成功 key={}, value={}, rank={}", key, value, rank);
+            if (log.isDebugEnabled()) {
+                log.debug("ZSet 倒序查询排名成功 key={}, value={}, rank={}", key, LogValues.brief(value), rank);
+            }
             return rank;
         } catch (Exception e) {
-            log.error("ZSet 倒序查询排名失败 key={}, value={}", key, value, e);
+            log.error("ZSet 倒序查询排名失败 key={}, value={}", key, LogValues.brief(value), e);
             throw e;
         }
     }
@@ -483,7 +756,9 @@ public class SetCacheRedisProvider implements SetCacheProvider {
     public Long zCard(String key) {
         try {
             Long size = redisTemplate.opsForZSet().zCard(key);
-            log.debug("ZSet 查询大小成功 key={}, size={}", key, size);
+            if (log.isDebugEnabled()) {
+                log.debug("ZSet 查询大小成功 key={}, size={}", key, size);
+            }
             return size;
         } catch (Exception e) {
             log.error("ZSet 查询大小失败 key={}", key, e);
@@ -503,7 +778,9 @@ public class SetCacheRedisProvider implements SetCacheProvider {
     public Set<String> zRangeByScore(String key, double min, double max) {
         try {
             Set<String> values = redisTemplate.opsForZSet().rangeByScore(key, min, max);
-            log.debug("ZSet 分数范围查询成功 key={}, min={}, max={}, values={}", key, min, max, values);
+            if (log.isDebugEnabled()) {
+                log.debug("ZSet 分数范围查询成功 key={}, min={}, max={}, values={}", key, min, max, LogValues.brief(values));
+            }
             return values;
         } catch (Exception e) {
             log.error("ZSet 分数范围查询失败 key={}, min={}, max={}", key, min, max, e);
@@ -523,7 +800,9 @@ public class SetCacheRedisProvider implements SetCacheProvider {
     public Long zCount(String key, double min, double max) {
         try {
             Long count = redisTemplate.opsForZSet().count(key, min, max);
-            log.debug("ZSet 统计分数范围内元素数量成功 key={}, min={}, max={}, count={}", key, min, max, count);
+            if (log.isDebugEnabled()) {
+                log.debug("ZSet 统计分数范围内元素数量成功 key={}, min={}, max={}, count={}", key, min, max, count);
+            }
             return count;
         } catch (Exception e) {
             log.error("ZSet 统计分数范围内元素数量失败 key={}, min={}, max={}", key, min, max, e);
@@ -0,0 +1,371 @@
+package com.exercise.redisdemo01.core.provider.impl;
+
+import com.exercise.redisdemo01.core.config.ShardedBitMapConfig;
+import com.exercise.redisdemo01.core.provider.ShardedBitMapProvider;
+import com.exercise.redisdemo01.core.util.LogValues;
+import com.exercise.redisdemo01.core.util.RedisPipelines;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.cluster.SlotHash;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+
+/**
+ * 基于多个String子位图实现的分片位图提供者
+ * <p>
+ * 写入时通过一次管道同时执行 SETBIT 与 SADD 登记分片；设置为0且分片不存在时直接返回，不创建分片。
+ * 分片子位图的键为 key:shard:{序号}，以分片序号作为哈希标签：同一个位图的各分片分布在不同槽位，
+ * 不同位图的同一个分片位于同一个槽位，按分片执行的 BITOP 在集群模式下不会跨槽位。
+ * 跨分片的统计、位运算与内存查询先读取分片集合，再按批次大小通过管道扇出到各分片，每个命令只访问一个槽位；
+ * 集群模式下同一批次的命令由 Lettuce 按槽位直接写到各自节点的连接上，各节点并行执行，批次之间依次等待以限制在途命令数量。
+ * 跨分片操作不是原子的，执行期间并发写入的位可能只被部分分片观察到。
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShardedBitMapRedisProvider implements ShardedBitMapProvider {
+
+    /**
+     * 分片子位图的中缀，分片序号放在哈希标签中
+     */
+    private static final String SHARD_INFIX = ":shard:{";
+
+    /**
+     * 分片子位图的后缀，结束哈希标签
+     */
+    private static final String SHARD_SUFFIX = "}";
+
+    /**
+     * 分片集合的后缀
+     */
+    private static final String SHARDS_SUFFIX = ":shards";
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final ShardedBitMapConfig shardedBitMapConfig;
+
+    /**
+     * 设置位图中指定偏移量的值，所在分片不存在时自动创建
+     *
+     * @param key    位图的键
+     * @param offset 偏移量
+     * @param value  要设置的值（0 或 1）
+     * @return 旧值
+     */
+    @Override
+    public Boolean setBit(String key, long offset, boolean value) {
+        checkOffset(offset);
+        long shard = offset / shardedBitMapConfig.getShardBits();
+        long shardOffset = offset % shardedBitMapConfig.getShardBits();
+        try {
+            if (!value && !Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(shardsKey(key), String.valueOf(shard)))) {
+                return false;
+            }
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.stringCommands().setBit(rawKey(shardKey(key, shard)), shardOffset, value);
+                connection.setCommands().sAdd(rawKey(shardsKey(key)), rawKey(String.valueOf(shard)));
+                return null;
+            });
+            Boolean previous = (Boolean) results.get(0);
+            if (log.isDebugEnabled()) {
+                log.debug("设置分片位图成功 key={}, offset={}, shard={}, value={}", key, offset, shard, value);
+            }
+            return previous;
+        } catch (Exception e) {
+            log.error("设置分片位图失败 key={}, offset={}, value={}", key, offset, value, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 获取位图中指定偏移量的值，所在分片不存在时返回false
+     *
+     * @param key    位图的键
+     * @param offset 偏移量
+     * @return 指定偏移量的值
+     */
+    @Override
+    public Boolean getBit(String key, long offset) {
+        checkOffset(offset);
+        long shard = offset / shardedBitMapConfig.getShardBits();
+        try {
+            Boolean value = redisTemplate.opsForValue().getBit(shardKey(key, shard), offset % shardedBitMapConfig.getShardBits());
+            if (log.isDebugEnabled()) {
+                log.debug("获取分片位图值成功 key={}, offset={}, shard={}, value={}", key, offset, shard, value);
+            }
+            return value;
+        } catch (Exception e) {
+            log.error("获取分片位图值失败 key={}, offset={}", key, offset, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 统计所有分片中被设置为1的位数
+     *
+     * @param key 位图的键
+     * @return 被设置为1的位数
+     */
+    @Override
+    public Long bitCount(String key) {
+        try {
+            Set<Long> shards = shards(key);
+            List<Object> counts = pipelined(shards, (connection, shard) ->
+                    connection.stringCommands().bitCount(rawKey(shardKey(key, shard))));
+            long count = 0;
+            for (Object shardCount : counts) {
+                count += shardCount == null ? 0 : (Long) shardCount;
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("统计分片位图中1的个数成功 key={}, shards={}, count={}", key, shards.size(), count);
+            }
+            return count;
+        } catch (Exception e) {
+            log.error("统计分片位图中1的个数失败 key={}", key, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 对一个或多个分片位图按分片执行按位操作，结果写入目标分片位图
+     * 目标位图中不再属于结果的旧分片会被删除，目标位图可以同时作为源位图
+     *
+     * @param operation 操作类型（AND, OR, XOR）
+     * @param destKey   目标位图的键
+     * @param keys      源位图的键列表
+     */
+    @Override
+    public void bitOp(String operation, String destKey, String... keys) {
+        RedisStringCommands.BitOperation bitOperation = switch (operation.toUpperCase()) {
+            case "AND" -> RedisStringCommands.BitOperation.AND;
+            case "OR" -> RedisStringCommands.BitOperation.OR;
+            case "XOR" -> RedisStringCommands.BitOperation.XOR;
+            case "NOT" -> throw new IllegalArgumentException("分片位图不支持NOT操作");
+            default -> throw new IllegalArgumentException("不支持的操作类型: " + operation);
+        };
+        checkSameSlot(destKey, keys);
+        try {
+            List<Set<Long>> sourceShards = new ArrayList<>(keys.length);
+            for (String key : keys) {
+                sourceShards.add(shards(key));
+            }
+            Set<Long> targetShards = new TreeSet<>();
+            for (int i = 0; i < sourceShards.size(); i++) {
+                if (bitOperation != RedisStringCommands.BitOperation.AND || i == 0) {
+                    targetShards.addAll(sourceShards.get(i));
+                } else {
+                    targetShards.retainAll(sourceShards.get(i));
+                }
+            }
+            Set<Long> staleShards = shards(destKey);
+            staleShards.removeAll(targetShards);
+
+            pipelined(targetShards, (connection, shard) -> {
+                List<byte[]> sourceKeys = new ArrayList<>(keys.length);
+                for (int i = 0; i < keys.length; i++) {
+                    if (sourceShards.get(i).contains(shard)) {
+                        sourceKeys.add(rawKey(shardKey(keys[i], shard)));
+                    }
+                }
+                connection.stringCommands().bitOp(bitOperation, rawKey(shardKey(destKey, shard)), sourceKeys.toArray(new byte[0][]));
+            });
+            pipelined(staleShards, (connection, shard) -> {
+                connection.keyCommands().del(rawKey(shardKey(destKey, shard)));
+                connection.setCommands().sRem(rawKey(shardsKey(destKey)), rawKey(String.valueOf(shard)));
+            });
+            pipelined(targetShards, (connection, shard) ->
+                    connection.setCommands().sAdd(rawKey(shardsKey(destKey)), rawKey(String.valueOf(shard))));
+
+            if (log.isDebugEnabled()) {
+                log.debug("分片位图操作成功 operation={}, destKey={}, keys={}, shards={}",
+                        operation, destKey, LogValues.brief(keys), targetShards.size());
+            }
+        } catch (Exception e) {
+            log.error("分片位图操作失败 operation={}, destKey={}, keys={}", operation, destKey, LogValues.brief(keys), e);
+            throw e;
+        }
+    }
+
+    /**
+     * 获取所有分片与分片集合的内存使用量之和（字节）
+     *
+     * @param key 位图的键
+     * @return 内存使用量（字节）
+     */
+    @Override
+    public Long memoryUsage(String key) {
+        try {
+            List<String> keys = new ArrayList<>();
+            for (Long shard : shards(key)) {
+                keys.add(shardKey(key, shard));
+            }
+            keys.add(shardsKey(key));
+            long memoryUsage = 0;
+            int batchSize = Math.max(1, shardedBitMapConfig.getBatchSize());
+            for (int from = 0; from < keys.size(); from += batchSize) {
+                List<String> batch = keys.subList(from, Math.min(from + batchSize, keys.size()));
+                List<Object> usages = RedisPipelines.executeEach(redisTemplate, commands -> {
+                    List<RedisFuture<Long>> futures = new ArrayList<>(batch.size());
+                    for (String batchKey : batch) {
+                        futures.add(commands.memoryUsage(rawKey(batchKey)));
+                    }
+                    return futures;
+                });
+                for (Object usage : usages) {
+                    if (usage instanceof Exception error) {
+                        throw new IllegalStateException("获取分片内存使用量失败: " + error.getMessage(), error);
+                    }
+                    memoryUsage += usage == null ? 0 : (Long) usage;
+                }
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("获取分片位图内存使用量成功 key={}, shards={}, usage={} bytes", key, keys.size() - 1, memoryUsage);
+            }
+            return memoryUsage;
+        } catch (Exception e) {
+            log.error("获取分片位图内存使用量失败 key={}", key, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 获取已创建的分片序号
+     *
+     * @param key 位图的键
+     * @return 按序号升序排列的分片序号集合
+     */
+    @Override
+    public Set<Long> shards(String key) {
+        try {
+            Set<String> members = redisTemplate.opsForSet().members(shardsKey(key));
+            Set<Long> shards = new TreeSet<>();
+            if (members != null) {
+                for (String member : members) {
+                    shards.add(Long.parseLong(member));
+                }
+            }
+            return shards;
+        } catch (Exception e) {
+            log.error("获取分片位图的分片失败 key={}", key, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 删除位图的所有分片与分片集合
+     *
+     * @param key 位图的键
+     */
+    @Override
+    public void delete(String key) {
+        try {
+            Set<Long> shards = shards(key);
+            pipelined(shards, (connection, shard) -> connection.keyCommands().del(rawKey(shardKey(key, shard))));
+            redisTemplate.delete(shardsKey(key));
+            log.debug("删除分片位图成功 key={}, shards={}", key, shards.size());
+        } catch (Exception e) {
+            log.error("删除分片位图失败 key={}", key, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 按批次大小通过管道对每个元素执行命令
+     *
+     * @param items   元素集合
+     * @param command 对单个元素执行的命令
+     * @return 按元素顺序排列的命令结果
+     */
+    private <T> List<Object> pipelined(Collection<T> items, BiConsumer<RedisConnection, T> command) {
+        List<T> list = new ArrayList<>(items);
+        List<Object> results = new ArrayList<>(list.size());
+        int batchSize = Math.max(1, shardedBitMapConfig.getBatchSize());
+        for (int from = 0; from < list.size(); from += batchSize) {
+            List<T> batch = list.subList(from, Math.min(from + batchSize, list.size()));
+            results.addAll(redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                batch.forEach(item -> command.accept(connection, item));
+                return null;
+            }));
+        }
+        return results;
+    }
+
+    /**
+     * 集群模式下校验目标位图与源位图的同一个分片位于同一个槽位
+     * 位图的键自带哈希标签时会覆盖分片序号的标签，不同标签的位图无法按分片执行 BITOP
+     *
+     * @param destKey 目标位图的键
+     * @param keys    源位图的键列表
+     */
+    private void checkSameSlot(String destKey, String... keys) {
+        if (!(redisTemplate.getConnectionFactory() instanceof LettuceConnectionFactory factory) || !factory.isClusterAware()) {
+            return;
+        }
+        int slot = SlotHash.getSlot(shardKey(destKey, 0));
+        for (String key : keys) {
+            if (SlotHash.getSlot(shardKey(key, 0)) != slot) {
+                throw new IllegalArgumentException("集群模式下分片位图的键不能带有不同的哈希标签: destKey="
+                        + destKey + ", key=" + key);
+            }
+        }
+    }
+
+    /**
+     * 校验偏移量，分片位图不支持负数偏移量
+     *
+     * @param offset 偏移量
+     */
+    private static void checkOffset(long offset) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("分片位图的偏移量必须为非负数: " + offset);
+        }
+    }
+
+    /**
+     * 获取分片子位图的键
+     *
+     * @param key   位图的键
+     * @param shard 分片序号
+     * @return 分片子位图的键
+     */
+    private static String shardKey(String key, long shard) {
+        return key + SHARD_INFIX + shard + SHARD_SUFFIX;
+    }
+
+    /**
+     * 获取记录分片序号的集合的键
+     *
+     * @param key 位图的键
+     * @return 分片集合的键
+     */
+    private static String shardsKey(String key) {
+        return key + SHARDS_SUFFIX;
+    }
+
+    /**
+     * 序列化键或集合成员
+     *
+     * @param key 键或集合成员
+     * @return 字节
+     */
+    private byte[] rawKey(String key) {
+        return Objects.requireNonNull(redisTemplate.getStringSerializer().serialize(key));
+    }
+}
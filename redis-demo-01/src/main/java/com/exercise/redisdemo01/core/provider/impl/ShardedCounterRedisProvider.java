@@ -0,0 +1,268 @@
+package com.exercise.redisdemo01.core.provider.impl;
+
+import com.exercise.redisdemo01.core.config.ShardedCounterConfig;
+import com.exercise.redisdemo01.core.provider.ShardedCounterProvider;
+import com.exercise.redisdemo01.core.provider.StringCacheProvider;
+import com.exercise.redisdemo01.core.util.RedisPipelines;
+import io.lettuce.core.RedisFuture;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 基于多个String子key实现的分片计数器
+ * <p>
+ * 直接自增复用 {@link StringCacheProvider#incrString(String, long)}，每次随机落到一个分片，
+ * 集群模式下各分片按槽位分布到不同节点；缓冲自增先累加到本地 {@link LongAdder}，
+ * 由后台线程按刷新间隔通过一次管道写入，进程关闭前会再刷新一次。
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShardedCounterRedisProvider implements ShardedCounterProvider {
+
+    /**
+     * 分片子key的中缀
+     */
+    private static final String SHARD_INFIX = ":shard:";
+
+    private final StringCacheProvider stringCacheProvider;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final ShardedCounterConfig shardedCounterConfig;
+
+    /**
+     * 本地预聚合缓冲，key为计数器key
+     * 缓冲条目刷新后保留复用，避免与并发自增竞争导致增量丢失，因此只适合数量有限的热点计数器
+     */
+    private final Map<String, LongAdder> buffer = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService flushScheduler;
+
+    /**
+     * 启动后台刷新线程
+     */
+    @PostConstruct
+    public void init() {
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "redis-sharded-counter-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = shardedCounterConfig.getFlushInterval();
+        flushScheduler.scheduleWithFixedDelay(this::scheduledFlush, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("分片计数器初始化成功 shards={}, flushInterval={}ms",
+                shardedCounterConfig.getShards(), interval);
+    }
+
+    /**
+     * 停止后台刷新线程，并将缓冲中剩余的增量写入Redis
+     */
+    @PreDestroy
+    public void destroy() {
+        flushScheduler.shutdown();
+        try {
+            flushScheduler.awaitTermination(shardedCounterConfig.getFlushInterval(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    /**
+     * 计数器自增1，随机选择一个分片执行 INCRBY
+     *
+     * @param key 计数器key
+     */
+    @Override
+    public void increment(String key) {
+        increment(key, 1L);
+    }
+
+    /**
+     * 计数器自定义量自增，随机选择一个分片执行 INCRBY
+     *
+     * @param key   计数器key
+     * @param delta 自增数量，可以为负数
+     */
+    @Override
+    public void increment(String key, long delta) {
+        stringCacheProvider.incrString(randomShard(key), delta);
+    }
+
+    /**
+     * 计数器自定义量自增，先累加到本地缓冲，由后台定时批量写入Redis
+     *
+     * @param key   计数器key
+     * @param delta 自增数量，可以为负数
+     */
+    @Override
+    public void incrementBuffered(String key, long delta) {
+        buffer.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * 立即将本地缓冲中的增量写入Redis，所有计数器的 INCRBY 通过一次管道发送
+     * 网络等原因写入失败的增量加回缓冲，等待下次刷新重试；服务端拒绝的增量（如类型错误、自增溢出）直接丢弃
+     */
+    @Override
+    public synchronized void flush() {
+        List<String> keys = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        buffer.forEach((key, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                keys.add(key);
+                deltas.add(delta);
+            }
+        });
+        if (keys.isEmpty()) {
+            return;
+        }
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+        List<Object> results;
+        try {
+            results = RedisPipelines.executeEach(redisTemplate, commands -> {
+                List<RedisFuture<Long>> futures = new ArrayList<>(keys.size());
+                for (int i = 0; i < keys.size(); i++) {
+                    futures.add(commands.incrby(
+                            Objects.requireNonNull(serializer.serialize(randomShard(keys.get(i)))), deltas.get(i)));
+                }
+                return futures;
+            });
+        } catch (Exception e) {
+            for (int i = 0; i < keys.size(); i++) {
+                restore(keys.get(i), deltas.get(i));
+            }
+            log.error("刷新分片计数器缓冲失败 counters={}", keys.size(), e);
+            throw e;
+        }
+        // 部分命令已经生效，只放回失败命令的增量，避免重复计数；服务端拒绝的增量重试也不会成功，直接丢弃
+        int failed = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            Object result = results.get(i);
+            if (RedisPipelines.isRejected(result)) {
+                log.error("分片计数器增量被服务端拒绝，丢弃增量 key={}, delta={}, error={}",
+                        keys.get(i), deltas.get(i), ((Exception) result).getMessage());
+            } else if (result instanceof Exception) {
+                restore(keys.get(i), deltas.get(i));
+                failed++;
+            }
+        }
+        if (failed > 0) {
+            log.error("刷新分片计数器缓冲部分失败，失败的增量保留到下次刷新 counters={}, failed={}", keys.size(), failed);
+        } else if (log.isDebugEnabled()) {
+            log.debug("刷新分片计数器缓冲成功 counters={}", keys.size());
+        }
+    }
+
+    /**
+     * 将写入失败的增量放回本地缓冲
+     *
+     * @param key   计数器key
+     * @param delta 写入失败的增量
+     */
+    private void restore(String key, long delta) {
+        buffer.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * 获取计数器的值，通过一次 MGET 读取所有分片并求和
+     *
+     * @param key 计数器key
+     * @return 所有分片之和，不存在时返回0
+     */
+    @Override
+    public long get(String key) {
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(shardKeys(key));
+            long sum = 0;
+            if (values != null) {
+                for (String value : values) {
+                    if (value != null) {
+                        sum += Long.parseLong(value);
+                    }
+                }
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("获取分片计数器 key={}, value={}", key, sum);
+            }
+            return sum;
+        } catch (Exception e) {
+            log.error("获取分片计数器失败 key={}", key, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 删除计数器的所有分片
+     *
+     * @param key 计数器key
+     */
+    @Override
+    public void delete(String key) {
+        try {
+            redisTemplate.delete(shardKeys(key));
+            log.debug("删除分片计数器 key={}", key);
+        } catch (Exception e) {
+            log.error("删除分片计数器失败 key={}", key, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 后台定时刷新，异常只记录日志，避免定时任务被取消
+     */
+    private void scheduledFlush() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("定时刷新分片计数器缓冲失败，增量保留到下次刷新", e);
+        }
+    }
+
+    /**
+     * 随机选择计数器的一个分片子key
+     *
+     * @param key 计数器key
+     * @return 分片子key
+     */
+    private String randomShard(String key) {
+        return key + SHARD_INFIX + ThreadLocalRandom.current().nextInt(shardedCounterConfig.getShards());
+    }
+
+    /**
+     * 获取计数器的所有分片子key
+     *
+     * @param key 计数器key
+     * @return 分片子key列表
+     */
+    private List<String> shardKeys(String key) {
+        int shards = shardedCounterConfig.getShards();
+        List<String> keys = new ArrayList<>(shards);
+        for (int i = 0; i < shards; i++) {
+            keys.add(key + SHARD_INFIX + i);
+        }
+        return keys;
+    }
+}
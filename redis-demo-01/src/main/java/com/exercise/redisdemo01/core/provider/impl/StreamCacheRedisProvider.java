@@ -1,14 +1,31 @@
 package com.exercise.redisdemo01.core.provider.impl;
 
+import com.exercise.redisdemo01.core.model.bean.StreamPage;
+import com.exercise.redisdemo01.core.model.bean.StreamReclaimResult;
 import com.exercise.redisdemo01.core.provider.StreamCacheProvider;
+import com.exercise.redisdemo01.core.util.BlockingCallExecutor;
+import com.exercise.redisdemo01.core.util.LogValues;
+import com.exercise.redisdemo01.core.util.RedisPipelines;
+import com.exercise.redisdemo01.core.util.StreamRecordMapper;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.XAddArgs;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisStreamCommands;
 import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Redis Stream 消息队列提供者实现类
@@ -23,8 +40,15 @@ import java.util.*;
 @RequiredArgsConstructor
 public class StreamCacheRedisProvider implements StreamCacheProvider {
 
+    /**
+     * 死信消息中记录来源信息的字段前缀，避免与原消息字段冲突
+     */
+    private static final String DEAD_LETTER_FIELD_PREFIX = "dlq-";
+
     private final StringRedisTemplate redisTemplate;
 
+    private final BlockingCallExecutor blockingCallExecutor;
+
     /**
      * 向指定的 Stream 中添加单个消息
      *
@@ -37,12 +61,13 @@ public class StreamCacheRedisProvider implements StreamCacheProvider {
     @Override
     public void addMessage(String streamName, String key, String value) {
         try {
-            log.debug("准备向 Stream [{}] 添加消息: key={}, value={}", streamName, key, value);
+            if (log.isDebugEnabled()) {
+                log.debug("准备向 Stream [{}] 添加消息: key={}, value={}", streamName, key, LogValues.brief(value));
+            }
             RecordId recordId = redisTemplate.opsForStream().add(streamName, Map.of(key, value));
-            String messageId = Objects.isNull(recordId) ? null : recordId.getValue();
-            logInfoAddMessage(streamName, messageId);
+            logAddMessage(streamName, recordId);
         } catch (Exception e) {
-            log.error("向 Stream [{}] 添加消息失败: key={}, value={}", streamName, key, value, e);
+            log.error("向 Stream [{}] 添加消息失败: key={}, value={}", streamName, key, LogValues.brief(value), e);
             throw new RuntimeException("添加消息到 Stream 失败", e);
         }
     }
@@ -58,10 +83,11 @@ public class StreamCacheRedisProvider implements StreamCacheProvider {
     @Override
     public void addMessageMap(String streamName, Map<String, String> map) {
         try {
-            log.debug("准备向 Stream [{}] 添加 {} 个消息键值对", streamName, map.size());
+            if (log.isDebugEnabled()) {
+                log.debug("准备向 Stream [{}] 添加 {} 个消息键值对", streamName, map.size());
+            }
             RecordId recordId = redisTemplate.opsForStream().add(streamName, map);
-            String messageId = Objects.isNull(recordId) ? null : recordId.getValue();
-            logInfoAddMessage(streamName, messageId);
+            logAddMessage(streamName, recordId);
         } catch (Exception e) {
             log.error("向 Stream [{}] 添加消息失败，map大小: {}", streamName, map.size(), e);
             throw new RuntimeException("添加消息到 Stream 失败", e);
@@ -69,13 +95,15 @@ public class StreamCacheRedisProvider implements StreamCacheProvider {
     }
 
     /**
-     * 添加消息成功后，记录日志信息
+     * 添加消息成功后，记录调试日志，高频写入时不产生日志开销
      *
      * @param streamName 流名称
-     * @param messageId  消息ID
+     * @param recordId   消息ID
      */
-    private void logInfoAddMessage(String streamName, String messageId) {
-        log.info("成功向 Stream [{}] 添加消息，消息ID: {}", streamName, messageId);
+    private void logAddMessage(String streamName, RecordId recordId) {
+        if (log.isDebugEnabled()) {
+            log.debug("成功向 Stream [{}] 添加消息，消息ID: {}", streamName, Objects.isNull(recordId) ? null : recordId.getValue());
+        }
     }
 
     /**
@@ -96,21 +124,94 @@ public class StreamCacheRedisProvider implements StreamCacheProvider {
                 throw new IllegalArgumentException("参数个数必须为偶数");
             }
 
-            log.debug("准备向 Stream [{}] 添加 {} 个键值对", streamName, length / 2);
+            if (log.isDebugEnabled()) {
+                log.debug("准备向 Stream [{}] 添加 {} 个键值对", streamName, length / 2);
+            }
             HashMap<String, String> keyValueMap = new HashMap<>();
             for (int i = 0; i < length; i += 2) {
                 keyValueMap.put(keyValue[i], keyValue[i + 1]);
             }
 
             RecordId recordId = redisTemplate.opsForStream().add(streamName, keyValueMap);
-            String messageId = Objects.isNull(recordId) ? null : recordId.getValue();
-            log.info("成功向 Stream [{}] 添加消息，消息ID: {}，共 {} 个键值对", streamName, messageId, keyValueMap.size());
+            logAddMessage(streamName, recordId);
         } catch (Exception e) {
             log.error("向 Stream [{}] 添加消息失败", streamName, e);
             throw new RuntimeException("添加消息到 Stream 失败", e);
         }
     }
 
+    /**
+     * 通过一次管道向指定的 Stream 中批量添加消息，每条消息一个 XADD
+     * 按单条命令收集结果，部分 XADD 失败时不抛出异常，失败消息对应的位置为null，由调用方决定是否重试
+     *
+     * @param streamName 流名称，不能为空
+     * @param messages   消息列表，每个元素为一条消息的键值对
+     * @param options    XADD 选项，携带 MAXLEN/MINID 裁剪参数
+     * @return 与消息一一对应的消息ID，写入失败的消息为null
+     * @throws RuntimeException 如果获取连接等整体失败，此时没有消息写入
+     */
+    @Override
+    public List<String> addMessagesPipelined(String streamName, List<Map<String, String>> messages,
+                                             RedisStreamCommands.XAddOptions options) {
+        if (messages.isEmpty()) {
+            return Collections.emptyList();
+        }
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+        byte[] rawStream = Objects.requireNonNull(serializer.serialize(streamName));
+        XAddArgs args = toXAddArgs(options);
+        List<Object> results;
+        try {
+            results = RedisPipelines.executeEach(redisTemplate, commands -> {
+                List<RedisFuture<String>> futures = new ArrayList<>(messages.size());
+                for (Map<String, String> message : messages) {
+                    Map<byte[], byte[]> body = new LinkedHashMap<>(message.size() * 2);
+                    message.forEach((field, value) -> body.put(serializer.serialize(field), serializer.serialize(value)));
+                    futures.add(commands.xadd(rawStream, args, body));
+                }
+                return futures;
+            });
+        } catch (Exception e) {
+            log.error("管道批量向 Stream [{}] 添加消息失败，消息数量: {}", streamName, messages.size(), e);
+            throw new RuntimeException("批量添加消息到 Stream 失败", e);
+        }
+        List<String> messageIds = new ArrayList<>(results.size());
+        Exception firstError = null;
+        int failed = 0;
+        for (Object result : results) {
+            if (result instanceof Exception error) {
+                messageIds.add(null);
+                firstError = firstError == null ? error : firstError;
+                failed++;
+            } else {
+                messageIds.add((String) result);
+            }
+        }
+        if (firstError != null) {
+            log.error("管道批量向 Stream [{}] 添加消息部分失败，消息数量: {}, 失败数量: {}",
+                    streamName, messages.size(), failed, firstError);
+        } else if (log.isDebugEnabled()) {
+            log.debug("管道批量向 Stream [{}] 添加 {} 条消息", streamName, messageIds.size());
+        }
+        return messageIds;
+    }
+
+    /**
+     * 将 Spring 的 XADD 选项转换为 Lettuce 的参数
+     *
+     * @param options XADD 选项
+     * @return Lettuce XADD 参数
+     */
+    private static XAddArgs toXAddArgs(RedisStreamCommands.XAddOptions options) {
+        XAddArgs args = new XAddArgs().nomkstream(options.isNoMkStream());
+        if (options.hasMaxlen()) {
+            args.maxlen(options.getMaxlen());
+        }
+        if (options.hasMinId()) {
+            args.minId(options.getMinId().getValue());
+        }
+        return args.approximateTrimming(options.isApproximateTrimming());
+    }
+
     /**
      * 读取指定 Stream 中的所有消息，并按消息ID组织返回
      *
@@ -150,7 +251,9 @@ public class StreamCacheRedisProvider implements StreamCacheProvider {
                     }
                 }
             }
-            log.debug("完成读取 Stream [{}] 的所有消息，共 {} 条消息", streamName, messageMap.size());
+            if (log.isDebugEnabled()) {
+                log.debug("完成读取 Stream [{}] 的所有消息，共 {} 条消息", streamName, messageMap.size());
+            }
             return messageMap;
         } catch (Exception e) {
             log.error("读取 Stream [{}] 所有消息失败", streamName, e);
@@ -158,6 +261,220 @@ public class StreamCacheRedisProvider implements StreamCacheProvider {
         }
     }
 
+    /**
+     * 读取指定 Stream 中的所有消息，直接从原始字节解码为目标类型的对象
+     *
+     * @param streamName 流名称
+     * @param type       目标类型
+     * @return 按消息ID顺序排列的对象列表
+     * @throws RuntimeException 如果 Redis 操作失败或字段无法解码为目标类型
+     */
+    @Override
+    public <T> List<T> readAllAs(String streamName, Class<T> type) {
+        try {
+            StreamRecordMapper<T> mapper = StreamRecordMapper.of(type);
+            byte[] rawKey = Objects.requireNonNull(redisTemplate.getStringSerializer().serialize(streamName));
+            List<ByteRecord> records = redisTemplate.execute((RedisCallback<List<ByteRecord>>) connection ->
+                    connection.streamCommands().xRange(rawKey, Range.unbounded(), Limit.unlimited()));
+            if (records == null) {
+                return Collections.emptyList();
+            }
+            List<T> result = new ArrayList<>(records.size());
+            for (ByteRecord record : records) {
+                result.add(mapper.map(record));
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("完成读取 Stream [{}] 的所有消息，映射为 {} 共 {} 条", streamName, type.getSimpleName(), result.size());
+            }
+            return result;
+        } catch (Exception e) {
+            log.error("读取 Stream [{}] 所有消息并映射为 {} 失败", streamName, type.getName(), e);
+            throw new RuntimeException("读取 Stream 消息失败", e);
+        }
+    }
+
+    /**
+     * 按ID范围正向分页读取消息（XRANGE ... COUNT）
+     *
+     * @param streamName 流名称
+     * @param startId    起始ID（包含，除非以 ( 开头）
+     * @param endId      结束ID（包含，除非以 ( 开头）
+     * @param count      本页最多读取的消息数量
+     * @return 一页消息
+     */
+    @Override
+    public StreamPage<MapRecord<String, String, String>> range(String streamName, String startId, String endId, int count) {
+        return readPage(streamName, startId, endId, count, false, this::toStringRecord);
+    }
+
+    /**
+     * 按ID范围反向分页读取消息（XREVRANGE ... COUNT），从新到旧
+     *
+     * @param streamName 流名称
+     * @param endId      结束ID（包含，除非以 ( 开头）
+     * @param startId    起始ID（包含，除非以 ( 开头）
+     * @param count      本页最多读取的消息数量
+     * @return 一页消息
+     */
+    @Override
+    public StreamPage<MapRecord<String, String, String>> reverseRange(String streamName, String endId, String startId, int count) {
+        return readPage(streamName, startId, endId, count, true, this::toStringRecord);
+    }
+
+    /**
+     * 按ID范围正向分页读取消息，直接从原始字节解码为目标类型的对象
+     *
+     * @param streamName 流名称
+     * @param startId    起始ID（包含，除非以 ( 开头）
+     * @param endId      结束ID（包含，除非以 ( 开头）
+     * @param count      本页最多读取的消息数量
+     * @param type       目标类型
+     * @return 一页对象
+     */
+    @Override
+    public <T> StreamPage<T> rangeAs(String streamName, String startId, String endId, int count, Class<T> type) {
+        return readPage(streamName, startId, endId, count, false, StreamRecordMapper.of(type)::map);
+    }
+
+    /**
+     * 从头到尾流式遍历整个 Stream，按页懒加载
+     *
+     * @param streamName 流名称
+     * @param pageSize   每页读取的消息数量
+     * @return 按消息ID顺序的消息流
+     */
+    @Override
+    public Stream<MapRecord<String, String, String>> iterate(String streamName, int pageSize) {
+        return iteratePages(streamName, pageSize, this::toStringRecord);
+    }
+
+    /**
+     * 从头到尾流式遍历整个 Stream 并解码为目标类型，按页懒加载
+     *
+     * @param streamName 流名称
+     * @param pageSize   每页读取的消息数量
+     * @param type       目标类型
+     * @return 按消息ID顺序的对象流
+     */
+    @Override
+    public <T> Stream<T> iterateAs(String streamName, int pageSize, Class<T> type) {
+        return iteratePages(streamName, pageSize, StreamRecordMapper.of(type)::map);
+    }
+
+    /**
+     * 读取一页原始字节消息并逐条转换
+     *
+     * @param streamName 流名称
+     * @param startId    范围下界
+     * @param endId      范围上界
+     * @param count      本页最多读取的消息数量
+     * @param reverse    是否反向读取
+     * @param converter  原始字节消息的转换函数
+     * @return 一页转换后的消息
+     */
+    private <T> StreamPage<T> readPage(String streamName, String startId, String endId, int count, boolean reverse,
+                                       Function<ByteRecord, T> converter) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("分页读取数量必须大于0");
+        }
+        try {
+            byte[] rawKey = Objects.requireNonNull(redisTemplate.getStringSerializer().serialize(streamName));
+            Range<String> range = Range.of(toBound(startId), toBound(endId));
+            Limit limit = Limit.limit().count(count);
+            List<ByteRecord> records = redisTemplate.execute((RedisCallback<List<ByteRecord>>) connection -> reverse
+                    ? connection.streamCommands().xRevRange(rawKey, range, limit)
+                    : connection.streamCommands().xRange(rawKey, range, limit));
+            if (records == null || records.isEmpty()) {
+                return new StreamPage<>(Collections.emptyList(), null, false);
+            }
+            List<T> converted = new ArrayList<>(records.size());
+            for (ByteRecord record : records) {
+                converted.add(converter.apply(record));
+            }
+            String lastId = records.get(records.size() - 1).getId().getValue();
+            if (log.isDebugEnabled()) {
+                log.debug("分页读取 Stream [{}]: start={}, end={}, count={}, reverse={}, read={}, lastId={}",
+                        streamName, startId, endId, count, reverse, records.size(), lastId);
+            }
+            return new StreamPage<>(converted, lastId, records.size() == count);
+        } catch (Exception e) {
+            log.error("分页读取 Stream [{}] 失败: start={}, end={}, count={}, reverse={}",
+                    streamName, startId, endId, count, reverse, e);
+            throw new RuntimeException("分页读取 Stream 消息失败", e);
+        }
+    }
+
+    /**
+     * 按页懒加载遍历整个流，迭代器只持有当前页，当前页消费完才读取下一页
+     * 第一页也在第一次 hasNext() 时才读取，只创建而不消费的流不会访问Redis
+     *
+     * @param streamName 流名称
+     * @param pageSize   每页读取的消息数量
+     * @param converter  原始字节消息的转换函数
+     * @return 消息流
+     */
+    private <T> Stream<T> iteratePages(String streamName, int pageSize, Function<ByteRecord, T> converter) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("分页读取数量必须大于0");
+        }
+        Iterator<T> iterator = new Iterator<>() {
+
+            private StreamPage<T> page;
+
+            private Iterator<T> current;
+
+            @Override
+            public boolean hasNext() {
+                if (page == null) {
+                    page = readPage(streamName, "-", "+", pageSize, false, converter);
+                    current = page.getRecords().iterator();
+                }
+                while (!current.hasNext() && page.isHasMore()) {
+                    page = readPage(streamName, page.nextCursor(), "+", pageSize, false, converter);
+                    current = page.getRecords().iterator();
+                }
+                return current.hasNext();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * 将 Redis 语法的ID转换为范围边界：- 与 + 为无界，(id 为排他，其余为包含
+     *
+     * @param id Redis 语法的ID
+     * @return 范围边界
+     */
+    private static Range.Bound<String> toBound(String id) {
+        if (id == null || "-".equals(id) || "+".equals(id)) {
+            return Range.Bound.unbounded();
+        }
+        if (id.startsWith("(")) {
+            return Range.Bound.exclusive(id.substring(1));
+        }
+        return Range.Bound.inclusive(id);
+    }
+
+    /**
+     * 将原始字节消息解码为字符串消息
+     *
+     * @param record 原始字节消息
+     * @return 字符串消息
+     */
+    private MapRecord<String, String, String> toStringRecord(ByteRecord record) {
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+        return record.deserialize(serializer, serializer, serializer);
+    }
+
     /**
      * 读取指定 Stream 中的消息，并转换为指定类型的映射
      *
@@ -186,8 +503,10 @@ public class StreamCacheRedisProvider implements StreamCacheProvider {
      */
     private <K, V> List<Map<K, V>> readMap(String streamName, boolean isCount, int count, boolean isBlock, long blockTime, Class<K> clazzK, Class<V> clazzV) {
         try {
-            log.debug("开始读取 Stream [{}] 消息: isCount={}, count={}, isBlock={}, blockTime={}", 
-                    streamName, isCount, count, isBlock, blockTime);
+            if (log.isDebugEnabled()) {
+                log.debug("开始读取 Stream [{}] 消息: isCount={}, count={}, isBlock={}, blockTime={}", 
+                        streamName, isCount, count, isBlock, blockTime);
+            }
 
             StreamReadOptions streamReadOptions = isCount ? StreamReadOptions.empty().count(count) : StreamReadOptions.empty();
             streamReadOptions = isBlock ? streamReadOptions.block(Duration.ofMillis(blockTime)) : streamReadOptions;
@@ -197,7 +516,9 @@ public class StreamCacheRedisProvider implements StreamCacheProvider {
             logReadMessage(streamName, mapRecords);
 
             List<Map<K, V>> result = castMapToList(clazzK, clazzV, mapRecords);
-            log.debug("完成读取 Stream [{}] 消息，转换后共 {} 条", streamName, result.size());
+            if (log.isDebugEnabled()) {
+                log.debug("完成读取 Stream [{}] 消息，转换后共 {} 条", streamName, result.size());
+            }
             return result;
         } catch (Exception e) {
             log.error("读取 Stream [{}] 消息失败: isCount={}, count={}, isBlock={}, blockTime={}", 
@@ -207,7 +528,7 @@ public class StreamCacheRedisProvider implements StreamCacheProvider {
     }
 
     /**
-     * 将 Redis 返回的消息记录转换为指定类型的映射列表
+     * 将 Redis 返回的消息记录转换为指定类型的映射列表，每条消息一个映射
      *
      * @param clazzK      key类型
      * @param clazzV      value类型
@@ -219,16 +540,18 @@ public class StreamCacheRedisProvider implements StreamCacheProvider {
         if (Objects.nonNull(mapRecords)) {
             log.debug("开始转换 {} 条消息记录", mapRecords.size());
             for (MapRecord<String, Object, Object> mapRecord : mapRecords) {
+                Map<K, V> message = new HashMap<>(mapRecord.getValue().size() * 2);
                 mapRecord.getValue().forEach((key, value) -> {
                     try {
-                        HashMap<K, V> hashMap = new HashMap<>();
-                        hashMap.put(clazzK.cast(key), clazzV.cast(value));
-                        messageMaps.add(hashMap);
+                        message.put(clazzK.cast(key), clazzV.cast(value));
                     } catch (Exception e) {
                         log.error("类型转换错误！key类型: {}, value类型: {}, 实际key: {}, 实际value: {}", 
-                                clazzK.getName(), clazzV.getName(), key, value, e);
+                                clazzK.getName(), clazzV.getName(), key, LogValues.brief(value), e);
                     }
                 });
+                if (!message.isEmpty()) {
+                    messageMaps.add(message);
+                }
             }
             log.debug("完成转换，共 {} 条消息映射", messageMaps.size());
         }
@@ -246,7 +569,9 @@ public class StreamCacheRedisProvider implements StreamCacheProvider {
      */
     @Override
     public <K, V> List<Map<K, V>> readMapCount(String streamName, int count, Class<K> clazzK, Class<V> clazzV) {
-        log.debug("调用 readMapCount: streamName={}, count={}", streamName, count);
+        if (log.isDebugEnabled()) {
+            log.debug("调用 readMapCount: streamName={}, count={}", streamName, count);
+        }
         return readMap(streamName, true, count, false, 0, clazzK, clazzV);
     }
 
@@ -261,10 +586,26 @@ public class StreamCacheRedisProvider implements StreamCacheProvider {
      */
     @Override
     public <K, V> List<Map<K, V>> readMapBlock(String streamName, long blockTime, Class<K> clazzK, Class<V> clazzV) {
-        log.debug("调用 readMapBlock: streamName={}, blockTime={}", streamName, blockTime);
+        if (log.isDebugEnabled()) {
+            log.debug("调用 readMapBlock: streamName={}, blockTime={}", streamName, blockTime);
+        }
         return readMap(streamName, false, 0, true, blockTime, clazzK, clazzV);
     }
 
+    /**
+     * 异步阻塞式读取消息，阻塞等待在阻塞调用执行器中进行
+     *
+     * @param streamName 流名称
+     * @param blockTime  阻塞等待时间（毫秒）
+     * @param clazzK     key类型
+     * @param clazzV     value类型
+     * @return 消息列表
+     */
+    @Override
+    public <K, V> CompletableFuture<List<Map<K, V>>> readMapBlockAsync(String streamName, long blockTime, Class<K> clazzK, Class<V> clazzV) {
+        return blockingCallExecutor.submit(streamName, () -> readMapBlock(streamName, blockTime, clazzK, clazzV));
+    }
+
     /**
      * 读取指定数量的消息并支持阻塞
      *
@@ -277,7 +618,9 @@ public class StreamCacheRedisProvider implements StreamCacheProvider {
      */
     @Override
     public <K, V> List<Map<K, V>> readMap(String streamName, int count, long blockTime, Class<K> clazzK, Class<V> clazzV) {
-        log.debug("调用 readMap: streamName={}, count={}, blockTime={}", streamName, count, blockTime);
+        if (log.isDebugEnabled()) {
+            log.debug("调用 readMap: streamName={}, count={}, blockTime={}", streamName, count, blockTime);
+        }
         return readMap(streamName, true, count, true, blockTime, clazzK, clazzV);
     }
 
@@ -312,7 +655,9 @@ public class StreamCacheRedisProvider implements StreamCacheProvider {
     @Override
     public <K, V> Map<K, V> readMessage(String streamName, String groupName, String consumerName, Class<K> clazzK, Class<V> clazzV) {
         try {
-            log.debug("从消费者组读取消息: streamName={}, groupName={}, consumerName={}", streamName, groupName, consumerName);
+            if (log.isDebugEnabled()) {
+                log.debug("从消费者组读取消息: streamName={}, groupName={}, consumerName={}", streamName, groupName, consumerName);
+            }
             StreamReadOptions streamReadOptions = StreamReadOptions.empty().count(1);
             Consumer consumer = Consumer.from(groupName, consumerName);
             StreamOffset<String> streamOffset = StreamOffset.create(streamName, ReadOffset.lastConsumed());
@@ -339,12 +684,264 @@ public class StreamCacheRedisProvider implements StreamCacheProvider {
     @Override
     public void ackMessage(String streamName, String groupName, String... messageIds) {
         try {
-            log.debug("确认消息已处理: streamName={}, groupName={}, messageIds={}", streamName, groupName, messageIds);
-            redisTemplate.opsForStream().acknowledge(streamName, groupName, messageIds);
-            log.info("成功确认 {} 条消息已处理: streamName={}, groupName={}", messageIds.length, streamName, groupName);
+            if (log.isDebugEnabled()) {
+                log.debug("确认消息已处理: streamName={}, groupName={}, messageIds={}", streamName, groupName, LogValues.brief(messageIds));
+            }
+            Long acked = redisTemplate.opsForStream().acknowledge(streamName, groupName, messageIds);
+            if (log.isDebugEnabled()) {
+                log.debug("成功确认 {} 条消息已处理: streamName={}, groupName={}", acked, streamName, groupName);
+            }
         } catch (Exception e) {
-            log.error("确认消息已处理失败: streamName={}, groupName={}, messageIds={}", streamName, groupName, messageIds, e);
+            log.error("确认消息已处理失败: streamName={}, groupName={}, messageIds={}", streamName, groupName, LogValues.brief(messageIds), e);
             throw new RuntimeException("确认消息已处理失败", e);
         }
     }
+
+    /**
+     * 从消费者组中批量读取消息，逐条交给处理器处理，处理成功的消息通过一次 XACK 统一确认
+     *
+     * @param streamName   流名称
+     * @param groupName    消费者组名称
+     * @param consumerName 消费者名称
+     * @param count        单次最多读取的消息数量
+     * @param blockTime    没有新消息时阻塞等待的时间（毫秒），小于等于0表示不阻塞
+     * @param handler      消息记录处理器
+     * @return 读取到的消息数量
+     */
+    @Override
+    public int readGroupBatch(String streamName, String groupName, String consumerName, int count, long blockTime,
+                              RecordHandler handler) {
+        List<MapRecord<String, String, String>> records;
+        try {
+            StreamReadOptions streamReadOptions = StreamReadOptions.empty().count(count);
+            if (blockTime > 0) {
+                streamReadOptions = streamReadOptions.block(Duration.ofMillis(blockTime));
+            }
+            records = redisTemplate.<String, String>opsForStream().read(Consumer.from(groupName, consumerName),
+                    streamReadOptions, StreamOffset.create(streamName, ReadOffset.lastConsumed()));
+        } catch (Exception e) {
+            log.error("从消费者组批量读取消息失败: streamName={}, groupName={}, consumerName={}, count={}",
+                    streamName, groupName, consumerName, count, e);
+            throw new RuntimeException("从消费者组批量读取消息失败", e);
+        }
+        if (records == null || records.isEmpty()) {
+            return 0;
+        }
+        handleAndAck(streamName, groupName, records, handler);
+        return records.size();
+    }
+
+    /**
+     * 从ID 0开始分页读取消费者自己的待处理列表，每页处理完统一确认后从本页最后一条消息之后继续读取
+     *
+     * @param streamName   流名称
+     * @param groupName    消费者组名称
+     * @param consumerName 消费者名称
+     * @param count        每页最多读取的消息数量
+     * @param handler      消息记录处理器
+     * @return 读取到的消息数量
+     */
+    @Override
+    public int drainPending(String streamName, String groupName, String consumerName, int count, RecordHandler handler) {
+        int total = 0;
+        ReadOffset offset = ReadOffset.from("0");
+        while (true) {
+            List<MapRecord<String, String, String>> records;
+            try {
+                records = redisTemplate.<String, String>opsForStream().read(Consumer.from(groupName, consumerName),
+                        StreamReadOptions.empty().count(count), StreamOffset.create(streamName, offset));
+            } catch (Exception e) {
+                log.error("读取消费者待处理列表失败: streamName={}, groupName={}, consumerName={}, offset={}",
+                        streamName, groupName, consumerName, offset.getOffset(), e);
+                throw new RuntimeException("读取消费者待处理列表失败", e);
+            }
+            if (records == null || records.isEmpty()) {
+                return total;
+            }
+            handleAndAck(streamName, groupName, records, handler);
+            total += records.size();
+            offset = ReadOffset.from(records.get(records.size() - 1).getId());
+        }
+    }
+
+    /**
+     * 回收消费者组中长时间未确认的消息，投递次数达到上限的转入死信流
+     * XCLAIM 带最小空闲时间，多个节点同时回收同一条消息时只有一个能转移成功
+     * 处理器为null时只转移，消息留在接收消费者的待处理列表中，由该消费者自己处理
+     *
+     * @param streamName       流名称
+     * @param groupName        消费者组名称
+     * @param consumerName     接收消息的消费者名称
+     * @param minIdleTime      消息空闲超过该时间（毫秒）才会被回收
+     * @param count            单次最多回收的消息数量
+     * @param maxDeliveries    最大投递次数
+     * @param deadLetterStream 死信流名称
+     * @param handler          消息记录处理器，为null时只转移不处理
+     * @return 回收结果
+     */
+    @Override
+    public StreamReclaimResult reclaimPending(String streamName, String groupName, String consumerName, long minIdleTime,
+                                              int count, long maxDeliveries, String deadLetterStream,
+                                              RecordHandler handler) {
+        List<RecordId> retryIds = new ArrayList<>();
+        List<RecordId> deadIds = new ArrayList<>();
+        Map<String, Long> deliveries = new HashMap<>();
+        List<MapRecord<String, String, String>> retryRecords;
+        List<MapRecord<String, String, String>> deadRecords;
+        try {
+            collectIdlePending(streamName, groupName, minIdleTime, count, maxDeliveries, retryIds, deadIds, deliveries);
+            if (retryIds.isEmpty() && deadIds.isEmpty()) {
+                return new StreamReclaimResult(0, 0, 0);
+            }
+            retryRecords = claim(streamName, groupName, consumerName, minIdleTime, retryIds);
+            deadRecords = claim(streamName, groupName, consumerName, minIdleTime, deadIds);
+        } catch (Exception e) {
+            log.error("回收待处理消息失败: streamName={}, groupName={}, consumerName={}",
+                    streamName, groupName, consumerName, e);
+            throw new RuntimeException("回收待处理消息失败", e);
+        }
+
+        int deadLettered = deadLetter(streamName, groupName, deadLetterStream, deadRecords, deliveries);
+        int acked = retryRecords.isEmpty() || handler == null ? 0 : handleAndAck(streamName, groupName, retryRecords, handler);
+        if (!retryRecords.isEmpty() || deadLettered > 0) {
+            log.info("回收待处理消息: streamName={}, groupName={}, consumerName={}, reclaimed={}, acked={}, deadLettered={}",
+                    streamName, groupName, consumerName, retryRecords.size(), acked, deadLettered);
+        }
+        return new StreamReclaimResult(retryRecords.size(), acked, deadLettered);
+    }
+
+    /**
+     * 按ID顺序分页扫描待处理列表，收集空闲超过阈值的消息，并按投递次数分为重新处理与转入死信两类
+     *
+     * @param streamName    流名称
+     * @param groupName     消费者组名称
+     * @param minIdleTime   最小空闲时间（毫秒）
+     * @param count         最多收集的消息数量
+     * @param maxDeliveries 最大投递次数
+     * @param retryIds      收集需要重新处理的消息ID
+     * @param deadIds       收集需要转入死信流的消息ID
+     * @param deliveries    收集消息ID对应的投递次数
+     */
+    private void collectIdlePending(String streamName, String groupName, long minIdleTime, int count, long maxDeliveries,
+                                    List<RecordId> retryIds, List<RecordId> deadIds, Map<String, Long> deliveries) {
+        Range<String> range = Range.unbounded();
+        while (retryIds.size() + deadIds.size() < count) {
+            PendingMessages page = redisTemplate.opsForStream().pending(streamName, groupName, range, count);
+            if (page == null || page.isEmpty()) {
+                return;
+            }
+            for (PendingMessage pendingMessage : page) {
+                if (pendingMessage.getElapsedTimeSinceLastDelivery().toMillis() < minIdleTime) {
+                    continue;
+                }
+                deliveries.put(pendingMessage.getIdAsString(), pendingMessage.getTotalDeliveryCount());
+                if (pendingMessage.getTotalDeliveryCount() >= maxDeliveries) {
+                    deadIds.add(pendingMessage.getId());
+                } else {
+                    retryIds.add(pendingMessage.getId());
+                }
+                if (retryIds.size() + deadIds.size() >= count) {
+                    return;
+                }
+            }
+            if (page.size() < count) {
+                return;
+            }
+            range = Range.rightUnbounded(Range.Bound.exclusive(page.get(page.size() - 1).getIdAsString()));
+        }
+    }
+
+    /**
+     * 将消息转移给指定消费者，空闲时间不足（已被其他节点回收）的消息不会返回
+     *
+     * @param streamName   流名称
+     * @param groupName    消费者组名称
+     * @param consumerName 接收消息的消费者名称
+     * @param minIdleTime  最小空闲时间（毫秒）
+     * @param ids          消息ID
+     * @return 转移成功的消息记录
+     */
+    private List<MapRecord<String, String, String>> claim(String streamName, String groupName, String consumerName,
+                                                          long minIdleTime, List<RecordId> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<MapRecord<String, String, String>> records = redisTemplate.<String, String>opsForStream().claim(
+                streamName, groupName, consumerName,
+                RedisStreamCommands.XClaimOptions.minIdleMs(minIdleTime).ids(ids.toArray(new RecordId[0])));
+        return records == null ? Collections.emptyList() : records;
+    }
+
+    /**
+     * 将消息写入死信流并确认，死信消息保留原字段，另外记录来源流、消费者组、原消息ID与投递次数
+     *
+     * @param streamName       流名称
+     * @param groupName        消费者组名称
+     * @param deadLetterStream 死信流名称
+     * @param records          需要转入死信流的消息记录
+     * @param deliveries       消息ID对应的投递次数
+     * @return 转入死信流的消息数量
+     */
+    private int deadLetter(String streamName, String groupName, String deadLetterStream,
+                           List<MapRecord<String, String, String>> records, Map<String, Long> deliveries) {
+        if (records.isEmpty()) {
+            return 0;
+        }
+        List<String> ids = new ArrayList<>(records.size());
+        try {
+            for (MapRecord<String, String, String> record : records) {
+                String messageId = record.getId().getValue();
+                Map<String, String> body = new LinkedHashMap<>(record.getValue());
+                body.put(DEAD_LETTER_FIELD_PREFIX + "stream", streamName);
+                body.put(DEAD_LETTER_FIELD_PREFIX + "group", groupName);
+                body.put(DEAD_LETTER_FIELD_PREFIX + "id", messageId);
+                body.put(DEAD_LETTER_FIELD_PREFIX + "deliveries", String.valueOf(deliveries.getOrDefault(messageId, 0L)));
+                redisTemplate.opsForStream().add(deadLetterStream, body);
+                ids.add(messageId);
+            }
+        } catch (Exception e) {
+            log.error("写入死信流失败: streamName={}, groupName={}, deadLetterStream={}",
+                    streamName, groupName, deadLetterStream, e);
+            throw new RuntimeException("写入死信流失败", e);
+        } finally {
+            if (!ids.isEmpty()) {
+                ackMessage(streamName, groupName, ids.toArray(new String[0]));
+                log.warn("消息投递次数达到上限，转入死信流: streamName={}, groupName={}, deadLetterStream={}, messageIds={}",
+                        streamName, groupName, deadLetterStream, LogValues.brief(ids));
+            }
+        }
+        return ids.size();
+    }
+
+    /**
+     * 逐条处理消息记录，处理成功的消息ID汇总后一次确认
+     * 单条处理失败只记录日志，不影响同一批次的其他消息
+     *
+     * @param streamName 流名称
+     * @param groupName  消费者组名称
+     * @param records    消息记录
+     * @param handler    消息记录处理器
+     * @return 确认的消息数量
+     */
+    private int handleAndAck(String streamName, String groupName, List<MapRecord<String, String, String>> records,
+                             RecordHandler handler) {
+        List<String> handledIds = new ArrayList<>(records.size());
+        for (MapRecord<String, String, String> record : records) {
+            try {
+                handler.handle(record);
+                handledIds.add(record.getId().getValue());
+            } catch (Exception e) {
+                log.error("处理消息失败，消息留在待处理列表等待重新投递: streamName={}, groupName={}, messageId={}",
+                        streamName, groupName, record.getId().getValue(), e);
+            }
+        }
+        if (!handledIds.isEmpty()) {
+            ackMessage(streamName, groupName, handledIds.toArray(new String[0]));
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("完成批量处理消息: streamName={}, groupName={}, read={}, acked={}",
+                    streamName, groupName, records.size(), handledIds.size());
+        }
+        return handledIds.size();
+    }
 }
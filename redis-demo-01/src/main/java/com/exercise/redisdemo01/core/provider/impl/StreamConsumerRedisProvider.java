@@ -0,0 +1,452 @@
+package com.exercise.redisdemo01.core.provider.impl;
+
+import com.exercise.redisdemo01.core.config.StreamConsumerConfig;
+import com.exercise.redisdemo01.core.model.bean.StreamConsumerMetrics;
+import com.exercise.redisdemo01.core.model.bean.StreamReclaimResult;
+import com.exercise.redisdemo01.core.provider.StreamCacheProvider;
+import com.exercise.redisdemo01.core.provider.StreamConsumerProvider;
+import com.exercise.redisdemo01.core.util.BlockingCallExecutor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 基于 {@link StreamCacheProvider} 实现的 Stream 消费者运行时
+ * <p>
+ * 每个消费者一个线程（可选虚拟线程），循环调用 {@link StreamCacheProvider#readGroupBatch} 阻塞读取一批消息，
+ * 处理完整批并统一确认后才读取下一批，处理慢时不会继续拉取，实现背压；停止订阅时消费者在当前批次结束后退出，
+ * 最长等待一个阻塞读取时间。
+ * <p>
+ * 后台线程按间隔为每个订阅回收空闲过久的待处理消息（如消费者崩溃遗留的消息），XCLAIM 轮流转移给该订阅的消费者，
+ * 回收线程本身不执行业务处理器；接收消息的消费者在下一次读取前从ID 0读取自己的待处理列表并处理，
+ * 业务处理始终运行在订阅自己的消费者线程上，受订阅的并发数限制。投递次数达到上限的消息转入死信流。
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreamConsumerRedisProvider implements StreamConsumerProvider {
+
+    /**
+     * 消费者组已存在时 Redis 返回的错误码
+     */
+    private static final String BUSY_GROUP = "BUSYGROUP";
+
+    private final StreamCacheProvider streamCacheProvider;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final StreamConsumerConfig streamConsumerConfig;
+
+    /**
+     * 运行中的订阅
+     */
+    private final Set<ConsumerSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 订阅序号，用于生成当前进程内唯一的消费者名称
+     */
+    private final AtomicInteger subscriptionSequence = new AtomicInteger();
+
+    /**
+     * 消费者名称前缀，格式为 主机名-进程号
+     */
+    private final String consumerPrefix = hostName() + "-" + ProcessHandle.current().pid();
+
+    private ScheduledExecutorService reclaimScheduler;
+
+    /**
+     * 启动后台回收线程
+     */
+    @PostConstruct
+    public void init() {
+        reclaimScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "redis-stream-reclaimer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 使用默认配置订阅消费者组
+     *
+     * @param streamName 流名称
+     * @param groupName  消费者组名称
+     * @param handler    消息记录处理器
+     * @return 订阅句柄
+     */
+    @Override
+    public Subscription subscribe(String streamName, String groupName, StreamCacheProvider.RecordHandler handler) {
+        return subscribe(streamName, groupName, streamConsumerConfig.getConcurrency(),
+                streamConsumerConfig.getBatchSize(), handler);
+    }
+
+    /**
+     * 指定消费者数量与批次大小订阅消费者组，消费者组不存在时自动创建
+     *
+     * @param streamName  流名称
+     * @param groupName   消费者组名称
+     * @param concurrency 消费者数量
+     * @param batchSize   每个消费者单次读取的最大消息数量
+     * @param handler     消息记录处理器
+     * @return 订阅句柄
+     */
+    @Override
+    public Subscription subscribe(String streamName, String groupName, int concurrency, int batchSize,
+                                  StreamCacheProvider.RecordHandler handler) {
+        if (concurrency <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("消费者数量与批次大小必须大于0");
+        }
+        ensureGroup(streamName, groupName);
+
+        int sequence = subscriptionSequence.incrementAndGet();
+        List<String> consumerNames = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            consumerNames.add(consumerPrefix + "-" + sequence + "-" + i);
+        }
+        ConsumerSubscription subscription = new ConsumerSubscription(streamName, groupName, consumerNames,
+                batchSize, handler, newExecutor(streamName, concurrency));
+        subscriptions.add(subscription);
+        for (String consumerName : consumerNames) {
+            subscription.executor.execute(() -> runConsumer(subscription, consumerName));
+        }
+        long reclaimInterval = streamConsumerConfig.getReclaimInterval();
+        if (reclaimInterval > 0) {
+            subscription.reclaimTask = reclaimScheduler.scheduleWithFixedDelay(subscription::reclaim,
+                    reclaimInterval, reclaimInterval, TimeUnit.MILLISECONDS);
+        }
+        log.info("启动 Stream 消费者订阅: streamName={}, groupName={}, consumers={}, batchSize={}",
+                streamName, groupName, consumerNames, batchSize);
+        return subscription;
+    }
+
+    /**
+     * 获取所有运行中订阅的指标
+     *
+     * @return 运行指标列表
+     */
+    @Override
+    public List<StreamConsumerMetrics> metrics() {
+        List<StreamConsumerMetrics> result = new ArrayList<>(subscriptions.size());
+        for (ConsumerSubscription subscription : subscriptions) {
+            result.add(subscription.metrics());
+        }
+        return result;
+    }
+
+    /**
+     * 应用关闭时停止所有订阅，等待消费者处理完当前批次
+     */
+    @PreDestroy
+    public void destroy() {
+        reclaimScheduler.shutdownNow();
+        for (ConsumerSubscription subscription : subscriptions) {
+            subscription.cancel(streamConsumerConfig.getShutdownTimeout());
+        }
+    }
+
+    /**
+     * 创建消费者组，消费者组已存在时忽略
+     *
+     * @param streamName 流名称
+     * @param groupName  消费者组名称
+     */
+    private void ensureGroup(String streamName, String groupName) {
+        try {
+            streamCacheProvider.createGroup(streamName, groupName);
+        } catch (RuntimeException e) {
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause.getMessage() != null && cause.getMessage().contains(BUSY_GROUP)) {
+                    log.debug("消费者组已存在: streamName={}, groupName={}", streamName, groupName);
+                    return;
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 消费者主循环，读取失败时等待一个阻塞读取时间后重试，订阅停止或线程被中断时退出
+     *
+     * @param subscription 订阅
+     * @param consumerName 消费者名称
+     */
+    private void runConsumer(ConsumerSubscription subscription, String consumerName) {
+        subscription.runningConsumers.incrementAndGet();
+        try {
+            while (subscription.active && !Thread.currentThread().isInterrupted()) {
+                try {
+                    drainReclaimed(subscription, consumerName);
+                    streamCacheProvider.readGroupBatch(subscription.streamName, subscription.groupName, consumerName,
+                            subscription.batchSize, streamConsumerConfig.getBlockTime(), subscription::handle);
+                } catch (Exception e) {
+                    if (!subscription.active) {
+                        break;
+                    }
+                    log.error("Stream 消费者读取失败，稍后重试: streamName={}, groupName={}, consumerName={}",
+                            subscription.streamName, subscription.groupName, consumerName, e);
+                    TimeUnit.MILLISECONDS.sleep(streamConsumerConfig.getBlockTime());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            subscription.runningConsumers.decrementAndGet();
+            log.info("Stream 消费者退出: streamName={}, groupName={}, consumerName={}",
+                    subscription.streamName, subscription.groupName, consumerName);
+        }
+    }
+
+    /**
+     * 回收线程转移过消息给该消费者时，先处理自己待处理列表中的消息；处理失败时保留标记，下一轮继续处理
+     *
+     * @param subscription 订阅
+     * @param consumerName 消费者名称
+     */
+    private void drainReclaimed(ConsumerSubscription subscription, String consumerName) {
+        if (!subscription.reclaimedConsumers.remove(consumerName)) {
+            return;
+        }
+        try {
+            int drained = streamCacheProvider.drainPending(subscription.streamName, subscription.groupName,
+                    consumerName, subscription.batchSize, subscription::handle);
+            if (log.isDebugEnabled()) {
+                log.debug("Stream 消费者处理回收的消息: streamName={}, groupName={}, consumerName={}, count={}",
+                        subscription.streamName, subscription.groupName, consumerName, drained);
+            }
+        } catch (RuntimeException e) {
+            subscription.reclaimedConsumers.add(consumerName);
+            throw e;
+        }
+    }
+
+    /**
+     * 创建订阅使用的线程池，开启虚拟线程但运行环境不支持时回退为平台线程
+     *
+     * @param streamName  流名称，用于线程命名
+     * @param concurrency 消费者数量
+     * @return 线程池
+     */
+    private ExecutorService newExecutor(String streamName, int concurrency) {
+        if (streamConsumerConfig.isVirtualThreads()) {
+            ExecutorService executor = BlockingCallExecutor.newVirtualThreadExecutor();
+            if (executor != null) {
+                return executor;
+            }
+        }
+        AtomicInteger threadIndex = new AtomicInteger();
+        return Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "redis-stream-consumer-" + streamName + "-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 计算消费者组尚未投递的消息数量
+     * Redis 7.0 及以上直接使用 XINFO GROUPS 的 lag 字段，否则从最后投递的ID开始 XRANGE 统计，最多统计 lagScanLimit 条
+     *
+     * @param streamName 流名称
+     * @param group      消费者组信息
+     * @return 积压数量
+     */
+    private long lag(String streamName, StreamInfo.XInfoGroup group) {
+        if (group.getRaw().get("lag") instanceof Number lag) {
+            return lag.longValue();
+        }
+        StreamInfo.XInfoStream info = redisTemplate.opsForStream().info(streamName);
+        if (group.lastDeliveredId().equals(info.lastGeneratedId())) {
+            return 0;
+        }
+        List<MapRecord<String, Object, Object>> undelivered = redisTemplate.opsForStream().range(streamName,
+                Range.rightUnbounded(Range.Bound.exclusive(group.lastDeliveredId())),
+                Limit.limit().count(streamConsumerConfig.getLagScanLimit()));
+        return undelivered == null ? 0 : undelivered.size();
+    }
+
+    /**
+     * 获取本机主机名，获取失败时返回 unknown
+     *
+     * @return 主机名
+     */
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+
+    /**
+     * 一个消费者组订阅，持有消费者线程池与处理计数
+     */
+    private final class ConsumerSubscription implements Subscription {
+
+        private final String streamName;
+
+        private final String groupName;
+
+        private final List<String> consumerNames;
+
+        private final int batchSize;
+
+        private final StreamCacheProvider.RecordHandler handler;
+
+        private final ExecutorService executor;
+
+        private final AtomicInteger runningConsumers = new AtomicInteger();
+
+        private final LongAdder processed = new LongAdder();
+
+        private final LongAdder failed = new LongAdder();
+
+        private final LongAdder reclaimed = new LongAdder();
+
+        private final LongAdder deadLettered = new LongAdder();
+
+        /**
+         * 回收线程转移了消息、等待自己处理待处理列表的消费者
+         */
+        private final Set<String> reclaimedConsumers = ConcurrentHashMap.newKeySet();
+
+        /**
+         * 下一次回收使用的消费者序号，轮流分配给各个消费者
+         */
+        private final AtomicInteger reclaimIndex = new AtomicInteger();
+
+        private volatile ScheduledFuture<?> reclaimTask;
+
+        private volatile boolean active = true;
+
+        private ConsumerSubscription(String streamName, String groupName, List<String> consumerNames, int batchSize,
+                                     StreamCacheProvider.RecordHandler handler, ExecutorService executor) {
+            this.streamName = streamName;
+            this.groupName = groupName;
+            this.consumerNames = List.copyOf(consumerNames);
+            this.batchSize = batchSize;
+            this.handler = handler;
+            this.executor = executor;
+        }
+
+        /**
+         * 调用业务处理器并计数，处理失败时继续抛出，由批量读取跳过确认
+         *
+         * @param record 消息记录
+         * @throws Exception 处理失败
+         */
+        private void handle(MapRecord<String, String, String> record) throws Exception {
+            try {
+                handler.handle(record);
+                processed.increment();
+            } catch (Exception e) {
+                failed.increment();
+                throw e;
+            }
+        }
+
+        /**
+         * 回收一批空闲过久的待处理消息，只转移给一个消费者并标记，由该消费者在自己的线程中处理
+         * 异常只记录日志，避免定时任务被取消
+         */
+        private void reclaim() {
+            if (!active) {
+                return;
+            }
+            String consumerName = consumerNames.get(Math.floorMod(reclaimIndex.getAndIncrement(), consumerNames.size()));
+            try {
+                StreamReclaimResult result = streamCacheProvider.reclaimPending(streamName, groupName, consumerName,
+                        streamConsumerConfig.getReclaimMinIdle(), batchSize, streamConsumerConfig.getMaxDeliveries(),
+                        streamName + streamConsumerConfig.getDeadLetterSuffix(), null);
+                if (result.getReclaimed() > 0) {
+                    reclaimedConsumers.add(consumerName);
+                }
+                reclaimed.add(result.getReclaimed());
+                deadLettered.add(result.getDeadLettered());
+            } catch (Exception e) {
+                log.warn("回收待处理消息失败，等待下次回收: streamName={}, groupName={}", streamName, groupName, e);
+            }
+        }
+
+        @Override
+        public String streamName() {
+            return streamName;
+        }
+
+        @Override
+        public String groupName() {
+            return groupName;
+        }
+
+        @Override
+        public List<String> consumerNames() {
+            return consumerNames;
+        }
+
+        @Override
+        public boolean isRunning() {
+            return runningConsumers.get() > 0;
+        }
+
+        @Override
+        public boolean cancel(long timeout) {
+            active = false;
+            subscriptions.remove(this);
+            if (reclaimTask != null) {
+                reclaimTask.cancel(false);
+            }
+            executor.shutdown();
+            try {
+                if (executor.awaitTermination(timeout, TimeUnit.MILLISECONDS)) {
+                    log.info("停止 Stream 消费者订阅: streamName={}, groupName={}", streamName, groupName);
+                    return true;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            log.warn("Stream 消费者未在 {}ms 内退出，强制中断: streamName={}, groupName={}",
+                    timeout, streamName, groupName);
+            executor.shutdownNow();
+            return false;
+        }
+
+        @Override
+        public StreamConsumerMetrics metrics() {
+            try {
+                StreamInfo.XInfoGroup group = redisTemplate.opsForStream().groups(streamName).stream()
+                        .filter(candidate -> groupName.equals(candidate.groupName()))
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalStateException("消费者组不存在: " + groupName));
+                return new StreamConsumerMetrics(streamName, groupName, runningConsumers.get(),
+                        group.pendingCount(), lag(streamName, group), processed.sum(), failed.sum(),
+                        reclaimed.sum(), deadLettered.sum());
+            } catch (Exception e) {
+                log.error("获取 Stream 消费者指标失败: streamName={}, groupName={}", streamName, groupName, e);
+                throw new RuntimeException("获取 Stream 消费者指标失败", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.exercise.redisdemo01.core.provider.impl;
+
+import com.exercise.redisdemo01.core.config.StreamProducerConfig;
+import com.exercise.redisdemo01.core.provider.StreamCacheProvider;
+import com.exercise.redisdemo01.core.provider.StreamProducerProvider;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 基于 {@link StreamCacheProvider#addMessagesPipelined} 实现的 Stream 批量生产者
+ * <p>
+ * 每个流一个无锁队列，缓冲达到一批时由发送线程直接刷新，发送速度超过写入速度时发送方被拖慢；
+ * 不足一批的消息由后台线程按间隔刷新，进程关闭前会再刷新一次。
+ * 管道中写入失败的消息重新放回缓冲，已经写入成功的消息不会重复写入，顺序可能改变。
+ * Redis 不可用时缓冲会持续积压，每个流最多缓冲 maxBufferedMessages 条，达到上限后拒绝新消息。
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreamProducerRedisProvider implements StreamProducerProvider {
+
+    private final StreamCacheProvider streamCacheProvider;
+
+    private final StreamProducerConfig streamProducerConfig;
+
+    /**
+     * 每个流的消息缓冲，key为流名称
+     */
+    private final Map<String, StreamBuffer> buffers = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService flushScheduler;
+
+    /**
+     * 一个流的消息缓冲，队列长度单独计数，避免 ConcurrentLinkedQueue.size() 的遍历开销
+     */
+    private static final class StreamBuffer {
+
+        private final Queue<Map<String, String>> messages = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger size = new AtomicInteger();
+    }
+
+    /**
+     * 启动后台刷新线程
+     */
+    @PostConstruct
+    public void init() {
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "redis-stream-producer-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = streamProducerConfig.getFlushInterval();
+        flushScheduler.scheduleWithFixedDelay(this::scheduledFlush, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("Stream 批量生产者初始化成功 batchSize={}, flushInterval={}ms, maxLen={}, minIdAge={}ms, approximate={}",
+                streamProducerConfig.getBatchSize(), interval, streamProducerConfig.getMaxLen(),
+                streamProducerConfig.getMinIdAge(), streamProducerConfig.isApproximateTrimming());
+    }
+
+    /**
+     * 停止后台刷新线程，并将缓冲中剩余的消息写入Redis
+     */
+    @PreDestroy
+    public void destroy() {
+        flushScheduler.shutdown();
+        try {
+            flushScheduler.awaitTermination(streamProducerConfig.getFlushInterval(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    /**
+     * 发送一条消息，先写入本地缓冲，缓冲达到一批时在当前线程刷新该流
+     *
+     * @param streamName 流名称
+     * @param message    消息键值对
+     */
+    @Override
+    public void send(String streamName, Map<String, String> message) {
+        if (message == null || message.isEmpty()) {
+            throw new IllegalArgumentException("Stream 消息不能为空");
+        }
+        StreamBuffer buffer = buffers.computeIfAbsent(streamName, name -> new StreamBuffer());
+        reserve(streamName, buffer);
+        buffer.messages.add(message);
+        if (buffer.size.get() >= streamProducerConfig.getBatchSize()) {
+            try {
+                flush(streamName, buffer, false);
+            } catch (Exception e) {
+                log.warn("Stream 批量生产者刷新失败，消息保留在缓冲中等待下次刷新 streamName={}, pending={}",
+                        streamName, buffer.size.get(), e);
+            }
+        }
+    }
+
+    /**
+     * 立即将所有流缓冲中的消息写入Redis
+     */
+    @Override
+    public void flush() {
+        buffers.forEach((streamName, buffer) -> flush(streamName, buffer, true));
+    }
+
+    /**
+     * 获取本地缓冲中尚未写入的消息数量
+     *
+     * @return 待写入的消息数量
+     */
+    @Override
+    public int pendingMessages() {
+        int pending = 0;
+        for (StreamBuffer buffer : buffers.values()) {
+            pending += buffer.size.get();
+        }
+        return pending;
+    }
+
+    /**
+     * 为一条消息占用缓冲位置，缓冲已满时先尝试刷新一次，刷新后仍然已满则拒绝
+     *
+     * @param streamName 流名称
+     * @param buffer     流缓冲
+     */
+    private void reserve(String streamName, StreamBuffer buffer) {
+        int maxBuffered = streamProducerConfig.getMaxBufferedMessages();
+        if (buffer.size.incrementAndGet() <= maxBuffered) {
+            return;
+        }
+        buffer.size.decrementAndGet();
+        try {
+            flush(streamName, buffer, false);
+        } catch (Exception e) {
+            log.warn("Stream 批量生产者缓冲已满，刷新失败 streamName={}", streamName, e);
+        }
+        if (buffer.size.incrementAndGet() > maxBuffered) {
+            buffer.size.decrementAndGet();
+            log.error("Stream 批量生产者缓冲已满，拒绝发送 streamName={}, maxBufferedMessages={}", streamName, maxBuffered);
+            throw new RejectedExecutionException("Stream 批量生产者缓冲已满: " + streamName);
+        }
+    }
+
+    /**
+     * 按批次取出流缓冲中的消息并通过管道写入
+     * 同一个流的刷新串行执行，保证 flush 返回时其他线程已取出的批次也已写入完成
+     *
+     * @param streamName 流名称
+     * @param buffer     流缓冲
+     * @param drainAll   是否写入全部缓冲，否则只写入完整的批次
+     */
+    private void flush(String streamName, StreamBuffer buffer, boolean drainAll) {
+        synchronized (buffer) {
+            drain(streamName, buffer, drainAll);
+        }
+    }
+
+    /**
+     * 按批次取出流缓冲中的消息并通过管道写入，整批失败时放回整批，部分失败时只放回失败的消息
+     * 有消息写入失败时抛出异常并停止本次刷新，避免 Redis 不可用时反复重试
+     *
+     * @param streamName 流名称
+     * @param buffer     流缓冲
+     * @param drainAll   是否写入全部缓冲，否则只写入完整的批次
+     */
+    private void drain(String streamName, StreamBuffer buffer, boolean drainAll) {
+        int batchSize = streamProducerConfig.getBatchSize();
+        while (drainAll ? buffer.size.get() > 0 : buffer.size.get() >= batchSize) {
+            List<Map<String, String>> batch = new ArrayList<>(batchSize);
+            Map<String, String> message;
+            while (batch.size() < batchSize && (message = buffer.messages.poll()) != null) {
+                batch.add(message);
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            buffer.size.addAndGet(-batch.size());
+            List<String> messageIds;
+            try {
+                messageIds = streamCacheProvider.addMessagesPipelined(streamName, batch, addOptions());
+            } catch (Exception e) {
+                buffer.messages.addAll(batch);
+                buffer.size.addAndGet(batch.size());
+                throw e;
+            }
+            int failed = 0;
+            for (int i = 0; i < batch.size(); i++) {
+                if (messageIds.get(i) == null) {
+                    buffer.messages.add(batch.get(i));
+                    failed++;
+                }
+            }
+            if (failed > 0) {
+                buffer.size.addAndGet(failed);
+                throw new IllegalStateException("Stream 批量写入部分失败: streamName=" + streamName
+                        + ", batchSize=" + batch.size() + ", failed=" + failed);
+            }
+        }
+    }
+
+    /**
+     * 根据配置生成 XADD 裁剪选项，MAXLEN 优先于 MINID
+     *
+     * @return XADD 选项
+     */
+    private RedisStreamCommands.XAddOptions addOptions() {
+        RedisStreamCommands.XAddOptions options;
+        if (streamProducerConfig.getMaxLen() > 0) {
+            options = RedisStreamCommands.XAddOptions.maxlen(streamProducerConfig.getMaxLen());
+        } else if (streamProducerConfig.getMinIdAge() > 0) {
+            long minTime = System.currentTimeMillis() - streamProducerConfig.getMinIdAge();
+            options = RedisStreamCommands.XAddOptions.none().minId(RecordId.of(minTime, 0));
+        } else {
+            return RedisStreamCommands.XAddOptions.none();
+        }
+        return options.approximateTrimming(streamProducerConfig.isApproximateTrimming());
+    }
+
+    /**
+     * 后台定时刷新，异常只记录日志，避免定时任务被取消
+     */
+    private void scheduledFlush() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("Stream 批量生产者定时刷新失败，消息保留到下次刷新", e);
+        }
+    }
+}
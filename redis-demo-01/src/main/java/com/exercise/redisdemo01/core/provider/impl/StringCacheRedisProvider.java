@@ -1,14 +1,18 @@
 package com.exercise.redisdemo01.core.provider.impl;
 
+import com.exercise.redisdemo01.core.model.bean.CacheEntry;
 import com.exercise.redisdemo01.core.provider.StringCacheProvider;
+import com.exercise.redisdemo01.core.util.LogValues;
+import com.exercise.redisdemo01.core.util.RedisPipelines;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.SetArgs;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -23,6 +27,16 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class StringCacheRedisProvider implements StringCacheProvider {
 
+    /**
+     * 批量写入时默认的管道批次大小
+     */
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /**
+     * SET 成功时 Redis 返回的状态回复
+     */
+    private static final String OK = "OK";
+
     /**
      * Redis模板
      */
@@ -39,9 +53,11 @@ public class StringCacheRedisProvider implements StringCacheProvider {
         try {
             checkSize(key, value);
             redisTemplate.opsForValue().set(key, value);
-            log.debug("设置缓存成功 key={}, value={}", key, value);
+            if (log.isDebugEnabled()) {
+                log.debug("设置缓存成功 key={}, value={}", key, LogValues.brief(value));
+            }
         } catch (Exception e) {
-            log.error("直接设置缓存失败 key={}, value={}", key, value, e);
+            log.error("直接设置缓存失败 key={}, value={}", key, LogValues.brief(value), e);
             throw e;
         }
     }
@@ -58,7 +74,9 @@ public class StringCacheRedisProvider implements StringCacheProvider {
         try {
             checkSize(key, value);
             Boolean result = redisTemplate.opsForValue().setIfAbsent(key, value);
-            log.debug("设置缓存成功 key={}, value={}, result={}", key, value, result);
+            if (log.isDebugEnabled()) {
+                log.debug("设置缓存成功 key={}, value={}, result={}", key, LogValues.brief(value), result);
+            }
             return result;
         } catch (Exception e) {
             logSetStringError(key, value, e);
@@ -67,7 +85,7 @@ public class StringCacheRedisProvider implements StringCacheProvider {
     }
 
     private static void logSetStringError(String key, String value, Exception e) {
-        log.error("设置缓存失败 key={}, value={}", key, value, e);
+        log.error("设置缓存失败 key={}, value={}", key, LogValues.brief(value), e);
     }
 
     /**
@@ -82,7 +100,9 @@ public class StringCacheRedisProvider implements StringCacheProvider {
         try {
             checkSize(key, value);
             Boolean result = redisTemplate.opsForValue().setIfAbsent(key, value, expire, TimeUnit.SECONDS);
-            log.debug("设置缓存成功 key={}, value={}, result={}, expire={}s", key, value, result, expire);
+            if (log.isDebugEnabled()) {
+                log.debug("设置缓存成功 key={}, value={}, result={}, expire={}s", key, LogValues.brief(value), result, expire);
+            }
             return result;
         } catch (Exception e) {
             logSetStringError(key, value, e);
@@ -102,7 +122,9 @@ public class StringCacheRedisProvider implements StringCacheProvider {
         try {
             checkSize(key, value);
             String result = redisTemplate.opsForValue().getAndSet(key, value);
-            log.debug("获取并设置缓存成功 key={}, value={}, result={}", key, value, result);
+            if (log.isDebugEnabled()) {
+                log.debug("获取并设置缓存成功 key={}, value={}, result={}", key, LogValues.brief(value), LogValues.brief(result));
+            }
             return result;
         } catch (Exception e) {
             logSetStringError(key, value, e);
@@ -117,7 +139,7 @@ public class StringCacheRedisProvider implements StringCacheProvider {
      */
     private static void checkSize(String key, String value) {
         if (value.length() > 1024 * 1024) {
-            log.warn("value大小超过1MB，拒绝写入,key={},value={},size={}", key, value, value.length());
+            log.warn("value大小超过1MB，拒绝写入,key={},value={},size={}", key, LogValues.brief(value), value.length());
         }
     }
 
@@ -133,9 +155,11 @@ public class StringCacheRedisProvider implements StringCacheProvider {
         try {
             checkSize(key, value);
             redisTemplate.opsForValue().set(key, value, expire, TimeUnit.SECONDS);
-            log.debug("设置带过期时间缓存成功 key={}, value={}, expire={}", key, value, expire);
+            if (log.isDebugEnabled()) {
+                log.debug("设置带过期时间缓存成功 key={}, value={}, expire={}", key, LogValues.brief(value), expire);
+            }
         } catch (Exception e) {
-            log.error("设置带过期时间缓存失败 key={}, value={}, expire={}", key, value, expire, e);
+            log.error("设置带过期时间缓存失败 key={}, value={}, expire={}", key, LogValues.brief(value), expire, e);
             throw e;
         }
     }
@@ -150,7 +174,9 @@ public class StringCacheRedisProvider implements StringCacheProvider {
     public long ttlKey(String key) {
         try {
             long expire = redisTemplate.getExpire(key);
-            log.debug("获取缓存过期时间 key={}, expire={}", key, expire);
+            if (log.isDebugEnabled()) {
+                log.debug("获取缓存过期时间 key={}, expire={}", key, expire);
+            }
             return expire;
         } catch (Exception e) {
             log.error("获取缓存过期时间失败 key={}", key, e);
@@ -169,7 +195,9 @@ public class StringCacheRedisProvider implements StringCacheProvider {
         try {
             String value = redisTemplate.opsForValue().get(key);
             String result = Objects.isNull(value) ? "" : value;
-            log.debug("获取缓存 key={}, value={}", key, result);
+            if (log.isDebugEnabled()) {
+                log.debug("获取缓存 key={}, value={}", key, LogValues.brief(result));
+            }
             return result;
         } catch (Exception e) {
             log.error("获取缓存失败 key={}", key, e);
@@ -203,7 +231,9 @@ public class StringCacheRedisProvider implements StringCacheProvider {
     public void incrString(String key, long value) {
         try {
             redisTemplate.opsForValue().increment(key, value);
-            log.debug("自定义量自增缓存 key={}, value={}", key, value);
+            if (log.isDebugEnabled()) {
+                log.debug("自定义量自增缓存 key={}, value={}", key, value);
+            }
         } catch (Exception e) {
             log.error("自定义量自增缓存失败 key={}, value={}", key, value, e);
             throw e;
@@ -220,7 +250,9 @@ public class StringCacheRedisProvider implements StringCacheProvider {
     public void incrString(String key, double value) {
         try {
             redisTemplate.opsForValue().increment(key, value);
-            log.debug("自定义量自增缓存(double) key={}, value={}", key, value);
+            if (log.isDebugEnabled()) {
+                log.debug("自定义量自增缓存(double) key={}, value={}", key, value);
+            }
         } catch (Exception e) {
             log.error("自定义量自增缓存(double)失败 key={}, value={}", key, value, e);
             throw e;
@@ -253,7 +285,9 @@ public class StringCacheRedisProvider implements StringCacheProvider {
     public void decrString(String key, long value) {
         try {
             redisTemplate.opsForValue().decrement(key, value);
-            log.debug("自定义量自减缓存 key={}, value={}", key, value);
+            if (log.isDebugEnabled()) {
+                log.debug("自定义量自减缓存 key={}, value={}", key, value);
+            }
         } catch (Exception e) {
             log.error("自定义量自减缓存失败 key={}, value={}", key, value, e);
             throw e;
@@ -268,9 +302,11 @@ public class StringCacheRedisProvider implements StringCacheProvider {
     public void batchSetString(Map<String, String> map) {
         try {
             redisTemplate.opsForValue().multiSet(map);
-            log.debug("批量设置缓存成功 map={}", map);
+            if (log.isDebugEnabled()) {
+                log.debug("批量设置缓存成功 map={}", LogValues.brief(map));
+            }
         } catch (Exception e) {
-            log.error("批量设置缓存失败 map={}", map, e);
+            log.error("批量设置缓存失败 map={}", LogValues.brief(map), e);
             throw e;
         }
     }
@@ -292,9 +328,11 @@ public class StringCacheRedisProvider implements StringCacheProvider {
                 stringHashMap.put(keysAndValues[i], keysAndValues[i + 1]);
             }
             redisTemplate.opsForValue().multiSet(stringHashMap);
-            log.debug("批量设置缓存成功 keysAndValues={}", (Object) keysAndValues);
+            if (log.isDebugEnabled()) {
+                log.debug("批量设置缓存成功 keysAndValues={}", LogValues.brief(keysAndValues));
+            }
         } catch (Exception e) {
-            log.error("批量设置缓存失败 keysAndValues={}", (Object) keysAndValues, e);
+            log.error("批量设置缓存失败 keysAndValues={}", LogValues.brief(keysAndValues), e);
             throw e;
         }
     }
@@ -308,13 +346,94 @@ public class StringCacheRedisProvider implements StringCacheProvider {
     public void batchSetWhenNotExists(Map<String, String> map) {
         try {
             redisTemplate.opsForValue().multiSetIfAbsent(map);
-            log.debug("当缓存不存在，批量设置缓存成功 map={}", map);
+            if (log.isDebugEnabled()) {
+                log.debug("当缓存不存在，批量设置缓存成功 map={}", LogValues.brief(map));
+            }
         } catch (Exception e) {
-            log.error("批量设置缓存失败 map={}", map, e);
+            log.error("批量设置缓存失败 map={}", LogValues.brief(map), e);
             throw e;
         }
     }
 
+    /**
+     * 批量设置带过期时间的缓存，所有key使用相同的过期时间，按默认批次大小通过管道发送
+     *
+     * @param map    缓存map
+     * @param expire 过期时间（秒），小于等于0表示不过期
+     * @return 每个key的写入结果，保持入参的遍历顺序
+     */
+    @Override
+    public Map<String, Boolean> batchSetStringWithExpire(Map<String, String> map, long expire) {
+        List<CacheEntry> entries = new ArrayList<>(map.size());
+        map.forEach((key, value) -> entries.add(new CacheEntry(key, value, expire)));
+        return batchSetStringWithExpire(entries, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * 批量设置带过期时间的缓存，每个条目可以指定独立的过期时间
+     * 条目按批次大小切分，每一批通过一次管道发送 SET key value EX expire，避免逐个key的网络往返
+     *
+     * @param entries   缓存条目列表
+     * @param batchSize 每一批管道发送的条目数量，必须大于0
+     * @return 每个key的写入结果，保持入参的顺序，写入失败的key对应false
+     */
+    @Override
+    public Map<String, Boolean> batchSetStringWithExpire(List<CacheEntry> entries, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("批次大小必须大于0");
+        }
+        for (CacheEntry entry : entries) {
+            checkSize(entry.getKey(), entry.getValue());
+        }
+        Map<String, Boolean> result = new LinkedHashMap<>(entries.size() * 4 / 3 + 1);
+        int total = entries.size();
+        for (int from = 0; from < total; from += batchSize) {
+            List<CacheEntry> batch = entries.subList(from, Math.min(from + batchSize, total));
+            List<Object> replies = pipelineSet(batch);
+            for (int i = 0; i < batch.size(); i++) {
+                result.put(batch.get(i).getKey(), OK.equals(replies.get(i)));
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("批量设置带过期时间缓存完成 total={}, batchSize={}", total, batchSize);
+        }
+        return result;
+    }
+
+    /**
+     * 通过一次管道发送一批 SET 命令，按单条命令收集结果
+     * 管道中部分命令失败时不会中断整批，失败命令对应的结果为异常对象
+     *
+     * @param batch 当前批次的缓存条目
+     * @return 与批次条目一一对应的命令结果，成功为 OK
+     */
+    private List<Object> pipelineSet(List<CacheEntry> batch) {
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+        List<Object> replies;
+        try {
+            replies = RedisPipelines.executeEach(redisTemplate, commands -> {
+                List<RedisFuture<String>> futures = new ArrayList<>(batch.size());
+                for (CacheEntry entry : batch) {
+                    byte[] key = Objects.requireNonNull(serializer.serialize(entry.getKey()));
+                    byte[] value = Objects.requireNonNull(serializer.serialize(entry.getValue()));
+                    futures.add(entry.getExpire() > 0
+                            ? commands.set(key, value, SetArgs.Builder.ex(entry.getExpire()))
+                            : commands.set(key, value));
+                }
+                return futures;
+            });
+        } catch (Exception e) {
+            log.error("管道批量设置缓存失败 batchSize={}", batch.size(), e);
+            throw e;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            if (replies.get(i) instanceof Exception error) {
+                log.error("管道批量设置缓存部分失败 key={}, error={}", batch.get(i).getKey(), error.getMessage());
+            }
+        }
+        return replies;
+    }
+
     /**
      * 设置缓存的bit位
      *
@@ -326,7 +445,9 @@ public class StringCacheRedisProvider implements StringCacheProvider {
     public void setBitString(String key, long offset, boolean value) {
         try {
             redisTemplate.opsForValue().setBit(key, offset, value);
-            log.debug("设置缓存bit位 key={}, offset={}, value={}", key, offset, value);
+            if (log.isDebugEnabled()) {
+                log.debug("设置缓存bit位 key={}, offset={}, value={}", key, offset, value);
+            }
         } catch (Exception e) {
             log.error("设置缓存bit位失败 key={}, offset={}, value={}", key, offset, value, e);
             throw e;
@@ -344,7 +465,9 @@ public class StringCacheRedisProvider implements StringCacheProvider {
     public Boolean getBitString(String key, long offset) {
         try {
             Boolean result = redisTemplate.opsForValue().getBit(key, offset);
-            log.debug("获取缓存bit位 key={}, offset={}, result={}", key, offset, result);
+            if (log.isDebugEnabled()) {
+                log.debug("获取缓存bit位 key={}, offset={}, result={}", key, offset, result);
+            }
             return result;
         } catch (Exception e) {
             log.error("获取缓存bit位失败 key={}, offset={}", key, offset, e);
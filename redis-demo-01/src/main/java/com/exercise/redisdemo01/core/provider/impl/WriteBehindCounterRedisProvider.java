@@ -0,0 +1,398 @@
+package com.exercise.redisdemo01.core.provider.impl;
+
+import com.exercise.redisdemo01.core.config.WriteBehindConfig;
+import com.exercise.redisdemo01.core.model.bean.WriteBehindMetrics;
+import com.exercise.redisdemo01.core.provider.WriteBehindCounterProvider;
+import com.exercise.redisdemo01.core.util.RedisPipelines;
+import io.lettuce.core.RedisFuture;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 基于本地合并 + 管道批量写入实现的计数器延迟写提供者
+ * <p>
+ * 增量按key（哈希按key与字段）合并到 ConcurrentHashMap，刷新时逐个 remove 取出增量，
+ * 与并发的合并操作不会互相覆盖；待刷新条目达到上限时立即触发刷新，否则由后台线程按间隔刷新，
+ * 进程关闭前会再刷新一次。因网络等原因写入失败的增量合并回本地，等待下次刷新重试；
+ * 服务端明确拒绝的命令（如类型错误、自增溢出）重试也不会成功，直接丢弃并计入指标。
+ * 本地缓冲达到条目上限后，新的key直接同步写入Redis，不再扩大缓冲。
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WriteBehindCounterRedisProvider implements WriteBehindCounterProvider {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final WriteBehindConfig writeBehindConfig;
+
+    /**
+     * 待刷新的String计数器增量，key为缓存key
+     */
+    private final Map<String, Long> pendingKeys = new ConcurrentHashMap<>();
+
+    /**
+     * 待刷新的哈希字段增量
+     */
+    private final Map<HashField, Long> pendingFields = new ConcurrentHashMap<>();
+
+    /**
+     * 是否已经提交了一次按数量触发的刷新，避免高频写入时重复提交
+     */
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final AtomicLong flushCount = new AtomicLong();
+
+    private final AtomicLong flushedCommands = new AtomicLong();
+
+    private final AtomicLong failedFlushes = new AtomicLong();
+
+    private final AtomicLong droppedCommands = new AtomicLong();
+
+    private final AtomicLong directWrites = new AtomicLong();
+
+    private volatile long lastFlushTime;
+
+    private ScheduledExecutorService flushScheduler;
+
+    /**
+     * 哈希表的键与字段
+     *
+     * @param key   哈希表的键
+     * @param field 字段名
+     */
+    private record HashField(String key, String field) {
+    }
+
+    /**
+     * 一条待写入的增量，field为null时表示String计数器
+     *
+     * @param key   缓存key或哈希表的键
+     * @param field 字段名
+     * @param delta 增量
+     */
+    private record PendingDelta(String key, String field, long delta) {
+    }
+
+    /**
+     * 启动后台刷新线程
+     */
+    @PostConstruct
+    public void init() {
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "redis-write-behind-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = writeBehindConfig.getFlushInterval();
+        flushScheduler.scheduleWithFixedDelay(this::scheduledFlush, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("计数器延迟写初始化成功 flushInterval={}ms, maxPendingKeys={}, batchSize={}",
+                interval, writeBehindConfig.getMaxPendingKeys(), writeBehindConfig.getBatchSize());
+    }
+
+    /**
+     * 停止后台刷新线程，并将剩余的增量写入Redis
+     */
+    @PreDestroy
+    public void destroy() {
+        flushScheduler.shutdown();
+        try {
+            flushScheduler.awaitTermination(writeBehindConfig.getFlushInterval(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        WriteBehindMetrics metrics = metrics();
+        if (metrics.getPendingKeys() > 0 || metrics.getPendingFields() > 0) {
+            log.error("计数器延迟写关闭时仍有增量未写入 pendingKeys={}, pendingFields={}, pendingDelta={}",
+                    metrics.getPendingKeys(), metrics.getPendingFields(), metrics.getPendingDelta());
+        }
+    }
+
+    /**
+     * 延迟自增1
+     *
+     * @param key 缓存key
+     */
+    @Override
+    public void incrString(String key) {
+        incrString(key, 1L);
+    }
+
+    /**
+     * 延迟自定义量自增
+     *
+     * @param key   缓存key
+     * @param value 自增数量
+     */
+    @Override
+    public void incrString(String key, long value) {
+        if (!pendingKeys.containsKey(key) && isPendingFull()) {
+            writeDirectly(new PendingDelta(key, null, value));
+            return;
+        }
+        pendingKeys.merge(key, value, WriteBehindCounterRedisProvider::sumOrRemove);
+        checkPendingSize();
+    }
+
+    /**
+     * 延迟自减1
+     *
+     * @param key 缓存key
+     */
+    @Override
+    public void decrString(String key) {
+        incrString(key, -1L);
+    }
+
+    /**
+     * 延迟自定义量自减
+     *
+     * @param key   缓存key
+     * @param value 自减数量
+     */
+    @Override
+    public void decrString(String key, long value) {
+        incrString(key, -value);
+    }
+
+    /**
+     * 延迟将哈希表中指定字段的值增加指定整数
+     *
+     * @param key   哈希表的键
+     * @param field 字段名
+     * @param delta 增加的数值
+     */
+    @Override
+    public void incrBy(String key, String field, long delta) {
+        HashField hashField = new HashField(key, field);
+        if (!pendingFields.containsKey(hashField) && isPendingFull()) {
+            writeDirectly(new PendingDelta(key, field, delta));
+            return;
+        }
+        pendingFields.merge(hashField, delta, WriteBehindCounterRedisProvider::sumOrRemove);
+        checkPendingSize();
+    }
+
+    /**
+     * 立即将所有待刷新的增量通过管道写入Redis，按批次大小切分，每一批一次管道
+     * 同一时刻只有一个线程在刷新，保证同一个key的增量按顺序写入
+     */
+    @Override
+    public synchronized void flush() {
+        flushRequested.set(false);
+        List<PendingDelta> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        int batchSize = writeBehindConfig.getBatchSize();
+        int failed = 0;
+        for (int from = 0; from < deltas.size(); from += batchSize) {
+            List<PendingDelta> batch = deltas.subList(from, Math.min(from + batchSize, deltas.size()));
+            failed += pipelineIncr(batch);
+        }
+        if (failed > 0) {
+            failedFlushes.incrementAndGet();
+            log.error("计数器延迟写刷新部分失败，失败的增量保留到下次刷新 total={}, failed={}",
+                    deltas.size(), failed);
+            return;
+        }
+        flushCount.incrementAndGet();
+        lastFlushTime = System.currentTimeMillis();
+        if (log.isDebugEnabled()) {
+            log.debug("计数器延迟写刷新成功 commands={}", deltas.size());
+        }
+    }
+
+    /**
+     * 获取当前的运行指标快照
+     *
+     * @return 运行指标
+     */
+    @Override
+    public WriteBehindMetrics metrics() {
+        long pendingDelta = 0;
+        for (Long delta : pendingKeys.values()) {
+            pendingDelta += Math.abs(delta);
+        }
+        for (Long delta : pendingFields.values()) {
+            pendingDelta += Math.abs(delta);
+        }
+        return new WriteBehindMetrics(pendingKeys.size(), pendingFields.size(), pendingDelta,
+                flushCount.get(), flushedCommands.get(), failedFlushes.get(), lastFlushTime,
+                droppedCommands.get(), directWrites.get());
+    }
+
+    /**
+     * 后台定时刷新，异常只记录日志，避免定时任务被取消
+     */
+    private void scheduledFlush() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("计数器延迟写定时刷新失败，增量保留到下次刷新", e);
+        }
+    }
+
+    /**
+     * 本地缓冲是否已达到条目上限，并发写入时可能略微超出
+     *
+     * @return 达到上限时返回true
+     */
+    private boolean isPendingFull() {
+        return pendingKeys.size() + pendingFields.size() >= writeBehindConfig.getMaxPendingEntries();
+    }
+
+    /**
+     * 本地缓冲已满时直接同步写入一条增量，写入失败时抛出异常，由调用方决定是否重试
+     *
+     * @param delta 增量
+     */
+    private void writeDirectly(PendingDelta delta) {
+        try {
+            if (delta.field() == null) {
+                redisTemplate.opsForValue().increment(delta.key(), delta.delta());
+            } else {
+                redisTemplate.opsForHash().increment(delta.key(), delta.field(), delta.delta());
+            }
+            directWrites.incrementAndGet();
+        } catch (Exception e) {
+            log.error("计数器延迟写缓冲已满，同步写入失败 key={}, field={}, delta={}",
+                    delta.key(), delta.field(), delta.delta(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * 待刷新条目达到上限时，提交一次立即刷新
+     */
+    private void checkPendingSize() {
+        if (pendingKeys.size() + pendingFields.size() >= writeBehindConfig.getMaxPendingKeys()
+                && flushRequested.compareAndSet(false, true)) {
+            try {
+                flushScheduler.execute(this::scheduledFlush);
+            } catch (Exception e) {
+                flushRequested.set(false);
+                log.warn("提交计数器延迟写刷新失败，等待定时刷新", e);
+            }
+        }
+    }
+
+    /**
+     * 取出所有待刷新的增量，逐个 remove 保证并发合并的增量要么被本次取出，要么留给下次刷新
+     *
+     * @return 待写入的增量列表
+     */
+    private List<PendingDelta> drain() {
+        List<PendingDelta> deltas = new ArrayList<>(pendingKeys.size() + pendingFields.size());
+        for (String key : pendingKeys.keySet()) {
+            Long delta = pendingKeys.remove(key);
+            if (delta != null) {
+                deltas.add(new PendingDelta(key, null, delta));
+            }
+        }
+        for (HashField hashField : pendingFields.keySet()) {
+            Long delta = pendingFields.remove(hashField);
+            if (delta != null) {
+                deltas.add(new PendingDelta(hashField.key(), hashField.field(), delta));
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * 通过一次管道发送一批 INCRBY/HINCRBY 命令，按单条命令的结果处理：
+     * 服务端拒绝的增量丢弃并计数，其他原因失败的增量合并回本地
+     *
+     * @param batch 当前批次的增量
+     * @return 需要重试的命令数量
+     */
+    private int pipelineIncr(List<PendingDelta> batch) {
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+        List<Object> results;
+        try {
+            results = RedisPipelines.executeEach(redisTemplate, commands -> {
+                List<RedisFuture<?>> futures = new ArrayList<>(batch.size());
+                for (PendingDelta delta : batch) {
+                    byte[] key = Objects.requireNonNull(serializer.serialize(delta.key()));
+                    if (delta.field() == null) {
+                        futures.add(commands.incrby(key, delta.delta()));
+                    } else {
+                        futures.add(commands.hincrby(key,
+                                Objects.requireNonNull(serializer.serialize(delta.field())), delta.delta()));
+                    }
+                }
+                return futures;
+            });
+        } catch (Exception e) {
+            log.error("计数器延迟写管道失败 batchSize={}", batch.size(), e);
+            batch.forEach(this::restore);
+            return batch.size();
+        }
+        int failed = 0;
+        int dropped = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            Object result = results.get(i);
+            PendingDelta delta = batch.get(i);
+            if (RedisPipelines.isRejected(result)) {
+                dropped++;
+                log.error("计数器延迟写命令被服务端拒绝，丢弃增量 key={}, field={}, delta={}, error={}",
+                        delta.key(), delta.field(), delta.delta(), ((Exception) result).getMessage());
+            } else if (result instanceof Exception error) {
+                failed++;
+                restore(delta);
+                log.warn("计数器延迟写命令失败，增量保留到下次刷新 key={}, field={}, error={}",
+                        delta.key(), delta.field(), error.getMessage());
+            }
+        }
+        droppedCommands.addAndGet(dropped);
+        flushedCommands.addAndGet(batch.size() - failed - dropped);
+        return failed;
+    }
+
+    /**
+     * 将写入失败的增量合并回本地
+     *
+     * @param delta 写入失败的增量
+     */
+    private void restore(PendingDelta delta) {
+        if (delta.field() == null) {
+            pendingKeys.merge(delta.key(), delta.delta(), WriteBehindCounterRedisProvider::sumOrRemove);
+        } else {
+            pendingFields.merge(new HashField(delta.key(), delta.field()), delta.delta(),
+                    WriteBehindCounterRedisProvider::sumOrRemove);
+        }
+    }
+
+    /**
+     * 合并两个增量，结果为0时移除条目，避免正负抵消的key留在本地
+     *
+     * @param left  已有增量
+     * @param right 新增量
+     * @return 合并后的增量，为0时返回null
+     */
+    private static Long sumOrRemove(Long left, Long right) {
+        long sum = left + right;
+        return sum == 0 ? null : sum;
+    }
+}
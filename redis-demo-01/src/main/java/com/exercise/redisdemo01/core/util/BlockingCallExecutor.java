@@ -0,0 +1,193 @@
+package com.exercise.redisdemo01.core.util;
+
+import com.exercise.redisdemo01.core.config.BlockingExecutorConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.SlotHash;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 阻塞调用执行器，将阻塞的提供者调用派发到独立线程执行，调用方立即拿到 CompletableFuture
+ * <p>
+ * 开启虚拟线程时每个调用一个虚拟线程，阻塞期间不占用平台线程；每个Redis节点一个信号量限制并发，
+ * 超出上限的调用在虚拟线程中排队，不会无限占用连接。
+ * 未开启虚拟线程时使用线程数与队列长度都有上限的平台线程池，饱和后新的调用直接以 RejectedExecutionException 失败，
+ * 不会为排队的调用无限创建操作系统线程。
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlockingCallExecutor {
+
+    private final BlockingExecutorConfig blockingExecutorConfig;
+
+    private final LettuceConnectionFactory connectionFactory;
+
+    /**
+     * 每个节点的并发限制，key为节点地址 host:port
+     */
+    private final Map<String, Semaphore> nodeLimiters = new ConcurrentHashMap<>();
+
+    private ExecutorService executor;
+
+    /**
+     * 阻塞调用
+     */
+    @FunctionalInterface
+    public interface BlockingCall<T> {
+
+        /**
+         * 执行阻塞调用
+         *
+         * @return 调用结果
+         * @throws Exception 调用失败
+         */
+        T call() throws Exception;
+    }
+
+    /**
+     * 创建执行线程池，开启虚拟线程但运行环境不支持时回退为有界的平台线程池
+     */
+    @PostConstruct
+    public void init() {
+        if (blockingExecutorConfig.isVirtualThreads()) {
+            executor = newVirtualThreadExecutor();
+        }
+        if (executor == null) {
+            AtomicInteger threadIndex = new AtomicInteger();
+            int threads = blockingExecutorConfig.getPlatformThreads();
+            ThreadPoolExecutor platformExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(blockingExecutorConfig.getQueueCapacity()), runnable -> {
+                Thread thread = new Thread(runnable, "redis-blocking-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+            platformExecutor.allowCoreThreadTimeOut(true);
+            executor = platformExecutor;
+        }
+        log.info("阻塞调用执行器初始化成功 virtualThreads={}, maxConcurrencyPerNode={}, platformThreads={}, queueCapacity={}",
+                blockingExecutorConfig.isVirtualThreads(), blockingExecutorConfig.getMaxConcurrencyPerNode(),
+                blockingExecutorConfig.getPlatformThreads(), blockingExecutorConfig.getQueueCapacity());
+    }
+
+    /**
+     * 关闭执行线程池，中断仍在阻塞的调用
+     */
+    @PreDestroy
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 提交一个针对指定key的阻塞调用，按key所在节点限制并发
+     *
+     * @param key  调用操作的Redis key，用于定位节点
+     * @param call 阻塞调用
+     * @return 调用结果，调用失败时以异常完成
+     */
+    public <T> CompletableFuture<T> submit(String key, BlockingCall<T> call) {
+        return submitOnNode(nodeFor(key), call);
+    }
+
+    /**
+     * 提交一个针对指定节点的阻塞调用，如集群模式下逐个节点执行的 SCAN
+     *
+     * @param node 节点地址 host:port
+     * @param call 阻塞调用
+     * @return 调用结果，调用失败或线程池饱和时以异常完成
+     */
+    public <T> CompletableFuture<T> submitOnNode(String node, BlockingCall<T> call) {
+        Semaphore limiter = nodeLimiters.computeIfAbsent(node,
+                address -> new Semaphore(blockingExecutorConfig.getMaxConcurrencyPerNode(), true));
+        try {
+            return supplyLimited(limiter, call);
+        } catch (RejectedExecutionException e) {
+            log.warn("阻塞调用执行器已饱和，拒绝调用 node={}", node);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 在执行线程池中获取节点许可后执行调用
+     *
+     * @param limiter 节点的并发限制
+     * @param call    阻塞调用
+     * @return 调用结果
+     * @throws RejectedExecutionException 线程池饱和
+     */
+    private <T> CompletableFuture<T> supplyLimited(Semaphore limiter, BlockingCall<T> call) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                limiter.acquire();
+                try {
+                    return call.call();
+                } finally {
+                    limiter.release();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * 定位key所在的节点，集群模式下按槽位在客户端缓存的集群拓扑中查找主节点，不需要额外打开连接；
+     * 单机模式或拓扑中找不到槽位时为配置的地址
+     *
+     * @param key Redis key
+     * @return 节点地址 host:port
+     */
+    private String nodeFor(String key) {
+        if (connectionFactory.isClusterAware() && connectionFactory.getNativeClient() instanceof RedisClusterClient client) {
+            RedisClusterNode node = client.getPartitions().getMasterBySlot(SlotHash.getSlot(key));
+            if (node != null) {
+                RedisURI uri = node.getUri();
+                return uri.getHost() + ":" + uri.getPort();
+            }
+        }
+        return connectionFactory.getHostName() + ":" + connectionFactory.getPort();
+    }
+
+    /**
+     * 通过反射创建虚拟线程执行器，项目仍以 Java 17 编译，不能直接引用 Java 21 的API
+     *
+     * @return 虚拟线程执行器，运行环境不支持时返回null
+     */
+    public static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            log.warn("当前运行环境不支持虚拟线程，回退为平台线程执行阻塞调用 java.version={}",
+                    System.getProperty("java.version"));
+            return null;
+        }
+    }
+}
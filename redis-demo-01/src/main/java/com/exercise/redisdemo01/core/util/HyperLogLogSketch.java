@@ -0,0 +1,179 @@
+package com.exercise.redisdemo01.core.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 本地 HyperLogLog 草图，哈希算法与寄存器布局与 Redis 一致，可以序列化为 Redis 的 dense 编码交给 PFMERGE 合并
+ * <p>
+ * 与 Redis 相同使用 16384 个寄存器：元素按 MurmurHash64A（种子 0xadc83b19）计算64位哈希，
+ * 低14位选择寄存器，其余位中从最低位开始第一个1出现的位置作为寄存器的候选值，寄存器保留最大值。
+ * 本地每个寄存器占一个字节，只在序列化时按6位紧凑排列。非线程安全，由调用方负责同步。
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+public final class HyperLogLogSketch {
+
+    /**
+     * 寄存器数量 2^14
+     */
+    static final int REGISTERS = 1 << 14;
+
+    /**
+     * dense 编码的头部长度：魔数 HYLL(4) + 编码(1) + 保留(3) + 基数缓存(8)
+     */
+    static final int HEADER_SIZE = 16;
+
+    /**
+     * dense 编码的总长度，每个寄存器6位
+     */
+    static final int DENSE_SIZE = HEADER_SIZE + (REGISTERS * 6 + 7) / 8;
+
+    /**
+     * Redis 计算元素哈希使用的种子
+     */
+    private static final long SEED = 0xadc83b19L;
+
+    private final byte[] registers = new byte[REGISTERS];
+
+    /**
+     * 是否没有添加过元素
+     */
+    private boolean empty = true;
+
+    /**
+     * 添加一个元素，按UTF-8编码后计算哈希，与 PFADD 同一字符串的结果一致
+     *
+     * @param element 元素
+     * @return 是否改变了某个寄存器
+     */
+    public boolean add(String element) {
+        return add(element.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 添加一个元素
+     *
+     * @param element 元素的原始字节
+     * @return 是否改变了某个寄存器
+     */
+    public boolean add(byte[] element) {
+        long hash = murmurHash64A(element, SEED);
+        int index = (int) (hash & (REGISTERS - 1));
+        // 最高位补1保证循环结束，与 Redis 的 hllPatLen 一致，取值范围为 1~51
+        int count = Long.numberOfTrailingZeros((hash >>> 14) | (1L << 50)) + 1;
+        empty = false;
+        if (count > registers[index]) {
+            registers[index] = (byte) count;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 合并另一个草图，每个寄存器取最大值
+     *
+     * @param other 另一个草图
+     */
+    public void merge(HyperLogLogSketch other) {
+        for (int i = 0; i < REGISTERS; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+        empty &= other.empty;
+    }
+
+    /**
+     * 是否没有添加过元素
+     *
+     * @return 没有添加过元素时返回true
+     */
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * 序列化为 Redis 的 dense 编码，基数缓存标记为失效，由服务端在 PFCOUNT 时重新计算
+     *
+     * @return dense 编码的字节
+     */
+    public byte[] toDenseBytes() {
+        byte[] bytes = new byte[DENSE_SIZE];
+        bytes[0] = 'H';
+        bytes[1] = 'Y';
+        bytes[2] = 'L';
+        bytes[3] = 'L';
+        // 基数缓存最后一个字节的最高位为1表示缓存失效
+        bytes[HEADER_SIZE - 1] = (byte) 0x80;
+        for (int i = 0; i < REGISTERS; i++) {
+            int value = registers[i];
+            if (value == 0) {
+                continue;
+            }
+            int position = i * 6;
+            int index = HEADER_SIZE + (position >>> 3);
+            int shift = position & 7;
+            bytes[index] |= (byte) (value << shift);
+            if (shift > 2) {
+                bytes[index + 1] |= (byte) (value >>> (8 - shift));
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * MurmurHash64A，与 Redis hyperloglog.c 中的实现一致，按小端读取8字节块
+     *
+     * @param data 数据
+     * @param seed 种子
+     * @return 64位哈希
+     */
+    static long murmurHash64A(byte[] data, long seed) {
+        final long m = 0xc6a4a7935bd1e995L;
+        final int r = 47;
+        int length = data.length;
+        long h = seed ^ (length * m);
+        int blocks = length >>> 3;
+        for (int i = 0; i < blocks; i++) {
+            int offset = i << 3;
+            long k = (data[offset] & 0xFFL)
+                    | (data[offset + 1] & 0xFFL) << 8
+                    | (data[offset + 2] & 0xFFL) << 16
+                    | (data[offset + 3] & 0xFFL) << 24
+                    | (data[offset + 4] & 0xFFL) << 32
+                    | (data[offset + 5] & 0xFFL) << 40
+                    | (data[offset + 6] & 0xFFL) << 48
+                    | (data[offset + 7] & 0xFFL) << 56;
+            k *= m;
+            k ^= k >>> r;
+            k *= m;
+            h ^= k;
+            h *= m;
+        }
+        int tail = blocks << 3;
+        switch (length & 7) {
+            case 7:
+                h ^= (data[tail + 6] & 0xFFL) << 48;
+            case 6:
+                h ^= (data[tail + 5] & 0xFFL) << 40;
+            case 5:
+                h ^= (data[tail + 4] & 0xFFL) << 32;
+            case 4:
+                h ^= (data[tail + 3] & 0xFFL) << 24;
+            case 3:
+                h ^= (data[tail + 2] & 0xFFL) << 16;
+            case 2:
+                h ^= (data[tail + 1] & 0xFFL) << 8;
+            case 1:
+                h ^= data[tail] & 0xFFL;
+                h *= m;
+            default:
+        }
+        h ^= h >>> r;
+        h *= m;
+        h ^= h >>> r;
+        return h;
+    }
+}
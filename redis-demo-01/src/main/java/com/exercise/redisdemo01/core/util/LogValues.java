@@ -0,0 +1,141 @@
+package com.exercise.redisdemo01.core.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 日志参数渲染工具类，供所有缓存提供者统一使用
+ * <p>
+ * 缓存的 value、批量操作的 Map/数组可能非常大，直接交给日志框架格式化会产生大量临时对象。
+ * 这里对字符串做截断、对集合只采样前几个元素并附带总数，保证单条日志的长度有上限。
+ * 调用方应当在 {@code log.isDebugEnabled()} 判断之内调用，关闭调试日志时不会产生任何渲染开销。
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+public final class LogValues {
+
+    /**
+     * 单个值渲染的最大字符数
+     */
+    public static final int MAX_VALUE_LENGTH = 128;
+
+    /**
+     * 集合、数组、Map 最多渲染的元素个数
+     */
+    public static final int MAX_ELEMENTS = 8;
+
+    /**
+     * 单个参数渲染结果的最大字符数
+     */
+    public static final int MAX_TOTAL_LENGTH = 512;
+
+    private LogValues() {
+    }
+
+    /**
+     * 将日志参数渲染为长度受限的字符串
+     *
+     * @param value 日志参数，可以是字符串、集合、数组、Map 或任意对象
+     * @return 截断或采样后的字符串
+     */
+    public static String brief(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof CharSequence charSequence) {
+            return abbreviate(charSequence);
+        }
+        if (value instanceof byte[] bytes) {
+            return "byte[" + bytes.length + "]";
+        }
+        if (value instanceof Map<?, ?> map) {
+            return briefMap(map);
+        }
+        if (value instanceof Collection<?> collection) {
+            return briefIterator(collection.iterator(), collection.size());
+        }
+        if (value instanceof Object[] array) {
+            return briefIterator(Arrays.asList(array).iterator(), array.length);
+        }
+        return abbreviate(String.valueOf(value));
+    }
+
+    /**
+     * 截断过长的字符串，并在末尾标注原始长度
+     *
+     * @param value 字符串
+     * @return 截断后的字符串
+     */
+    private static String abbreviate(CharSequence value) {
+        int length = value.length();
+        if (length <= MAX_VALUE_LENGTH) {
+            return value.toString();
+        }
+        return value.subSequence(0, MAX_VALUE_LENGTH) + "...(length=" + length + ")";
+    }
+
+    /**
+     * 采样渲染 Map，只输出前 {@link #MAX_ELEMENTS} 个键值对
+     *
+     * @param map 待渲染的 Map
+     * @return 采样后的字符串
+     */
+    private static String briefMap(Map<?, ?> map) {
+        StringBuilder sb = new StringBuilder("{");
+        int rendered = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (rendered == MAX_ELEMENTS || sb.length() >= MAX_TOTAL_LENGTH) {
+                break;
+            }
+            if (rendered > 0) {
+                sb.append(", ");
+            }
+            sb.append(brief(entry.getKey())).append('=').append(brief(entry.getValue()));
+            rendered++;
+        }
+        return finish(sb, rendered, map.size(), '}');
+    }
+
+    /**
+     * 采样渲染集合或数组，只输出前 {@link #MAX_ELEMENTS} 个元素
+     *
+     * @param iterator 元素迭代器
+     * @param size     元素总数
+     * @return 采样后的字符串
+     */
+    private static String briefIterator(Iterator<?> iterator, int size) {
+        StringBuilder sb = new StringBuilder("[");
+        int rendered = 0;
+        while (iterator.hasNext() && rendered < MAX_ELEMENTS && sb.length() < MAX_TOTAL_LENGTH) {
+            if (rendered > 0) {
+                sb.append(", ");
+            }
+            sb.append(brief(iterator.next()));
+            rendered++;
+        }
+        return finish(sb, rendered, size, ']');
+    }
+
+    /**
+     * 补全结尾，元素未全部输出时标注总数，并保证总长度不超过上限
+     *
+     * @param sb       已渲染的内容
+     * @param rendered 已渲染的元素个数
+     * @param size     元素总数
+     * @param end      结尾字符
+     * @return 最终字符串
+     */
+    private static String finish(StringBuilder sb, int rendered, int size, char end) {
+        if (sb.length() > MAX_TOTAL_LENGTH) {
+            sb.setLength(MAX_TOTAL_LENGTH);
+        }
+        if (rendered < size) {
+            sb.append(", ...(size=").append(size).append(')');
+        }
+        return sb.append(end).toString();
+    }
+}
@@ -0,0 +1,115 @@
+package com.exercise.redisdemo01.core.util;
+
+import io.lettuce.core.RedisCommandExecutionException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * 逐条返回结果的管道工具类，供需要区分单条命令成败的提供者使用
+ * <p>
+ * Spring 的 executePipelined 在 Lettuce 6.6 下只要有一条命令返回错误，就会抛出不带结果的 RedisPipelineException，
+ * getPipelineResult() 为空，调用方无法知道哪些命令已经生效。这里直接在 Lettuce 的异步连接上连续发送命令，
+ * 命令依然一次性写出、不逐条等待往返，再逐个收集 Future 的结果：成功的位置为命令返回值，
+ * 失败的位置为对应的异常（服务端错误为 RedisCommandExecutionException，超时为 TimeoutException）。
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+public final class RedisPipelines {
+
+    /**
+     * 无法从连接工厂获取命令超时时间时使用的默认超时
+     */
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(60);
+
+    private RedisPipelines() {
+    }
+
+    /**
+     * 在异步连接上批量发送命令，并按发送顺序返回每条命令的结果
+     * 获取连接失败等整体失败时抛出异常，此时可以认为没有命令生效
+     *
+     * @param template Redis模板
+     * @param commands 发送命令的回调，按顺序返回每条命令的 Future
+     * @return 与命令一一对应的结果，失败的位置为异常对象
+     */
+    @SuppressWarnings("unchecked")
+    public static List<Object> executeEach(RedisTemplate<?, ?> template,
+                                           Function<RedisClusterAsyncCommands<byte[], byte[]>, List<? extends RedisFuture<?>>> commands) {
+        long timeout = commandTimeout(template.getConnectionFactory()).toNanos();
+        return template.execute((RedisCallback<List<Object>>) connection -> {
+            RedisClusterAsyncCommands<byte[], byte[]> async =
+                    (RedisClusterAsyncCommands<byte[], byte[]>) connection.getNativeConnection();
+            List<? extends RedisFuture<?>> futures = commands.apply(async);
+            List<Object> results = new ArrayList<>(futures.size());
+            long deadline = System.nanoTime() + timeout;
+            for (RedisFuture<?> future : futures) {
+                results.add(await(future, deadline));
+            }
+            return results;
+        });
+    }
+
+    /**
+     * 判断单条命令的结果是否为服务端明确拒绝（如 WRONGTYPE、value is not an integer、increment would overflow），
+     * 这类错误与网络状态无关，重试也会以同样的原因失败
+     *
+     * @param result executeEach 返回的单条结果
+     * @return 被服务端拒绝时返回true
+     */
+    public static boolean isRejected(Object result) {
+        for (Throwable cause = result instanceof Throwable error ? error : null; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RedisCommandExecutionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 等待单条命令完成，所有命令共用同一个截止时间
+     *
+     * @param future   命令的 Future
+     * @param deadline 截止时间，System.nanoTime() 口径
+     * @return 命令返回值，失败时为异常对象
+     */
+    private static Object await(RedisFuture<?> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            return e.getCause() instanceof Exception cause ? cause : e;
+        } catch (TimeoutException e) {
+            return e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return e;
+        }
+    }
+
+    /**
+     * 获取连接工厂配置的命令超时时间
+     *
+     * @param connectionFactory 连接工厂
+     * @return 命令超时时间
+     */
+    private static Duration commandTimeout(RedisConnectionFactory connectionFactory) {
+        if (connectionFactory instanceof LettuceConnectionFactory lettuce) {
+            return Objects.requireNonNullElse(lettuce.getClientConfiguration().getCommandTimeout(), DEFAULT_TIMEOUT);
+        }
+        return DEFAULT_TIMEOUT;
+    }
+}
@@ -0,0 +1,115 @@
+package com.exercise.redisdemo01.core.util;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Lua 脚本注册表，集中管理提供者使用的所有脚本
+ * <p>
+ * 脚本内容在类初始化时从 classpath 读取一次并以文本形式保存，SHA1 只计算一次，
+ * 执行时不会再检查脚本文件的修改时间，也不会进入 ScriptSource 的同步块；通过 RedisTemplate 执行时先发送 EVALSHA，
+ * 服务端返回 NOSCRIPT（如重启或 SCRIPT FLUSH 之后）时自动改用 EVAL 重新加载。
+ * 启动时预先 SCRIPT LOAD 所有脚本，正常情况下不会再上传脚本内容。
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisScriptRegistry {
+
+    /**
+     * 批量 SADD，每个key可以携带多个成员
+     */
+    public static final DefaultRedisScript<Long> SADD_BATCH = load("lua/sadd_batch.lua");
+
+    /**
+     * 批量 ZADD，每个key可以携带多个成员
+     */
+    public static final DefaultRedisScript<Long> ZADD_BATCH = load("lua/zadd_batch.lua");
+
+    /**
+     * 尝试获取锁，失败时返回锁的剩余存活时间
+     */
+    public static final DefaultRedisScript<Long> LOCK_ACQUIRE = load("lua/lock_acquire.lua");
+
+    /**
+     * 按到达顺序排队获取公平锁
+     */
+    public static final DefaultRedisScript<Long> LOCK_FAIR_ACQUIRE = load("lua/lock_fair_acquire.lua");
+
+    /**
+     * 等待超时后退出公平锁队列
+     */
+    public static final DefaultRedisScript<Long> LOCK_FAIR_CANCEL = load("lua/lock_fair_cancel.lua");
+
+    /**
+     * 校验持有者后释放锁，并发布释放通知
+     */
+    public static final DefaultRedisScript<Long> LOCK_RELEASE = load("lua/lock_release.lua");
+
+    /**
+     * 校验持有者后续期锁
+     */
+    public static final DefaultRedisScript<Long> LOCK_RENEW = load("lua/lock_renew.lua");
+
+    /**
+     * 将客户端生成的 HyperLogLog 合并到目标键
+     */
+    public static final DefaultRedisScript<Long> HLL_MERGE = load("lua/hll_merge.lua");
+
+    /**
+     * 需要预加载的全部脚本
+     */
+    private static final List<DefaultRedisScript<?>> SCRIPTS = List.of(SADD_BATCH, ZADD_BATCH,
+            LOCK_ACQUIRE, LOCK_FAIR_ACQUIRE, LOCK_FAIR_CANCEL, LOCK_RELEASE, LOCK_RENEW, HLL_MERGE);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 启动时预加载所有脚本，失败不影响启动，首次执行时会自动回退为 EVAL
+     */
+    @PostConstruct
+    public void preload() {
+        try {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                for (DefaultRedisScript<?> script : SCRIPTS) {
+                    connection.scriptingCommands().scriptLoad(script.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+            log.info("预加载Lua脚本成功 count={}", SCRIPTS.size());
+        } catch (Exception e) {
+            log.warn("预加载Lua脚本失败，将在首次执行时加载", e);
+        }
+    }
+
+    /**
+     * 读取 classpath 下的脚本文本并创建脚本
+     *
+     * @param path 脚本在 classpath 下的路径
+     * @return 返回值为 Long 的脚本
+     */
+    private static DefaultRedisScript<Long> load(String path) {
+        String scriptText;
+        try {
+            scriptText = new ClassPathResource(path).getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("读取Lua脚本失败: " + path, e);
+        }
+        return new DefaultRedisScript<>(scriptText, Long.class);
+    }
+}
@@ -0,0 +1,322 @@
+package com.exercise.redisdemo01.core.util;
+
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Stream 消息到 Java 对象的映射器，直接从 Redis 返回的原始字节解码字段，不经过中间的 String Map
+ * <p>
+ * 每个类型只在第一次使用时反射解析一次，之后复用预编译的构造器、setter 句柄与字段解码器：
+ * record 类型按字段名匹配组件并调用规范构造器，普通类调用无参构造器后按字段名写入成员变量。
+ * 数值直接从 ASCII 字节解析，byte[] 类型的字段直接引用原始字节；类型为 {@link RecordId} 的字段写入消息ID。
+ * 消息中不存在的字段保持默认值，多余的字段被忽略。
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+public final class StreamRecordMapper<T> {
+
+    /**
+     * 已解析的映射器，key为目标类型
+     */
+    private static final Map<Class<?>, StreamRecordMapper<?>> MAPPERS = new ConcurrentHashMap<>();
+
+    private final Class<T> type;
+
+    /**
+     * 是否为 record 类型
+     */
+    private final boolean recordType;
+
+    /**
+     * record 类型为展开参数后的规范构造器 (Object[])Object，普通类为无参构造器 ()Object
+     */
+    private final MethodHandle constructor;
+
+    /**
+     * 与消息字段对应的属性，不包含写入消息ID的属性
+     */
+    private final Property[] properties;
+
+    /**
+     * 写入消息ID的属性，没有时为null
+     */
+    private final Property idProperty;
+
+    /**
+     * record 类型每个组件的默认值，基本类型为0值，其他为null
+     */
+    private final Object[] defaults;
+
+    /**
+     * 一个可写入的属性
+     *
+     * @param name    字段名的UTF-8字节
+     * @param index   record 组件的位置，普通类不使用
+     * @param decoder 字段值解码器
+     * @param setter  普通类的成员变量写入句柄 (Object, Object)void，record 类型为null
+     */
+    private record Property(byte[] name, int index, Function<byte[], Object> decoder, MethodHandle setter) {
+    }
+
+    private StreamRecordMapper(Class<T> type) {
+        this.type = type;
+        this.recordType = type.isRecord();
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            List<Property> mapped = new ArrayList<>();
+            Property id = null;
+            if (recordType) {
+                RecordComponent[] components = type.getRecordComponents();
+                Class<?>[] parameterTypes = new Class<?>[components.length];
+                defaults = new Object[components.length];
+                for (int i = 0; i < components.length; i++) {
+                    Class<?> componentType = components[i].getType();
+                    parameterTypes[i] = componentType;
+                    defaults[i] = defaultValue(componentType);
+                    Property property = new Property(components[i].getName().getBytes(StandardCharsets.UTF_8), i,
+                            componentType == RecordId.class ? null : decoder(componentType), null);
+                    if (componentType == RecordId.class) {
+                        id = property;
+                    } else {
+                        mapped.add(property);
+                    }
+                }
+                Constructor<T> canonical = type.getDeclaredConstructor(parameterTypes);
+                MethodHandle handle = lookup.unreflectConstructor(canonical);
+                constructor = handle.asType(handle.type().generic()).asSpreader(Object[].class, components.length);
+            } else {
+                defaults = null;
+                MethodHandle handle = lookup.findConstructor(type, MethodType.methodType(void.class));
+                constructor = handle.asType(MethodType.methodType(Object.class));
+                for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                    for (Field field : current.getDeclaredFields()) {
+                        int modifiers = field.getModifiers();
+                        if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || Modifier.isFinal(modifiers)) {
+                            continue;
+                        }
+                        MethodHandle setter = MethodHandles.privateLookupIn(current, MethodHandles.lookup())
+                                .unreflectSetter(field);
+                        setter = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+                        Property property = new Property(field.getName().getBytes(StandardCharsets.UTF_8), -1,
+                                field.getType() == RecordId.class ? null : decoder(field.getType()), setter);
+                        if (field.getType() == RecordId.class) {
+                            id = property;
+                        } else {
+                            mapped.add(property);
+                        }
+                    }
+                }
+            }
+            this.properties = mapped.toArray(new Property[0]);
+            this.idProperty = id;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("无法为类型创建 Stream 消息映射器: " + type.getName(), e);
+        }
+    }
+
+    /**
+     * 获取指定类型的映射器，同一类型只解析一次
+     *
+     * @param type 目标类型，record 类型或带无参构造器的普通类
+     * @return 映射器
+     * @throws IllegalArgumentException 类型不满足要求或包含不支持的字段类型
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> StreamRecordMapper<T> of(Class<T> type) {
+        return (StreamRecordMapper<T>) MAPPERS.computeIfAbsent(type, StreamRecordMapper::new);
+    }
+
+    /**
+     * 将一条原始字节消息映射为目标对象
+     *
+     * @param record Redis 返回的原始字节消息
+     * @return 目标对象
+     * @throws IllegalArgumentException 字段值无法解码为目标类型
+     */
+    public T map(ByteRecord record) {
+        return map(record.getId(), record.getValue());
+    }
+
+    /**
+     * 将消息ID与原始字节字段映射为目标对象
+     *
+     * @param id     消息ID
+     * @param fields 原始字节字段
+     * @return 目标对象
+     * @throws IllegalArgumentException 字段值无法解码为目标类型
+     */
+    public T map(RecordId id, Map<byte[], byte[]> fields) {
+        try {
+            if (recordType) {
+                Object[] args = defaults.clone();
+                if (idProperty != null) {
+                    args[idProperty.index()] = id;
+                }
+                for (Map.Entry<byte[], byte[]> entry : fields.entrySet()) {
+                    Property property = find(entry.getKey());
+                    if (property != null && entry.getValue() != null) {
+                        args[property.index()] = property.decoder().apply(entry.getValue());
+                    }
+                }
+                return type.cast((Object) constructor.invokeExact(args));
+            }
+            Object instance = (Object) constructor.invokeExact();
+            if (idProperty != null) {
+                idProperty.setter().invokeExact(instance, (Object) id);
+            }
+            for (Map.Entry<byte[], byte[]> entry : fields.entrySet()) {
+                Property property = find(entry.getKey());
+                if (property != null && entry.getValue() != null) {
+                    property.setter().invokeExact(instance, property.decoder().apply(entry.getValue()));
+                }
+            }
+            return type.cast(instance);
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalArgumentException("Stream 消息映射失败: type=" + type.getName() + ", id=" + id, e);
+        }
+    }
+
+    /**
+     * 按字段名字节查找属性，字段数量通常很少，线性比较比构造哈希键更省
+     *
+     * @param name 字段名字节
+     * @return 属性，不存在时返回null
+     */
+    private Property find(byte[] name) {
+        for (Property property : properties) {
+            if (Arrays.equals(property.name(), name)) {
+                return property;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 获取字段类型对应的解码器
+     *
+     * @param fieldType 字段类型
+     * @return 解码器
+     * @throws IllegalArgumentException 不支持的字段类型
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Function<byte[], Object> decoder(Class<?> fieldType) {
+        if (fieldType == String.class) {
+            return bytes -> new String(bytes, StandardCharsets.UTF_8);
+        }
+        if (fieldType == byte[].class) {
+            return bytes -> bytes;
+        }
+        if (fieldType == long.class || fieldType == Long.class) {
+            return StreamRecordMapper::parseLong;
+        }
+        if (fieldType == int.class || fieldType == Integer.class) {
+            return bytes -> Math.toIntExact(parseLong(bytes));
+        }
+        if (fieldType == short.class || fieldType == Short.class) {
+            return bytes -> (short) Math.toIntExact(parseLong(bytes));
+        }
+        if (fieldType == byte.class || fieldType == Byte.class) {
+            return bytes -> (byte) Math.toIntExact(parseLong(bytes));
+        }
+        if (fieldType == double.class || fieldType == Double.class) {
+            return bytes -> Double.parseDouble(new String(bytes, StandardCharsets.US_ASCII));
+        }
+        if (fieldType == float.class || fieldType == Float.class) {
+            return bytes -> Float.parseFloat(new String(bytes, StandardCharsets.US_ASCII));
+        }
+        if (fieldType == boolean.class || fieldType == Boolean.class) {
+            return bytes -> (bytes.length == 1 && bytes[0] == '1')
+                    || "true".equalsIgnoreCase(new String(bytes, StandardCharsets.US_ASCII));
+        }
+        if (fieldType == char.class || fieldType == Character.class) {
+            return bytes -> new String(bytes, StandardCharsets.UTF_8).charAt(0);
+        }
+        if (fieldType == BigDecimal.class) {
+            return bytes -> new BigDecimal(new String(bytes, StandardCharsets.US_ASCII));
+        }
+        if (fieldType.isEnum()) {
+            Class<? extends Enum> enumType = (Class<? extends Enum>) fieldType;
+            return bytes -> Enum.valueOf(enumType, new String(bytes, StandardCharsets.UTF_8));
+        }
+        throw new IllegalArgumentException("Stream 消息映射不支持的字段类型: " + fieldType.getName());
+    }
+
+    /**
+     * 从ASCII字节直接解析long，不创建中间字符串，格式不合法或可能溢出时交给 Long.parseLong 处理
+     *
+     * @param bytes ASCII字节
+     * @return 解析结果
+     * @throws NumberFormatException 格式不合法
+     */
+    static long parseLong(byte[] bytes) {
+        int length = bytes.length;
+        if (length == 0 || length > 18) {
+            return Long.parseLong(new String(bytes, StandardCharsets.US_ASCII));
+        }
+        boolean negative = bytes[0] == '-';
+        int start = negative || bytes[0] == '+' ? 1 : 0;
+        if (start == length) {
+            return Long.parseLong(new String(bytes, StandardCharsets.US_ASCII));
+        }
+        long value = 0;
+        for (int i = start; i < length; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return Long.parseLong(new String(bytes, StandardCharsets.US_ASCII));
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * 获取类型的默认值，基本类型为0值，其他为null
+     *
+     * @param fieldType 字段类型
+     * @return 默认值
+     */
+    private static Object defaultValue(Class<?> fieldType) {
+        if (!fieldType.isPrimitive()) {
+            return null;
+        }
+        if (fieldType == boolean.class) {
+            return false;
+        }
+        if (fieldType == char.class) {
+            return '\0';
+        }
+        if (fieldType == long.class) {
+            return 0L;
+        }
+        if (fieldType == double.class) {
+            return 0D;
+        }
+        if (fieldType == float.class) {
+            return 0F;
+        }
+        if (fieldType == int.class) {
+            return 0;
+        }
+        return fieldType == short.class ? (Object) (short) 0 : (Object) (byte) 0;
+    }
+}
@@ -0,0 +1,13 @@
+-- 将客户端生成的 dense 编码 HyperLogLog 合并到目标键，临时键在脚本内写入并删除
+-- KEYS[1]: 目标 HyperLogLog 的键
+-- KEYS[2]: 临时键，集群模式下需要与目标键位于同一槽位
+-- ARGV[1]: dense 编码的 HyperLogLog
+-- 返回: 1；PFMERGE 失败（如目标键类型错误、INVALIDOBJ）时先删除临时键再返回错误
+-- Redis 不会回滚脚本中已经执行的写命令，因此 PFMERGE 使用 pcall，保证临时键总是被删除
+redis.call('SET', KEYS[2], ARGV[1])
+local result = redis.pcall('PFMERGE', KEYS[1], KEYS[2])
+redis.call('DEL', KEYS[2])
+if type(result) == 'table' and result.err then
+    return result
+end
+return 1
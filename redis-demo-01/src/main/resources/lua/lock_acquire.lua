@@ -0,0 +1,14 @@
+-- 尝试获取锁，失败时返回锁的剩余存活时间，等待方最多等待这么久后重试
+-- KEYS[1]: 锁的键
+-- ARGV[1]: 锁的值（持有者标识）
+-- ARGV[2]: 锁的过期时间（秒）
+-- 返回: 0 获锁成功；大于0为锁剩余的毫秒数；-1 锁没有过期时间，只能等待释放通知
+if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'EX', ARGV[2]) then
+    return 0
+end
+local ttl = redis.call('PTTL', KEYS[1])
+if ttl == -1 then
+    return -1
+end
+-- 锁恰好在两条命令之间过期，立即重试
+return math.max(ttl, 1)
@@ -0,0 +1,58 @@
+-- 公平锁：等待方按到达顺序排队，锁空闲时只有队首才能获取
+-- KEYS[1]: 锁的键
+-- KEYS[2]: 等待队列（ZSET，score 为入队时间）
+-- KEYS[3]: 等待方的排队截止时间（HASH），截止前没有再次尝试的等待方视为已放弃
+-- ARGV[1]: 锁的值（持有者标识）
+-- ARGV[2]: 锁的过期时间（秒）
+-- ARGV[3]: 排队超时时间（毫秒）
+-- 返回: 0 获锁成功；大于0为建议等待的毫秒数；-1 只能等待释放通知
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+-- 移除队首已放弃的等待方
+while true do
+    local head = redis.call('ZRANGE', KEYS[2], 0, 0)[1]
+    if not head then
+        break
+    end
+    local deadline = tonumber(redis.call('HGET', KEYS[3], head))
+    if deadline and deadline > now then
+        break
+    end
+    redis.call('ZREM', KEYS[2], head)
+    redis.call('HDEL', KEYS[3], head)
+end
+
+-- 没有人排队或自己是队首时尝试获取
+local head = redis.call('ZRANGE', KEYS[2], 0, 0)[1]
+if (not head or head == ARGV[1]) and redis.call('SET', KEYS[1], ARGV[1], 'NX', 'EX', ARGV[2]) then
+    if head then
+        redis.call('ZREM', KEYS[2], ARGV[1])
+        redis.call('HDEL', KEYS[3], ARGV[1])
+    end
+    return 0
+end
+
+-- 入队（已在队列中则保持原有顺序），刷新排队截止时间
+if not redis.call('ZSCORE', KEYS[2], ARGV[1]) then
+    redis.call('ZADD', KEYS[2], now, ARGV[1])
+end
+local timeout = tonumber(ARGV[3])
+redis.call('HSET', KEYS[3], ARGV[1], now + timeout)
+for i = 2, 3 do
+    if redis.call('PTTL', KEYS[i]) < timeout then
+        redis.call('PEXPIRE', KEYS[i], timeout)
+    end
+end
+
+local ttl = redis.call('PTTL', KEYS[1])
+if ttl > 0 then
+    return ttl
+end
+if ttl == -1 then
+    return -1
+end
+-- 锁空闲但队首是其他等待方，最多等到队首的排队截止时间
+head = redis.call('ZRANGE', KEYS[2], 0, 0)[1]
+local deadline = tonumber(redis.call('HGET', KEYS[3], head)) or now
+return math.max(deadline - now, 1)
@@ -0,0 +1,13 @@
+-- 等待超时后退出公平锁队列，并通知其他等待方重新检查队首
+-- KEYS[1]: 锁的键
+-- KEYS[2]: 等待队列
+-- KEYS[3]: 等待方的排队截止时间
+-- ARGV[1]: 锁的值（持有者标识）
+-- ARGV[2]: 释放通知频道
+-- 返回: 1 已退出队列，0 不在队列中
+if redis.call('ZREM', KEYS[2], ARGV[1]) == 1 then
+    redis.call('HDEL', KEYS[3], ARGV[1])
+    redis.call('PUBLISH', ARGV[2], KEYS[1])
+    return 1
+end
+return 0
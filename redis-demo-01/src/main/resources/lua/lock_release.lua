@@ -0,0 +1,11 @@
+-- 校验持有者后释放锁，释放成功时发布通知唤醒等待方
+-- KEYS[1]: 锁的键
+-- ARGV[1]: 锁的值（持有者标识）
+-- ARGV[2]: 释放通知频道
+-- 返回: 1 释放成功，0 锁不存在或已被其他持有者获取
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    redis.call('DEL', KEYS[1])
+    redis.call('PUBLISH', ARGV[2], KEYS[1])
+    return 1
+end
+return 0
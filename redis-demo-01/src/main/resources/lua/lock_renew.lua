@@ -0,0 +1,9 @@
+-- 校验持有者后续期锁
+-- KEYS[1]: 锁的键
+-- ARGV[1]: 锁的值（持有者标识）
+-- ARGV[2]: 新的过期时间（秒）
+-- 返回: 1 续期成功，0 锁不存在或已被其他持有者获取
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('EXPIRE', KEYS[1], ARGV[2])
+end
+return 0
@@ -0,0 +1,17 @@
+-- 批量 SADD，每个key可以携带多个成员
+-- KEYS: 集合的键
+-- ARGV: 按 KEYS 顺序排列，每个key先给出成员数量 n，随后是 n 个成员
+-- 返回: 新增的成员总数
+local index = 1
+local added = 0
+for i = 1, #KEYS do
+    local last = index + tonumber(ARGV[index])
+    index = index + 1
+    -- unpack 受 Lua 栈大小限制，成员较多时分段发送
+    while index <= last do
+        local stop = math.min(index + 4999, last)
+        added = added + redis.call('SADD', KEYS[i], unpack(ARGV, index, stop))
+        index = stop + 1
+    end
+end
+return added
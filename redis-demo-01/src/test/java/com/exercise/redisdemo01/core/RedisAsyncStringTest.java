@@ -0,0 +1,82 @@
+package com.exercise.redisdemo01.core;
+
+import com.exercise.redisdemo01.core.provider.AsyncStringCacheProvider;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 异步缓存提供者测试类
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Slf4j
+@SpringBootTest
+class RedisAsyncStringTest {
+
+    @Resource
+    private AsyncStringCacheProvider asyncStringCacheProvider;
+
+    /**
+     * 测试异步设置与获取
+     */
+    @Test
+    void testSetAndGetString() {
+        String key = "test:async:string";
+        asyncStringCacheProvider.setString(key, "value").join();
+        Assertions.assertEquals("value", asyncStringCacheProvider.getString(key).join());
+
+        Assertions.assertTrue(asyncStringCacheProvider.delete(key).join());
+        Assertions.assertEquals("", asyncStringCacheProvider.getString(key).join());
+    }
+
+    /**
+     * 测试单线程并发发起多个查询
+     */
+    @Test
+    void testFanOut() {
+        List<String> keys = new ArrayList<>();
+        List<CompletableFuture<Boolean>> writes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            String key = "test:async:fanOut:" + i;
+            keys.add(key);
+            writes.add(asyncStringCacheProvider.setString(key, "value" + i, 60));
+        }
+        CompletableFuture.allOf(writes.toArray(new CompletableFuture[0])).join();
+
+        List<CompletableFuture<String>> reads = keys.stream().map(asyncStringCacheProvider::getString).toList();
+        for (int i = 0; i < reads.size(); i++) {
+            Assertions.assertEquals("value" + i, reads.get(i).join());
+        }
+
+        keys.add("test:async:fanOut:missing");
+        Map<String, String> values = asyncStringCacheProvider.getStrings(keys).join();
+        Assertions.assertEquals(keys, new ArrayList<>(values.keySet()));
+        Assertions.assertEquals("value99", values.get("test:async:fanOut:99"));
+        Assertions.assertEquals("", values.get("test:async:fanOut:missing"));
+
+        keys.forEach(key -> asyncStringCacheProvider.delete(key).join());
+    }
+
+    /**
+     * 测试异步自增与不存在时设置
+     */
+    @Test
+    void testIncrAndSetWhenNotExists() {
+        String key = "test:async:incr";
+        asyncStringCacheProvider.delete(key).join();
+        Assertions.assertEquals(5L, asyncStringCacheProvider.incrString(key, 5).join());
+        Assertions.assertEquals(7L, asyncStringCacheProvider.incrString(key, 2).join());
+        Assertions.assertFalse(asyncStringCacheProvider.setStringWhenNotExists(key, "1", 60).join());
+        asyncStringCacheProvider.delete(key).join();
+    }
+}
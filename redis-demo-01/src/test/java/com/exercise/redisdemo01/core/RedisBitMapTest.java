@@ -1,5 +1,6 @@
 package com.exercise.redisdemo01.core;
 
+import com.exercise.redisdemo01.core.model.enums.BitRangeUnit;
 import com.exercise.redisdemo01.core.provider.BitMapCacheProvider;
 import jakarta.annotation.Resource;
 import lombok.extern.slf4j.Slf4j;
@@ -7,6 +8,10 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
 /**
  * @author 王玉涛
  * @version 1.0
@@ -169,4 +174,126 @@ class RedisBitMapTest {
         Boolean afterDelete = bitMapCacheProvider.getBit(key, 0L);
         Assertions.assertFalse(afterDelete);
     }
+
+    /**
+     * 测试批量设置与读取多个偏移量，偏移量数量超过单条 BITFIELD 的批次上限
+     */
+    @Test
+    public void testGetAndSetBits() {
+        String key = "test:bits:key";
+        bitMapCacheProvider.delete(key);
+
+        long[] evenOffsets = LongStream.range(0, 1500).map(i -> i * 2).toArray();
+        List<Boolean> previous = bitMapCacheProvider.setBits(key, true, evenOffsets);
+        Assertions.assertEquals(evenOffsets.length, previous.size());
+        Assertions.assertTrue(previous.stream().noneMatch(Boolean::booleanValue));
+
+        List<Boolean> values = bitMapCacheProvider.getBits(key, 0L, 1L, 2L, 2998L, 2999L);
+        Assertions.assertEquals(List.of(true, false, true, true, false), values);
+        Assertions.assertEquals(1500L, bitMapCacheProvider.bitCount(key));
+
+        previous = bitMapCacheProvider.setBits(key, false, 0L, 1L);
+        Assertions.assertEquals(List.of(true, false), previous);
+        Assertions.assertFalse(bitMapCacheProvider.getBit(key, 0L));
+
+        bitMapCacheProvider.delete(key);
+    }
+
+    /**
+     * 测试按字节与按位统计范围内1的个数，以一个月的签到记录为例
+     */
+    @Test
+    public void testBitCountRange() {
+        String key = "test:bitCountRange:key";
+        bitMapCacheProvider.delete(key);
+
+        // 第1、2、3、9、15、16、30天签到（偏移量从0开始）
+        bitMapCacheProvider.setBits(key, true, 0L, 1L, 2L, 8L, 14L, 15L, 29L);
+
+        Assertions.assertEquals(3L, bitMapCacheProvider.bitCount(key, 0, 0, BitRangeUnit.BYTE));
+        Assertions.assertEquals(6L, bitMapCacheProvider.bitCount(key, 0, 1, BitRangeUnit.BYTE));
+        Assertions.assertEquals(7L, bitMapCacheProvider.bitCount(key, 0, -1, BitRangeUnit.BYTE));
+
+        // 第一周
+        Assertions.assertEquals(3L, bitMapCacheProvider.bitCount(key, 0, 6, BitRangeUnit.BIT));
+        // 第2天到第16天，跨越首尾不完整的字节
+        Assertions.assertEquals(5L, bitMapCacheProvider.bitCount(key, 1, 15, BitRangeUnit.BIT));
+        // 同一字节内的区间
+        Assertions.assertEquals(2L, bitMapCacheProvider.bitCount(key, 1, 2, BitRangeUnit.BIT));
+        // 超出位图长度的部分按0统计
+        Assertions.assertEquals(1L, bitMapCacheProvider.bitCount(key, 16, 100, BitRangeUnit.BIT));
+        Assertions.assertEquals(0L, bitMapCacheProvider.bitCount(key, 5, 4, BitRangeUnit.BIT));
+
+        bitMapCacheProvider.delete(key);
+    }
+
+    /**
+     * 测试按位统计与逐位计算的结果一致
+     */
+    @Test
+    public void testBitCountRangeRandom() {
+        String key = "test:bitCountRangeRandom:key";
+        bitMapCacheProvider.delete(key);
+
+        Random random = new Random(42);
+        boolean[] bits = new boolean[256];
+        long[] offsets = LongStream.range(0, bits.length).filter(i -> random.nextInt(3) == 0).toArray();
+        for (long offset : offsets) {
+            bits[(int) offset] = true;
+        }
+        bitMapCacheProvider.setBits(key, true, offsets);
+
+        for (int i = 0; i < 200; i++) {
+            int start = random.nextInt(bits.length + 16);
+            int end = start + random.nextInt(64);
+            long expectedCount = 0;
+            long expectedOne = -1;
+            long expectedZero = -1;
+            for (int offset = start; offset <= end; offset++) {
+                boolean bit = offset < bits.length && bits[offset];
+                if (bit) {
+                    expectedCount++;
+                }
+                if (bit && expectedOne < 0) {
+                    expectedOne = offset;
+                }
+                if (!bit && expectedZero < 0) {
+                    expectedZero = offset;
+                }
+            }
+            Assertions.assertEquals(expectedCount, bitMapCacheProvider.bitCount(key, start, end, BitRangeUnit.BIT));
+            Assertions.assertEquals(expectedOne, bitMapCacheProvider.bitPos(key, true, start, end, BitRangeUnit.BIT));
+            Assertions.assertEquals(expectedZero, bitMapCacheProvider.bitPos(key, false, start, end, BitRangeUnit.BIT));
+        }
+
+        bitMapCacheProvider.delete(key);
+    }
+
+    /**
+     * 测试按字节与按位查找范围内第一个指定值的位置
+     */
+    @Test
+    public void testBitPosRange() {
+        String key = "test:bitPosRange:key";
+        bitMapCacheProvider.delete(key);
+
+        // 前两个字节全为1，第三个字节只有第20位为1
+        bitMapCacheProvider.setBits(key, true, LongStream.range(0, 16).toArray());
+        bitMapCacheProvider.setBit(key, 20L, true);
+
+        Assertions.assertEquals(16L, bitMapCacheProvider.bitPos(key, false, 0, 2, BitRangeUnit.BYTE));
+        Assertions.assertEquals(20L, bitMapCacheProvider.bitPos(key, true, 2, 2, BitRangeUnit.BYTE));
+
+        Assertions.assertEquals(3L, bitMapCacheProvider.bitPos(key, true, 3, 30, BitRangeUnit.BIT));
+        Assertions.assertEquals(16L, bitMapCacheProvider.bitPos(key, false, 3, 30, BitRangeUnit.BIT));
+        Assertions.assertEquals(20L, bitMapCacheProvider.bitPos(key, true, 17, 30, BitRangeUnit.BIT));
+        Assertions.assertEquals(-1L, bitMapCacheProvider.bitPos(key, false, 2, 15, BitRangeUnit.BIT));
+        Assertions.assertEquals(-1L, bitMapCacheProvider.bitPos(key, true, 21, 100, BitRangeUnit.BIT));
+        Assertions.assertEquals(16L, bitMapCacheProvider.bitPos(key, false, 8, 100, BitRangeUnit.BIT));
+        // 超出位图长度的部分按0处理
+        Assertions.assertEquals(21L, bitMapCacheProvider.bitPos(key, false, 21, 100, BitRangeUnit.BIT));
+        Assertions.assertEquals(40L, bitMapCacheProvider.bitPos(key, false, 40, 100, BitRangeUnit.BIT));
+
+        bitMapCacheProvider.delete(key);
+    }
 }
@@ -1,12 +1,20 @@
 package com.exercise.redisdemo01.core;
 
+import com.exercise.redisdemo01.core.model.enums.RedisKey;
 import com.exercise.redisdemo01.core.provider.CacheProvider;
+import com.exercise.redisdemo01.core.provider.StringCacheProvider;
 import jakarta.annotation.Resource;
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Redis连接信息测试类
@@ -22,6 +30,9 @@ class RedisConnectionTest {
     @Resource
     private CacheProvider cacheProvider;
 
+    @Resource
+    private StringCacheProvider stringCacheProvider;
+
     @Test
     void testConnection() {
         Map<String, String> stringStringMap = cacheProvider.infoMemory();
@@ -38,4 +49,57 @@ class RedisConnectionTest {
             log.info(monitorAlerts);
         }
     }
+
+    @Test
+    void testKeyPattern() {
+        Assertions.assertEquals("user:info:*", RedisKey.USER_INFO.keyPattern());
+    }
+
+    /**
+     * 测试按前缀扫描键，批次大小不超过 COUNT，且不会扫到其他前缀下的键
+     * 只扫描与删除测试专用的 user:token:test-scan:* 前缀，不影响库中其他真实的token
+     */
+    @Test
+    void testScanKeysByPrefix() {
+        String pattern = RedisKey.USER_TOKEN.keyAssembled("test-scan", "*");
+        Map<String, String> tokens = new LinkedHashMap<>();
+        for (int i = 0; i < 2500; i++) {
+            tokens.put(RedisKey.USER_TOKEN.keyAssembled("test-scan", String.valueOf(i)), "token" + i);
+        }
+        stringCacheProvider.batchSetString(tokens);
+        stringCacheProvider.setString(RedisKey.USER_ROLE.keyAssembled("scan"), "role");
+
+        Set<String> scanned = new HashSet<>();
+        List<Integer> batchSizes = new ArrayList<>();
+        long total = cacheProvider.scanKeys(pattern, 500, batch -> {
+            batchSizes.add(batch.size());
+            scanned.addAll(batch);
+        });
+
+        Assertions.assertEquals(2500L, total);
+        Assertions.assertEquals(tokens.keySet(), scanned);
+        Assertions.assertTrue(batchSizes.stream().allMatch(size -> size <= 500));
+
+        Assertions.assertEquals(2500L, cacheProvider.unlinkKeys(pattern, 500));
+        stringCacheProvider.delete(RedisKey.USER_ROLE.keyAssembled("scan"));
+    }
+
+    /**
+     * 测试按前缀批量删除键
+     */
+    @Test
+    void testUnlinkKeys() {
+        Map<String, String> tenant = new LinkedHashMap<>();
+        for (int i = 0; i < 3000; i++) {
+            tenant.put("test:tenant:1:key" + i, "value" + i);
+        }
+        stringCacheProvider.batchSetString(tenant);
+        stringCacheProvider.setString("test:tenant:2:key", "value");
+
+        Assertions.assertEquals(3000L, cacheProvider.unlinkKeys("test:tenant:1:*", 1000));
+        Assertions.assertEquals(0L, cacheProvider.scanKeys("test:tenant:1:*", 1000, batch -> { }));
+        Assertions.assertEquals("value", stringCacheProvider.getString("test:tenant:2:key"));
+
+        stringCacheProvider.delete("test:tenant:2:key");
+    }
 }
@@ -0,0 +1,44 @@
+package com.exercise.redisdemo01.core;
+
+import com.exercise.redisdemo01.core.provider.DistributedLockProvider;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 分布式锁测试类
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Slf4j
+@SpringBootTest
+class RedisDistributedLockTest {
+
+    @Resource
+    private DistributedLockProvider distributedLockProvider;
+
+    /**
+     * 测试异步获取锁：锁归调用线程持有，由调用线程释放
+     */
+    @Test
+    void testTryLockAsync() throws Exception {
+        String key = "test:lock:async";
+        Assertions.assertTrue(distributedLockProvider.tryLockAsync(key, 1000, 10000).get(5, TimeUnit.SECONDS));
+
+        // 其他线程发起的异步获取在锁释放后成功
+        CompletableFuture<Boolean> waiter = CompletableFuture
+                .supplyAsync(() -> distributedLockProvider.tryLockAsync(key, 5000, 1000).join());
+        Thread.sleep(500);
+        Assertions.assertFalse(waiter.isDone());
+
+        distributedLockProvider.unlock(key);
+        Assertions.assertTrue(waiter.get(5, TimeUnit.SECONDS));
+    }
+}
@@ -11,6 +11,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -179,6 +180,48 @@ class RedisHashTest {
         stringRedisTemplate.delete(key);
     }
 
+    @Test
+    public void testScanWithConsumer() {
+        String key = "test:hash:scanConsumer";
+        hashCacheProvider.set(key, buildFields(2000));
+
+        Map<String, String> even = new HashMap<>();
+        long scanned = hashCacheProvider.scan(key, "even:*", 100, entry -> even.put(entry.getKey(), entry.getValue()));
+
+        assertEquals(1000L, scanned);
+        assertEquals(1000, even.size());
+        assertEquals("value2", even.get("even:2"));
+        assertEquals(2000L, hashCacheProvider.scan(key, null, 100, entry -> { }));
+
+        // 清理测试数据
+        stringRedisTemplate.delete(key);
+    }
+
+    @Test
+    public void testScanStream() {
+        String key = "test:hash:scanStream";
+        hashCacheProvider.set(key, buildFields(2000));
+
+        try (Stream<Map.Entry<String, String>> stream = hashCacheProvider.scanStream(key, "odd:*", 100)) {
+            assertEquals(1000L, stream.filter(entry -> entry.getKey().startsWith("odd:")).count());
+        }
+        // 提前结束的流同样需要关闭
+        try (Stream<Map.Entry<String, String>> stream = hashCacheProvider.scanStream(key, null, 100)) {
+            assertEquals(10, stream.limit(10).toList().size());
+        }
+
+        // 清理测试数据
+        stringRedisTemplate.delete(key);
+    }
+
+    private static Map<String, String> buildFields(int size) {
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put((i % 2 == 0 ? "even:" : "odd:") + i, "value" + i);
+        }
+        return map;
+    }
+
     @Test
     public void testGetKeys() {
         String key = "test:hash:getKeys";
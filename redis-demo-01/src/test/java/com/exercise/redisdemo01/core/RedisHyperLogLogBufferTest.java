@@ -0,0 +1,114 @@
+package com.exercise.redisdemo01.core;
+
+import com.exercise.redisdemo01.core.provider.HyperLogLogBufferProvider;
+import com.exercise.redisdemo01.core.provider.HyperLogLogProvider;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * HyperLogLog 本地预聚合测试类
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Slf4j
+@SpringBootTest
+class RedisHyperLogLogBufferTest {
+
+    @Resource
+    private HyperLogLogBufferProvider hyperLogLogBufferProvider;
+
+    @Resource
+    private HyperLogLogProvider hyperLogLogProvider;
+
+    @Resource
+    private StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 测试本地草图合并后的估计值与逐条 PFADD 完全一致，证明哈希与编码与 Redis 兼容
+     */
+    @Test
+    void testCompatibleWithPfAdd() {
+        String bufferedKey = "test:hllBuffer:buffered";
+        String directKey = "test:hllBuffer:direct";
+        stringRedisTemplate.delete(List.of(bufferedKey, directKey));
+        List<String> values = IntStream.range(0, 50000).mapToObj(i -> "访客" + i).toList();
+
+        hyperLogLogBufferProvider.addAll(bufferedKey, values);
+        hyperLogLogBufferProvider.add(bufferedKey, "访客0");
+        hyperLogLogProvider.saveAll(directKey, values);
+        hyperLogLogBufferProvider.flush();
+
+        Assertions.assertEquals(0, hyperLogLogBufferProvider.bufferedKeys());
+        Assertions.assertFalse(stringRedisTemplate.hasKey("{" + bufferedKey + "}:hll-merge"));
+        long bufferedSize = hyperLogLogProvider.querySize(bufferedKey);
+        log.info("本地预聚合估计数量: {}", bufferedSize);
+        Assertions.assertEquals(hyperLogLogProvider.querySize(directKey), bufferedSize);
+
+        stringRedisTemplate.delete(List.of(bufferedKey, directKey));
+    }
+
+    /**
+     * 测试多次刷新与已有数据按并集合并，并发写入的元素不会丢失
+     */
+    @Test
+    void testMergeIntoExistingKey() throws InterruptedException {
+        String bufferedKey = "test:hllBuffer:existing";
+        String directKey = "test:hllBuffer:existing:direct";
+        stringRedisTemplate.delete(List.of(bufferedKey, directKey));
+        hyperLogLogProvider.saveAll(bufferedKey, IntStream.range(0, 1000).mapToObj(i -> "user" + i).toList());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch latch = new CountDownLatch(4);
+        for (int t = 0; t < 4; t++) {
+            int thread = t;
+            executor.execute(() -> {
+                for (int i = 0; i < 2000; i++) {
+                    hyperLogLogBufferProvider.add(bufferedKey, "user" + (500 + thread * 2000 + i));
+                    if (i == 1000) {
+                        hyperLogLogBufferProvider.flush();
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        Assertions.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        hyperLogLogBufferProvider.flush();
+
+        hyperLogLogProvider.saveAll(directKey, IntStream.range(0, 8500).mapToObj(i -> "user" + i).toList());
+        Assertions.assertEquals(hyperLogLogProvider.querySize(directKey), hyperLogLogProvider.querySize(bufferedKey));
+
+        stringRedisTemplate.delete(List.of(bufferedKey, directKey));
+    }
+
+    /**
+     * 测试目标键类型错误时临时键被删除，草图直接丢弃，不会在每次刷新时重试
+     */
+    @Test
+    void testMergeRejected() {
+        String key = "test:hllBuffer:wrongType";
+        hyperLogLogBufferProvider.flush();
+        stringRedisTemplate.opsForValue().set(key, "not-a-hll");
+
+        hyperLogLogBufferProvider.add(key, "user1");
+        hyperLogLogBufferProvider.flush();
+
+        Assertions.assertEquals(0, hyperLogLogBufferProvider.bufferedKeys());
+        Assertions.assertEquals(Boolean.FALSE, stringRedisTemplate.hasKey("{" + key + "}:hll-merge"));
+        Assertions.assertEquals("not-a-hll", stringRedisTemplate.opsForValue().get(key));
+        stringRedisTemplate.delete(key);
+    }
+}
@@ -6,6 +6,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
 
 /**
  * @author 王玉涛
@@ -18,6 +23,9 @@ class RedisHyperLogLogTest {
     
     @Resource
     private HyperLogLogProvider hyperLogLogProvider;
+
+    @Resource
+    private StringRedisTemplate stringRedisTemplate;
     
     @Test
     void testSave() {
@@ -49,4 +57,55 @@ class RedisHyperLogLogTest {
         // 验证数量(因为HyperLogLog有误差，这里只是简单验证大于0)
         org.junit.jupiter.api.Assertions.assertTrue(size > 0, "不重复元素数量应该大于0");
     }
+
+    /**
+     * 测试批量添加元素，元素数量超过单条 PFADD 的批次大小，并校验非ASCII元素按UTF-8编码
+     */
+    @Test
+    void testSaveAll() {
+        String key = "test_hyperloglog_key_batch";
+        stringRedisTemplate.delete(key);
+        List<String> values = IntStream.range(0, 20000).mapToObj(i -> "用户" + i).toList();
+
+        Assertions.assertTrue(hyperLogLogProvider.saveAll(key, values));
+        Assertions.assertFalse(hyperLogLogProvider.saveAll(key, values.subList(0, 100)));
+        Assertions.assertFalse(hyperLogLogProvider.saveAll(key, List.of()));
+        Assertions.assertFalse(hyperLogLogProvider.save(key, "用户0"));
+
+        long size = hyperLogLogProvider.querySize(key);
+        log.info("批量添加后不重复元素估计数量: {}", size);
+        Assertions.assertEquals(20000, size, 20000 * 0.03);
+
+        stringRedisTemplate.delete(key);
+    }
+
+    /**
+     * 测试按天统计的UV汇总为一周UV：并集计数不修改键，合并后与并集计数一致
+     */
+    @Test
+    void testUnionAndMerge() {
+        List<String> days = new ArrayList<>();
+        for (int day = 1; day <= 7; day++) {
+            String key = "test_hyperloglog_key_day_" + day;
+            days.add(key);
+            stringRedisTemplate.delete(key);
+            // 每天1000个用户，相邻两天有一半用户重复，一周共4000个不同用户
+            int from = (day - 1) * 500;
+            hyperLogLogProvider.saveAll(key, IntStream.range(from, from + 1000).mapToObj(i -> "user" + i).toList());
+        }
+        String weekKey = "test_hyperloglog_key_week";
+        stringRedisTemplate.delete(weekKey);
+        String[] dayKeys = days.toArray(new String[0]);
+
+        long unionSize = hyperLogLogProvider.queryUnionSize(dayKeys);
+        log.info("一周不重复用户估计数量: {}", unionSize);
+        Assertions.assertEquals(4000, unionSize, 4000 * 0.03);
+        Assertions.assertEquals(0L, hyperLogLogProvider.querySize(weekKey));
+
+        hyperLogLogProvider.merge(weekKey, dayKeys);
+        Assertions.assertEquals(unionSize, hyperLogLogProvider.querySize(weekKey));
+
+        stringRedisTemplate.delete(days);
+        stringRedisTemplate.delete(weekKey);
+    }
 }
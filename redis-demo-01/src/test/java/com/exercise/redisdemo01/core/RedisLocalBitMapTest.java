@@ -0,0 +1,109 @@
+package com.exercise.redisdemo01.core;
+
+import com.exercise.redisdemo01.core.provider.BitMapCacheProvider;
+import com.exercise.redisdemo01.core.provider.LocalBitMapProvider;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Random;
+import java.util.stream.LongStream;
+
+/**
+ * 本地位图物化测试类
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Slf4j
+@SpringBootTest
+class RedisLocalBitMapTest {
+
+    @Resource
+    private LocalBitMapProvider localBitMapProvider;
+
+    @Resource
+    private BitMapCacheProvider bitMapCacheProvider;
+
+    /**
+     * 测试物化后的位与Redis中的偏移量一致，且不存在的键物化为空位图
+     */
+    @Test
+    void testMaterialize() {
+        String key = "test:localBitMap:materialize";
+        bitMapCacheProvider.delete(key);
+        long[] offsets = {0L, 7L, 8L, 63L, 64L, 65535L, 65536L, 200001L};
+        bitMapCacheProvider.setBits(key, true, offsets);
+
+        RoaringBitmap bitmap = localBitMapProvider.materialize(key, 1L);
+        Assertions.assertArrayEquals(LongStream.of(offsets).mapToInt(offset -> (int) offset).toArray(), bitmap.toArray());
+        Assertions.assertEquals(offsets.length, localBitMapProvider.cardinality(key, 1L));
+
+        Assertions.assertTrue(localBitMapProvider.materialize("test:localBitMap:missing", 1L).isEmpty());
+
+        bitMapCacheProvider.delete(key);
+        localBitMapProvider.evict(key, 1L);
+        localBitMapProvider.evict("test:localBitMap:missing", 1L);
+    }
+
+    /**
+     * 测试同一版本命中本地缓存，切换版本后重新读取Redis
+     */
+    @Test
+    void testVersionedCache() {
+        String key = "test:localBitMap:version";
+        bitMapCacheProvider.delete(key);
+        bitMapCacheProvider.setBit(key, 1L, true);
+        Assertions.assertEquals(1L, localBitMapProvider.cardinality(key, 1L));
+
+        bitMapCacheProvider.setBit(key, 2L, true);
+        Assertions.assertEquals(1L, localBitMapProvider.cardinality(key, 1L));
+        Assertions.assertEquals(2L, localBitMapProvider.cardinality(key, 2L));
+
+        localBitMapProvider.evict(key, 1L);
+        Assertions.assertEquals(2L, localBitMapProvider.cardinality(key, 1L));
+
+        bitMapCacheProvider.delete(key);
+        localBitMapProvider.evict(key, 1L);
+        localBitMapProvider.evict(key, 2L);
+    }
+
+    /**
+     * 测试本地集合运算与 Redis BITOP 的结果一致
+     */
+    @Test
+    void testCohortOperations() {
+        String[] keys = {"test:localBitMap:cohort:1", "test:localBitMap:cohort:2", "test:localBitMap:cohort:3"};
+        Random random = new Random(7);
+        for (String key : keys) {
+            bitMapCacheProvider.delete(key);
+            bitMapCacheProvider.setBits(key, true, LongStream.generate(() -> random.nextInt(300000)).limit(5000).toArray());
+        }
+        String destKey = "test:localBitMap:cohort:dest";
+        long version = System.currentTimeMillis();
+
+        bitMapCacheProvider.bitOp("AND", destKey, keys);
+        Assertions.assertEquals(bitMapCacheProvider.bitCount(destKey), localBitMapProvider.and(version, keys).getLongCardinality());
+        Assertions.assertEquals(bitMapCacheProvider.bitCount(destKey), localBitMapProvider.andCardinality(version, keys));
+
+        bitMapCacheProvider.bitOp("OR", destKey, keys);
+        Assertions.assertEquals(bitMapCacheProvider.bitCount(destKey), localBitMapProvider.or(version, keys).getLongCardinality());
+        Assertions.assertEquals(bitMapCacheProvider.bitCount(destKey), localBitMapProvider.orCardinality(version, keys));
+        Assertions.assertEquals(localBitMapProvider.materialize(destKey, version), localBitMapProvider.or(version, keys));
+
+        bitMapCacheProvider.bitOp("XOR", destKey, keys);
+        Assertions.assertEquals(localBitMapProvider.materialize(destKey, version + 1), localBitMapProvider.xor(version, keys));
+
+        for (String key : keys) {
+            bitMapCacheProvider.delete(key);
+            localBitMapProvider.evict(key, version);
+        }
+        bitMapCacheProvider.delete(destKey);
+        localBitMapProvider.evict(destKey, version);
+        localBitMapProvider.evict(destKey, version + 1);
+    }
+}
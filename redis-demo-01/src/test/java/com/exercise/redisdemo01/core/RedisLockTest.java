@@ -0,0 +1,147 @@
+package com.exercise.redisdemo01.core;
+
+import com.exercise.redisdemo01.core.provider.LockProvider;
+import com.exercise.redisdemo01.core.provider.StringCacheProvider;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于SETNX的分布式锁测试类
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Slf4j
+@SpringBootTest
+class RedisLockTest {
+
+    @Resource
+    private LockProvider lockProvider;
+
+    @Resource
+    private StringCacheProvider stringCacheProvider;
+
+    /**
+     * 测试只有拥有者才能释放锁
+     */
+    @Test
+    void testReleaseLockChecksOwner() {
+        String key = "test:lock:release";
+        Assertions.assertTrue(lockProvider.tryLock(key, "owner1", 10));
+        Assertions.assertFalse(lockProvider.tryLock(key, "owner2", 10));
+
+        Assertions.assertFalse(lockProvider.releaseLock(key, "owner2"));
+        Assertions.assertEquals("owner1", stringCacheProvider.getString(key));
+
+        Assertions.assertTrue(lockProvider.releaseLock(key, "owner1"));
+        Assertions.assertFalse(lockProvider.releaseLock(key, "owner1"));
+        Assertions.assertTrue(lockProvider.tryLock(key, "owner2", 10));
+        Assertions.assertTrue(lockProvider.releaseLock(key, "owner2"));
+    }
+
+    /**
+     * 测试只有拥有者才能续期锁
+     */
+    @Test
+    void testRenewLock() {
+        String key = "test:lock:renew";
+        Assertions.assertTrue(lockProvider.tryLock(key, "owner1", 5));
+
+        Assertions.assertFalse(lockProvider.renewLock(key, "owner2", 100));
+        Assertions.assertTrue(stringCacheProvider.ttlKey(key) <= 5);
+
+        Assertions.assertTrue(lockProvider.renewLock(key, "owner1", 100));
+        Assertions.assertTrue(stringCacheProvider.ttlKey(key) > 5);
+
+        lockProvider.releaseLock(key, "owner1");
+        Assertions.assertFalse(lockProvider.renewLock(key, "owner1", 100));
+    }
+
+    /**
+     * 测试等待获取锁：持有方释放后等待方立即获得锁
+     */
+    @Test
+    void testTryLockWaitsForRelease() throws Exception {
+        String key = "test:lock:wait";
+        Assertions.assertTrue(lockProvider.tryLock(key, "owner1", 30));
+
+        long start = System.currentTimeMillis();
+        CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() -> lockProvider.tryLock(key, "owner2", 30, 10000));
+        Thread.sleep(300);
+        Assertions.assertFalse(waiter.isDone());
+
+        lockProvider.releaseLock(key, "owner1");
+        Assertions.assertTrue(waiter.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(System.currentTimeMillis() - start < 5000);
+        Assertions.assertEquals("owner2", stringCacheProvider.getString(key));
+
+        lockProvider.releaseLock(key, "owner2");
+    }
+
+    /**
+     * 测试等待超时，以及锁到期后等待方无需释放通知也能获得锁
+     */
+    @Test
+    void testTryLockTimeoutAndExpire() {
+        String key = "test:lock:expire";
+        Assertions.assertTrue(lockProvider.tryLock(key, "owner1", 1));
+
+        long start = System.currentTimeMillis();
+        Assertions.assertFalse(lockProvider.tryLock(key, "owner2", 10, 200));
+        Assertions.assertTrue(System.currentTimeMillis() - start >= 200);
+
+        Assertions.assertTrue(lockProvider.tryLock(key, "owner2", 10, 3000));
+        lockProvider.releaseLock(key, "owner2");
+    }
+
+    /**
+     * 测试公平锁按到达顺序获得锁
+     */
+    @Test
+    void testTryFairLockOrder() throws Exception {
+        String key = "test:lock:fair";
+        Assertions.assertTrue(lockProvider.tryFairLock(key, "owner0", 30, 0));
+
+        List<String> acquired = new CopyOnWriteArrayList<>();
+        List<CompletableFuture<Void>> waiters = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            String owner = "owner" + i;
+            waiters.add(CompletableFuture.runAsync(() -> {
+                if (lockProvider.tryFairLock(key, owner, 30, 10000)) {
+                    acquired.add(owner);
+                    lockProvider.releaseLock(key, owner);
+                }
+            }));
+            // 保证入队顺序
+            Thread.sleep(200);
+        }
+
+        lockProvider.releaseLock(key, "owner0");
+        CompletableFuture.allOf(waiters.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        Assertions.assertEquals(List.of("owner1", "owner2", "owner3"), acquired);
+    }
+
+    /**
+     * 测试公平锁等待超时后退出队列，不阻塞后续等待方
+     */
+    @Test
+    void testTryFairLockTimeoutLeavesQueue() {
+        String key = "test:lock:fairTimeout";
+        Assertions.assertTrue(lockProvider.tryFairLock(key, "owner0", 30, 0));
+        Assertions.assertFalse(lockProvider.tryFairLock(key, "owner1", 30, 200));
+
+        lockProvider.releaseLock(key, "owner0");
+        Assertions.assertTrue(lockProvider.tryFairLock(key, "owner2", 30, 0));
+        lockProvider.releaseLock(key, "owner2");
+    }
+}
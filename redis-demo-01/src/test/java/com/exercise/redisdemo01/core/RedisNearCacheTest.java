@@ -0,0 +1,70 @@
+package com.exercise.redisdemo01.core;
+
+import com.exercise.redisdemo01.core.provider.HashCacheProvider;
+import com.exercise.redisdemo01.core.provider.NearCacheProvider;
+import com.exercise.redisdemo01.core.provider.StringCacheProvider;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 近端缓存测试类
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Slf4j
+@SpringBootTest
+class RedisNearCacheTest {
+
+    @Resource
+    private NearCacheProvider nearCacheProvider;
+
+    @Resource
+    private StringCacheProvider stringCacheProvider;
+
+    @Resource
+    private HashCacheProvider hashCacheProvider;
+
+    /**
+     * 测试本地缓存命中：绕过近端缓存修改Redis后，失效前仍读取本地副本
+     */
+    @Test
+    void testGetStringFromLocal() {
+        String key = "test:nearCache:string";
+        nearCacheProvider.setString(key, "v1");
+        Assertions.assertEquals("v1", nearCacheProvider.getString(key));
+
+        stringCacheProvider.setString(key, "v2");
+        Assertions.assertEquals("v1", nearCacheProvider.getString(key));
+
+        nearCacheProvider.invalidate(key);
+        Assertions.assertEquals("v2", nearCacheProvider.getString(key));
+
+        nearCacheProvider.delete(key);
+        Assertions.assertEquals("", nearCacheProvider.getString(key));
+    }
+
+    /**
+     * 测试哈希字段的本地缓存与写入失效
+     */
+    @Test
+    void testHashGet() {
+        String key = "test:nearCache:hash";
+        nearCacheProvider.hashSet(key, "field1", "v1");
+        Assertions.assertEquals("v1", nearCacheProvider.hashGet(key, "field1"));
+
+        hashCacheProvider.set(key, "field1", "v2");
+        Assertions.assertEquals("v1", nearCacheProvider.hashGet(key, "field1"));
+
+        nearCacheProvider.hashSet(key, "field2", "v3");
+        Assertions.assertEquals("v2", nearCacheProvider.hashGet(key, "field1"));
+        Assertions.assertEquals("v3", nearCacheProvider.hashGet(key, "field2"));
+
+        nearCacheProvider.hashDel(key, "field1", "field2");
+        Assertions.assertEquals("", nearCacheProvider.hashGet(key, "field1"));
+    }
+}
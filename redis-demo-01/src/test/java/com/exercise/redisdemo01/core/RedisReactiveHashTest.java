@@ -0,0 +1,83 @@
+package com.exercise.redisdemo01.core;
+
+import com.exercise.redisdemo01.core.provider.ReactiveHashCacheProvider;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import reactor.core.publisher.Flux;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 响应式哈希缓存提供者测试类
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Slf4j
+@SpringBootTest
+class RedisReactiveHashTest {
+
+    @Resource
+    private ReactiveHashCacheProvider reactiveHashCacheProvider;
+
+    @Resource
+    private StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 测试响应式设置、获取与删除
+     */
+    @Test
+    void testSetAndGet() {
+        String key = "test:reactive:hash";
+        Assertions.assertEquals(Boolean.TRUE, reactiveHashCacheProvider.set(key, "field1", "value1").block());
+        Assertions.assertEquals("value1", reactiveHashCacheProvider.get(key, "field1").block());
+        Assertions.assertEquals("", reactiveHashCacheProvider.get(key, "missing").block());
+
+        reactiveHashCacheProvider.set(key, Map.of("field2", "value2", "field3", "value3")).block();
+        Assertions.assertEquals(List.of("value2", "", "value3"),
+                reactiveHashCacheProvider.get(key, "field2", "missing", "field3").block());
+
+        Assertions.assertEquals(2L, reactiveHashCacheProvider.del(key, "field1", "field2").block());
+        Assertions.assertEquals(3L, reactiveHashCacheProvider.incrBy(key, "counter", 3).block());
+
+        stringRedisTemplate.delete(key);
+    }
+
+    /**
+     * 测试并发组合多个哈希读取
+     */
+    @Test
+    void testConcurrentGetAndScan() {
+        String key = "test:reactive:hash:scan";
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < 200; i++) {
+            map.put("field" + i, "value" + i);
+        }
+        reactiveHashCacheProvider.set(key, map).block();
+
+        List<String> values = Flux.range(0, 200)
+                .flatMapSequential(i -> reactiveHashCacheProvider.get(key, "field" + i))
+                .collectList()
+                .block();
+        Assertions.assertEquals(200, values.size());
+        Assertions.assertEquals("value199", values.get(199));
+
+        Map<String, String> scanned = reactiveHashCacheProvider.scanAll(key)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .block();
+        Assertions.assertEquals(map, scanned);
+
+        // 按匹配模式扫描，限制请求数量时只拉取所需的批次
+        Assertions.assertEquals(10L, reactiveHashCacheProvider.scanAll(key, "field1?", 50).count().block());
+        Assertions.assertEquals(5, reactiveHashCacheProvider.scanAll(key, null, 50).take(5).collectList().block().size());
+
+        stringRedisTemplate.delete(key);
+    }
+}
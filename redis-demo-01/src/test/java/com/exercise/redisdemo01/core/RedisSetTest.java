@@ -7,6 +7,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 
 
 import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
 import java.util.*;
@@ -263,6 +264,107 @@ class RedisSetTest {
         stringRedisTemplate.delete(key2);
     }
 
+    /**
+     * 测试每个集合携带多个元素的原子批量添加，成员数量超过脚本单次 unpack 的分段大小
+     */
+    @Test
+    void testAtomicitySetWithManyMembers() {
+        String key1 = "test:set:atomicMany1";
+        String key2 = "test:set:atomicMany2";
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 12000; i++) {
+            values.add("value" + i);
+        }
+
+        Map<String, List<String>> members = new LinkedHashMap<>();
+        members.put(key1, values);
+        members.put(key2, List.of("a", "b", "a"));
+        assertEquals(12002L, setCacheProvider.atomicitySet(members));
+        assertEquals(12000L, stringRedisTemplate.opsForSet().size(key1));
+        assertEquals(Set.of("a", "b"), setCacheProvider.queryAll(key2));
+
+        stringRedisTemplate.delete(List.of(key1, key2));
+    }
+
+    /**
+     * 测试每个有序集合携带多个元素的原子批量添加
+     */
+    @Test
+    void testZAtomicityAddWithMap() {
+        String key = "test:zset:atomicMap";
+        Map<String, Double> scores = new HashMap<>();
+        for (int i = 0; i < 6000; i++) {
+            scores.put("member" + i, (double) i);
+        }
+        scores.put("top", Double.POSITIVE_INFINITY);
+
+        assertEquals(6001L, setCacheProvider.zAtomicityAdd(Map.of(key, scores)));
+        assertEquals(2500.0, setCacheProvider.zScore(key, "member2500"));
+        assertEquals(0L, setCacheProvider.zRevRank(key, "top"));
+
+        stringRedisTemplate.delete(key);
+    }
+
+    /**
+     * 测试服务端脚本缓存被清空后，脚本调用自动重新加载
+     */
+    @Test
+    void testAtomicitySetAfterScriptFlush() {
+        String key = "test:set:scriptFlush";
+        stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.scriptingCommands().scriptFlush();
+            return null;
+        });
+
+        setCacheProvider.atomicitySet(key, "value1", key, "value2");
+        assertEquals(Set.of("value1", "value2"), setCacheProvider.queryAll(key));
+
+        stringRedisTemplate.delete(key);
+    }
+
+    /**
+     * 测试管道模式批量添加集合元素
+     */
+    @Test
+    void testPipelinedSet() {
+        String key1 = "test:set:pipelined1";
+        String key2 = "test:set:pipelined2";
+        assertEquals(3L, setCacheProvider.pipelinedSet(key1, "a", key2, "b", key1, "c", key1, "a"));
+        assertEquals(Set.of("a", "c"), setCacheProvider.queryAll(key1));
+        assertEquals(Set.of("b"), setCacheProvider.queryAll(key2));
+
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            values.add("value" + i);
+        }
+        assertEquals(2500L, setCacheProvider.pipelinedSet(Map.of(key2, values)));
+        assertEquals(2501L, stringRedisTemplate.opsForSet().size(key2));
+
+        stringRedisTemplate.delete(List.of(key1, key2));
+        assertThrows(IllegalArgumentException.class, () -> setCacheProvider.pipelinedSet("key1", "value1", "key2"));
+    }
+
+    /**
+     * 测试管道模式批量添加有序集合元素，模拟排行榜重建
+     */
+    @Test
+    void testPipelinedZAdd() {
+        String key = "test:zset:pipelined";
+        Map<String, Double> scores = new LinkedHashMap<>();
+        for (int i = 0; i < 20000; i++) {
+            scores.put("player" + i, (double) i);
+        }
+        assertEquals(20000L, setCacheProvider.pipelinedZAdd(Map.of(key, scores)));
+        assertEquals(20000L, setCacheProvider.zCard(key));
+        assertEquals(0L, setCacheProvider.zRevRank(key, "player19999"));
+
+        assertEquals(1L, setCacheProvider.pipelinedZAdd(key, "player0", "30000", key, "newPlayer", "1.5"));
+        assertEquals(0L, setCacheProvider.zRevRank(key, "player0"));
+
+        stringRedisTemplate.delete(key);
+        assertThrows(IllegalArgumentException.class, () -> setCacheProvider.pipelinedZAdd(key, "value1"));
+    }
+
     @Test
     void testZAtomicityAddInvalidArgument() {
         assertThrows(IllegalArgumentException.class, () -> {
@@ -0,0 +1,152 @@
+package com.exercise.redisdemo01.core;
+
+import com.exercise.redisdemo01.core.provider.BitMapCacheProvider;
+import com.exercise.redisdemo01.core.provider.ShardedBitMapProvider;
+import io.lettuce.core.cluster.SlotHash;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Set;
+
+/**
+ * 分片位图测试类
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Slf4j
+@SpringBootTest
+class RedisShardedBitMapTest {
+
+    @Resource
+    private ShardedBitMapProvider shardedBitMapProvider;
+
+    @Resource
+    private BitMapCacheProvider bitMapCacheProvider;
+
+    @Resource
+    private StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 测试十亿级偏移量只创建所在的分片
+     */
+    @Test
+    void testSetAndGetBit() {
+        String key = "test:shardedBitMap:setBit";
+        shardedBitMapProvider.delete(key);
+
+        Assertions.assertFalse(shardedBitMapProvider.setBit(key, 3_000_000_000L, true));
+        Assertions.assertTrue(shardedBitMapProvider.setBit(key, 3_000_000_000L, true));
+        shardedBitMapProvider.setBit(key, 7L, true);
+
+        Assertions.assertTrue(shardedBitMapProvider.getBit(key, 3_000_000_000L));
+        Assertions.assertTrue(shardedBitMapProvider.getBit(key, 7L));
+        Assertions.assertFalse(shardedBitMapProvider.getBit(key, 3_000_000_001L));
+        Assertions.assertFalse(shardedBitMapProvider.getBit(key, 1_000_000_000L));
+        Assertions.assertEquals(Set.of(0L, 3_000_000_000L / 65536), shardedBitMapProvider.shards(key));
+
+        // 设置为0不会创建新的分片
+        Assertions.assertFalse(shardedBitMapProvider.setBit(key, 2_000_000_000L, false));
+        Assertions.assertEquals(2, shardedBitMapProvider.shards(key).size());
+
+        Assertions.assertTrue(shardedBitMapProvider.setBit(key, 7L, false));
+        Assertions.assertEquals(1L, shardedBitMapProvider.bitCount(key));
+
+        shardedBitMapProvider.delete(key);
+        Assertions.assertTrue(shardedBitMapProvider.shards(key).isEmpty());
+        Assertions.assertFalse(shardedBitMapProvider.getBit(key, 3_000_000_000L));
+    }
+
+    /**
+     * 测试分片键以分片序号作为哈希标签，不同位图的同一个分片位于同一个槽位
+     */
+    @Test
+    void testShardKeySlot() {
+        String left = "test:shardedBitMap:slotLeft";
+        String right = "test:shardedBitMap:slotRight";
+        shardedBitMapProvider.delete(left);
+        shardedBitMapProvider.delete(right);
+
+        shardedBitMapProvider.setBit(left, 70_000L, true);
+        shardedBitMapProvider.setBit(right, 70_001L, true);
+        Assertions.assertEquals(Boolean.TRUE, stringRedisTemplate.hasKey(left + ":shard:{1}"));
+        Assertions.assertEquals(Boolean.TRUE, stringRedisTemplate.hasKey(right + ":shard:{1}"));
+        Assertions.assertEquals(SlotHash.getSlot(left + ":shard:{1}"), SlotHash.getSlot(right + ":shard:{1}"));
+        Assertions.assertNotEquals(SlotHash.getSlot(left + ":shard:{1}"), SlotHash.getSlot(left + ":shard:{2}"));
+
+        shardedBitMapProvider.delete(left);
+        shardedBitMapProvider.delete(right);
+    }
+
+    /**
+     * 测试稀疏偏移量的分片内存远小于单个位图
+     */
+    @Test
+    void testMemoryUsage() {
+        String key = "test:shardedBitMap:memory";
+        String plainKey = "test:shardedBitMap:memory:plain";
+        shardedBitMapProvider.delete(key);
+        long[] offsets = {10L, 50_000_000L, 200_000_000L};
+        for (long offset : offsets) {
+            shardedBitMapProvider.setBit(key, offset, true);
+            bitMapCacheProvider.setBit(plainKey, offset, true);
+        }
+
+        Assertions.assertEquals(3L, shardedBitMapProvider.bitCount(key));
+        long shardedUsage = shardedBitMapProvider.memoryUsage(key);
+        long plainUsage = bitMapCacheProvider.memoryUsage(plainKey);
+        log.info("稀疏位图内存对比 sharded={} bytes, plain={} bytes", shardedUsage, plainUsage);
+        Assertions.assertTrue(shardedUsage > 0);
+        Assertions.assertTrue(shardedUsage * 100 < plainUsage);
+
+        shardedBitMapProvider.delete(key);
+        bitMapCacheProvider.delete(plainKey);
+    }
+
+    /**
+     * 测试按分片执行位运算，目标位图中不属于结果的旧分片会被删除
+     */
+    @Test
+    void testBitOp() {
+        String key1 = "test:shardedBitMap:bitOp:1";
+        String key2 = "test:shardedBitMap:bitOp:2";
+        String destKey = "test:shardedBitMap:bitOp:dest";
+        for (String key : new String[]{key1, key2, destKey}) {
+            shardedBitMapProvider.delete(key);
+        }
+        shardedBitMapProvider.setBit(key1, 1L, true);
+        shardedBitMapProvider.setBit(key1, 1_000_000L, true);
+        shardedBitMapProvider.setBit(key2, 1L, true);
+        shardedBitMapProvider.setBit(key2, 2L, true);
+        shardedBitMapProvider.setBit(key2, 5_000_000L, true);
+        shardedBitMapProvider.setBit(destKey, 9_000_000L, true);
+
+        shardedBitMapProvider.bitOp("AND", destKey, key1, key2);
+        Assertions.assertEquals(1L, shardedBitMapProvider.bitCount(destKey));
+        Assertions.assertTrue(shardedBitMapProvider.getBit(destKey, 1L));
+        Assertions.assertEquals(Set.of(0L), shardedBitMapProvider.shards(destKey));
+
+        shardedBitMapProvider.bitOp("OR", destKey, key1, key2);
+        Assertions.assertEquals(4L, shardedBitMapProvider.bitCount(destKey));
+        Assertions.assertTrue(shardedBitMapProvider.getBit(destKey, 5_000_000L));
+
+        shardedBitMapProvider.bitOp("XOR", destKey, key1, key2);
+        Assertions.assertEquals(3L, shardedBitMapProvider.bitCount(destKey));
+        Assertions.assertFalse(shardedBitMapProvider.getBit(destKey, 1L));
+
+        // 目标位图同时作为源位图
+        shardedBitMapProvider.bitOp("OR", destKey, destKey, key1);
+        Assertions.assertEquals(4L, shardedBitMapProvider.bitCount(destKey));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> shardedBitMapProvider.bitOp("NOT", destKey, key1));
+
+        for (String key : new String[]{key1, key2, destKey}) {
+            shardedBitMapProvider.delete(key);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.exercise.redisdemo01.core;
+
+import com.exercise.redisdemo01.core.config.ShardedCounterConfig;
+import com.exercise.redisdemo01.core.provider.ShardedCounterProvider;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+/**
+ * 分片计数器测试类
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Slf4j
+@SpringBootTest(properties = "redis.sharded-counter.flush-interval=3600000")
+class RedisShardedCounterTest {
+
+    @Resource
+    private ShardedCounterProvider shardedCounterProvider;
+
+    @Resource
+    private ShardedCounterConfig shardedCounterConfig;
+
+    @Resource
+    private StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 测试直接自增分散到多个分片，读取时汇总所有分片
+     */
+    @Test
+    void testIncrement() {
+        String key = "test:shardedCounter:increment";
+        shardedCounterProvider.delete(key);
+        for (int i = 0; i < 1000; i++) {
+            shardedCounterProvider.increment(key);
+        }
+        shardedCounterProvider.increment(key, -10);
+        Assertions.assertEquals(990L, shardedCounterProvider.get(key));
+
+        Long shardCount = stringRedisTemplate.countExistingKeys(
+                IntStream.range(0, shardedCounterConfig.getShards())
+                        .mapToObj(i -> key + ":shard:" + i).toList());
+        Assertions.assertTrue(shardCount != null && shardCount > 1);
+
+        shardedCounterProvider.delete(key);
+        Assertions.assertEquals(0L, shardedCounterProvider.get(key));
+    }
+
+    /**
+     * 测试并发缓冲自增，刷新前不可见，刷新后一次写入
+     * 刷新间隔设置得足够长，保证后台线程不会在断言之前刷新
+     */
+    @Test
+    void testIncrementBuffered() {
+        String key = "test:shardedCounter:buffered";
+        shardedCounterProvider.flush();
+        shardedCounterProvider.delete(key);
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 500; i++) {
+                    shardedCounterProvider.incrementBuffered(key, 1);
+                }
+            }));
+        }
+        futures.forEach(CompletableFuture::join);
+        Assertions.assertEquals(0L, shardedCounterProvider.get(key));
+
+        shardedCounterProvider.flush();
+        Assertions.assertEquals(4000L, shardedCounterProvider.get(key));
+
+        shardedCounterProvider.flush();
+        Assertions.assertEquals(4000L, shardedCounterProvider.get(key));
+        shardedCounterProvider.delete(key);
+    }
+
+    /**
+     * 测试刷新时部分命令被服务端拒绝，被拒绝的增量直接丢弃不再重试，已生效的计数器不会重复累加
+     */
+    @Test
+    void testFlushRejected() {
+        String okKey = "test:shardedCounter:partialOk";
+        String badKey = "test:shardedCounter:partialBad";
+        shardedCounterProvider.flush();
+        shardedCounterProvider.delete(okKey);
+        shardedCounterProvider.delete(badKey);
+        for (int i = 0; i < shardedCounterConfig.getShards(); i++) {
+            stringRedisTemplate.opsForValue().set(badKey + ":shard:" + i, "not-a-number");
+        }
+
+        shardedCounterProvider.incrementBuffered(okKey, 3);
+        shardedCounterProvider.incrementBuffered(badKey, 5);
+        shardedCounterProvider.flush();
+        Assertions.assertEquals(3L, shardedCounterProvider.get(okKey));
+
+        shardedCounterProvider.delete(badKey);
+        shardedCounterProvider.flush();
+        Assertions.assertEquals(3L, shardedCounterProvider.get(okKey));
+        Assertions.assertEquals(0L, shardedCounterProvider.get(badKey));
+        shardedCounterProvider.delete(okKey);
+        shardedCounterProvider.delete(badKey);
+    }
+}
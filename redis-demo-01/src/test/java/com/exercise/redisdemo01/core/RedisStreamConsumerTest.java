@@ -0,0 +1,146 @@
+package com.exercise.redisdemo01.core;
+
+import com.exercise.redisdemo01.core.model.bean.StreamConsumerMetrics;
+import com.exercise.redisdemo01.core.provider.StreamCacheProvider;
+import com.exercise.redisdemo01.core.provider.StreamConsumerProvider;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stream 消费者运行时测试类
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Slf4j
+@SpringBootTest(properties = {"redis.stream-consumer.reclaim-interval=200", "redis.stream-consumer.reclaim-min-idle=500"})
+class RedisStreamConsumerTest {
+
+    @Resource
+    private StreamConsumerProvider streamConsumerProvider;
+
+    @Resource
+    private StreamCacheProvider streamCacheProvider;
+
+    @Resource
+    private StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 测试多个消费者并发消费同一个消费者组，全部确认后没有待处理与积压的消息
+     */
+    @Test
+    void testSubscribe() throws InterruptedException {
+        String streamName = "test-consumer-stream";
+        String groupName = "test-consumer-group";
+        stringRedisTemplate.delete(streamName);
+        streamCacheProvider.addMessages(streamName, "init", "0");
+
+        int total = 50;
+        CountDownLatch latch = new CountDownLatch(total);
+        Set<String> consumed = ConcurrentHashMap.newKeySet();
+        StreamConsumerProvider.Subscription subscription = streamConsumerProvider.subscribe(streamName, groupName,
+                3, 5, record -> {
+                    String index = record.getValue().get("index");
+                    if (index != null && consumed.add(index)) {
+                        latch.countDown();
+                    }
+                });
+        Assertions.assertEquals(3, subscription.consumerNames().size());
+        Assertions.assertEquals(3, Set.copyOf(subscription.consumerNames()).size());
+
+        for (int i = 0; i < total; i++) {
+            streamCacheProvider.addMessages(streamName, "index", String.valueOf(i));
+        }
+        Assertions.assertTrue(latch.await(10, TimeUnit.SECONDS));
+
+        // 处理器返回后整批才会确认，等待最后一批确认完成
+        StreamConsumerMetrics metrics = subscription.metrics();
+        for (int i = 0; i < 50 && metrics.getPending() > 0; i++) {
+            TimeUnit.MILLISECONDS.sleep(100);
+            metrics = subscription.metrics();
+        }
+        log.info("消费者组指标 {}", metrics);
+        Assertions.assertEquals(0L, metrics.getPending());
+        Assertions.assertEquals(0L, metrics.getLag());
+        Assertions.assertTrue(metrics.getProcessed() >= total);
+        Assertions.assertFalse(streamConsumerProvider.metrics().isEmpty());
+
+        Assertions.assertTrue(subscription.cancel(5000));
+        Assertions.assertFalse(subscription.isRunning());
+        stringRedisTemplate.delete(streamName);
+    }
+
+    /**
+     * 测试停止订阅后写入的消息计入积压
+     */
+    @Test
+    void testLagAfterCancel() {
+        String streamName = "test-consumer-lag-stream";
+        String groupName = "test-consumer-lag-group";
+        stringRedisTemplate.delete(streamName);
+        streamCacheProvider.addMessages(streamName, "init", "0");
+
+        StreamConsumerProvider.Subscription subscription = streamConsumerProvider.subscribe(streamName, groupName,
+                record -> {
+                });
+        Assertions.assertTrue(subscription.cancel(5000));
+        for (int i = 0; i < 3; i++) {
+            streamCacheProvider.addMessages(streamName, "index", String.valueOf(i));
+        }
+
+        StreamConsumerMetrics metrics = subscription.metrics();
+        Assertions.assertEquals(3L, metrics.getLag());
+        Assertions.assertEquals(0, metrics.getRunningConsumers());
+        stringRedisTemplate.delete(streamName);
+    }
+
+    /**
+     * 测试崩溃消费者遗留的消息被回收后，由订阅自己的消费者线程处理，而不是回收线程
+     */
+    @Test
+    void testReclaimOnConsumerThread() throws InterruptedException {
+        String streamName = "test-consumer-reclaim-stream";
+        String groupName = "test-consumer-reclaim-group";
+        stringRedisTemplate.delete(List.of(streamName, streamName + ":dlq"));
+        streamCacheProvider.addMessages(streamName, "init", "0");
+        streamCacheProvider.createGroup(streamName, groupName);
+        for (int i = 0; i < 3; i++) {
+            streamCacheProvider.addMessages(streamName, "index", String.valueOf(i));
+        }
+        streamCacheProvider.readGroupBatch(streamName, groupName, "crashed", 10, 0, record -> {
+            throw new IllegalStateException("模拟消费者崩溃");
+        });
+
+        CountDownLatch latch = new CountDownLatch(3);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        StreamConsumerProvider.Subscription subscription = streamConsumerProvider.subscribe(streamName, groupName,
+                1, 5, record -> {
+                    threads.add(Thread.currentThread().getName());
+                    latch.countDown();
+                });
+        Assertions.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        log.info("处理回收消息的线程 {}", threads);
+        Assertions.assertTrue(threads.stream().allMatch(name -> name.startsWith("redis-stream-consumer-")));
+
+        StreamConsumerMetrics metrics = subscription.metrics();
+        for (int i = 0; i < 50 && metrics.getPending() > 0; i++) {
+            TimeUnit.MILLISECONDS.sleep(100);
+            metrics = subscription.metrics();
+        }
+        Assertions.assertEquals(0L, metrics.getPending());
+        Assertions.assertEquals(3L, metrics.getReclaimed());
+        Assertions.assertTrue(subscription.cancel(5000));
+        stringRedisTemplate.delete(List.of(streamName, streamName + ":dlq"));
+    }
+}
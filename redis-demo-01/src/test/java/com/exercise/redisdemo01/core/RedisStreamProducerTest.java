@@ -0,0 +1,93 @@
+package com.exercise.redisdemo01.core;
+
+import com.exercise.redisdemo01.core.provider.StreamProducerProvider;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Stream 批量生产者测试类
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Slf4j
+@SpringBootTest(properties = {"redis.stream-producer.flush-interval=3600000", "redis.stream-producer.max-buffered-messages=150"})
+class RedisStreamProducerTest {
+
+    @Resource
+    private StreamProducerProvider streamProducerProvider;
+
+    @Resource
+    private StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 测试并发发送的消息按批次写入，刷新后全部可见
+     */
+    @Test
+    void testSend() {
+        String streamName = "test-producer-stream";
+        streamProducerProvider.flush();
+        stringRedisTemplate.delete(streamName);
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int thread = t;
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 125; i++) {
+                    streamProducerProvider.send(streamName, Map.of("thread", String.valueOf(thread), "index", String.valueOf(i)));
+                }
+            }));
+        }
+        futures.forEach(CompletableFuture::join);
+        streamProducerProvider.flush();
+
+        Assertions.assertEquals(0, streamProducerProvider.pendingMessages());
+        Assertions.assertEquals(500L, stringRedisTemplate.opsForStream().size(streamName));
+        stringRedisTemplate.delete(streamName);
+    }
+
+    /**
+     * 测试写入失败时发送不抛出异常，消息留在缓冲中；缓冲达到上限后拒绝发送，恢复后全部写入且不重复
+     */
+    @Test
+    void testSendRejectedWhenFull() {
+        String streamName = "test-producer-full-stream";
+        streamProducerProvider.flush();
+        stringRedisTemplate.delete(streamName);
+        stringRedisTemplate.opsForValue().set(streamName, "not-a-stream");
+
+        for (int i = 0; i < 150; i++) {
+            streamProducerProvider.send(streamName, Map.of("index", String.valueOf(i)));
+        }
+        Assertions.assertEquals(150, streamProducerProvider.pendingMessages());
+        Assertions.assertThrows(RejectedExecutionException.class,
+                () -> streamProducerProvider.send(streamName, Map.of("index", "150")));
+        Assertions.assertEquals(150, streamProducerProvider.pendingMessages());
+
+        stringRedisTemplate.delete(streamName);
+        streamProducerProvider.flush();
+        Assertions.assertEquals(0, streamProducerProvider.pendingMessages());
+        Assertions.assertEquals(150L, stringRedisTemplate.opsForStream().size(streamName));
+        stringRedisTemplate.delete(streamName);
+    }
+
+    /**
+     * 测试空消息直接拒绝，不进入缓冲
+     */
+    @Test
+    void testSendEmptyMessage() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> streamProducerProvider.send("test-producer-empty-stream", Map.of()));
+    }
+}
@@ -1,14 +1,27 @@
 package com.exercise.redisdemo01.core;
 
+import com.exercise.redisdemo01.core.model.bean.StreamPage;
+import com.exercise.redisdemo01.core.model.bean.StreamReclaimResult;
 import com.exercise.redisdemo01.core.provider.StreamCacheProvider;
 import jakarta.annotation.Resource;
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 /**
  * @author 王玉涛
@@ -22,6 +35,9 @@ class RedisStreamTest {
     @Resource
     private StreamCacheProvider streamCacheProvider;
 
+    @Resource
+    private StringRedisTemplate stringRedisTemplate;
+
     @Test
     void testAddMessage() {
         streamCacheProvider.addMessage("test-stream", "key1", "value1");
@@ -44,6 +60,131 @@ class RedisStreamTest {
         log.info("Read all messages: {}", result);
     }
 
+    /**
+     * 测试读取所有消息并直接映射为 record 对象
+     */
+    @Test
+    void testReadAllAs() {
+        String streamName = "test-typed-stream";
+        stringRedisTemplate.delete(streamName);
+        streamCacheProvider.addMessages(streamName, "user", "alice", "score", "10");
+        streamCacheProvider.addMessages(streamName, "user", "bob", "score", "20");
+
+        List<ScoreEvent> events = streamCacheProvider.readAllAs(streamName, ScoreEvent.class);
+        Assertions.assertEquals(2, events.size());
+        Assertions.assertEquals("alice", events.get(0).user());
+        Assertions.assertEquals(10L, events.get(0).score());
+        Assertions.assertEquals(20L, events.get(1).score());
+        Assertions.assertTrue(events.get(0).id().getSequence() >= 0);
+        stringRedisTemplate.delete(streamName);
+    }
+
+    record ScoreEvent(RecordId id, String user, long score) {
+    }
+
+    /**
+     * 测试管道批量写入部分失败时，失败消息的ID为null，成功的消息照常写入
+     */
+    @Test
+    void testAddMessagesPipelinedPartialFailure() {
+        String streamName = "test-pipelined-partial-stream";
+        stringRedisTemplate.delete(streamName);
+        List<Map<String, String>> messages = List.of(Map.of("index", "0"), Map.of(), Map.of("index", "2"));
+
+        List<String> messageIds = streamCacheProvider.addMessagesPipelined(streamName, messages,
+                RedisStreamCommands.XAddOptions.none());
+        Assertions.assertEquals(3, messageIds.size());
+        Assertions.assertNotNull(messageIds.get(0));
+        Assertions.assertNull(messageIds.get(1));
+        Assertions.assertNotNull(messageIds.get(2));
+        Assertions.assertEquals(2L, stringRedisTemplate.opsForStream().size(streamName));
+        stringRedisTemplate.delete(streamName);
+    }
+
+    /**
+     * 测试正向与反向分页读取，使用返回的游标继续读取
+     */
+    @Test
+    void testRangePaging() {
+        String streamName = "test-paged-stream";
+        stringRedisTemplate.delete(streamName);
+        List<Map<String, String>> messages = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            messages.add(Map.of("user", "user" + i, "score", String.valueOf(i)));
+        }
+        List<String> messageIds = streamCacheProvider.addMessagesPipelined(streamName, messages,
+                RedisStreamCommands.XAddOptions.none());
+
+        List<String> forward = new ArrayList<>();
+        String cursor = "-";
+        StreamPage<MapRecord<String, String, String>> page;
+        int pages = 0;
+        do {
+            page = streamCacheProvider.range(streamName, cursor, "+", 10);
+            page.getRecords().forEach(record -> forward.add(record.getId().getValue()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (page.isHasMore());
+        Assertions.assertEquals(messageIds, forward);
+        Assertions.assertEquals(3, pages);
+        Assertions.assertEquals(messageIds.get(24), page.getLastId());
+
+        StreamPage<MapRecord<String, String, String>> empty = streamCacheProvider.range(streamName, page.nextCursor(), "+", 10);
+        Assertions.assertTrue(empty.getRecords().isEmpty());
+        Assertions.assertNull(empty.nextCursor());
+
+        StreamPage<MapRecord<String, String, String>> latest = streamCacheProvider.reverseRange(streamName, "+", "-", 3);
+        Assertions.assertEquals("user24", latest.getRecords().get(0).getValue().get("user"));
+        StreamPage<MapRecord<String, String, String>> older = streamCacheProvider.reverseRange(streamName,
+                latest.nextCursor(), "-", 3);
+        Assertions.assertEquals("user21", older.getRecords().get(0).getValue().get("user"));
+
+        StreamPage<ScoreEvent> typed = streamCacheProvider.rangeAs(streamName, messageIds.get(5), messageIds.get(7),
+                10, ScoreEvent.class);
+        Assertions.assertEquals(List.of(5L, 6L, 7L), typed.getRecords().stream().map(ScoreEvent::score).toList());
+        Assertions.assertFalse(typed.isHasMore());
+        stringRedisTemplate.delete(streamName);
+    }
+
+    /**
+     * 测试流式遍历整个 Stream，页大小不整除消息总数
+     */
+    @Test
+    void testIterate() {
+        String streamName = "test-iterate-stream";
+        stringRedisTemplate.delete(streamName);
+        List<Map<String, String>> messages = new ArrayList<>();
+        for (int i = 0; i < 23; i++) {
+            messages.add(Map.of("user", "user" + i, "score", String.valueOf(i)));
+        }
+        streamCacheProvider.addMessagesPipelined(streamName, messages, RedisStreamCommands.XAddOptions.none());
+
+        try (Stream<MapRecord<String, String, String>> records = streamCacheProvider.iterate(streamName, 5)) {
+            Assertions.assertEquals(23L, records.count());
+        }
+        try (Stream<ScoreEvent> events = streamCacheProvider.iterateAs(streamName, 4, ScoreEvent.class)) {
+            Assertions.assertEquals(253L, events.mapToLong(ScoreEvent::score).sum());
+        }
+        Assertions.assertEquals(0L, streamCacheProvider.iterate("test-iterate-missing", 5).count());
+        stringRedisTemplate.delete(streamName);
+    }
+
+    /**
+     * 测试流式遍历在消费时才读取第一页，创建流之后写入的消息也能读到
+     */
+    @Test
+    void testIterateLazy() {
+        String streamName = "test-iterate-lazy-stream";
+        stringRedisTemplate.delete(streamName);
+
+        try (Stream<MapRecord<String, String, String>> records = streamCacheProvider.iterate(streamName, 5)) {
+            streamCacheProvider.addMessages(streamName, "index", "0");
+            Assertions.assertEquals(1L, records.count());
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> streamCacheProvider.iterate(streamName, 0));
+        stringRedisTemplate.delete(streamName);
+    }
+
     @Test
     void testReadMapCount() {
         streamCacheProvider.addMessages("test-stream", "key1", "value1", "key2", "value2");
@@ -66,6 +207,24 @@ class RedisStreamTest {
         log.info("Read messages with block: {}", result);
     }
 
+    /**
+     * 测试异步阻塞读取：多个读取同时阻塞等待，新消息到达后全部返回
+     */
+    @Test
+    void testReadMapBlockAsync() throws Exception {
+        String streamName = "test-stream-async";
+        List<CompletableFuture<List<Map<String, String>>>> readers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            readers.add(streamCacheProvider.readMapBlockAsync(streamName, 5000, String.class, String.class));
+        }
+        Thread.sleep(1000);
+        streamCacheProvider.addMessage(streamName, "key1", "value1");
+
+        for (CompletableFuture<List<Map<String, String>>> reader : readers) {
+            Assertions.assertEquals(List.of(Map.of("key1", "value1")), reader.get(5, TimeUnit.SECONDS));
+        }
+    }
+
     @Test
     void testCreateGroupAndReadMessage() {
         String streamName = "test-group-stream";
@@ -86,4 +245,116 @@ class RedisStreamTest {
         Map<String, String> result = streamCacheProvider.readMessage(streamName, groupName, consumerName, String.class, String.class);
         log.info("Read message from group: {}", result);
     }
+
+    /**
+     * 测试管道批量添加消息，每个 XADD 携带精确的 MAXLEN 裁剪
+     */
+    @Test
+    void testAddMessagesPipelined() {
+        String streamName = "test-pipelined-stream";
+        stringRedisTemplate.delete(streamName);
+        List<Map<String, String>> messages = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            messages.add(Map.of("index", String.valueOf(i)));
+        }
+
+        List<String> messageIds = streamCacheProvider.addMessagesPipelined(streamName, messages,
+                RedisStreamCommands.XAddOptions.none());
+        Assertions.assertEquals(20, messageIds.size());
+        Assertions.assertEquals(20L, stringRedisTemplate.opsForStream().size(streamName));
+
+        messageIds = streamCacheProvider.addMessagesPipelined(streamName, messages,
+                RedisStreamCommands.XAddOptions.maxlen(5).approximateTrimming(false));
+        Assertions.assertEquals(20, messageIds.size());
+        Assertions.assertEquals(5L, stringRedisTemplate.opsForStream().size(streamName));
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream()
+                .range(streamName, Range.unbounded());
+        Assertions.assertNotNull(records);
+        Assertions.assertEquals(messageIds.get(19), records.get(4).getId().getValue());
+        Assertions.assertEquals("19", records.get(4).getValue().get("index"));
+        stringRedisTemplate.delete(streamName);
+    }
+
+    /**
+     * 测试批量读取消费者组消息：整条记录交给处理器，处理成功的统一确认，失败的留在待处理列表
+     */
+    @Test
+    void testReadGroupBatch() {
+        String streamName = "test-group-batch-stream";
+        String groupName = "test-batch-group";
+        stringRedisTemplate.delete(streamName);
+        streamCacheProvider.addMessages(streamName, "init", "0");
+        streamCacheProvider.createGroup(streamName, groupName);
+        for (int i = 0; i < 5; i++) {
+            streamCacheProvider.addMessages(streamName, "index", String.valueOf(i), "name", "message" + i);
+        }
+
+        List<Map<String, String>> handled = new ArrayList<>();
+        int read = streamCacheProvider.readGroupBatch(streamName, groupName, "consumer-1", 10, 1000, record -> {
+            if ("3".equals(record.getValue().get("index"))) {
+                throw new IllegalStateException("模拟处理失败");
+            }
+            handled.add(record.getValue());
+        });
+
+        Assertions.assertEquals(5, read);
+        Assertions.assertEquals(4, handled.size());
+        Assertions.assertEquals(Map.of("index", "0", "name", "message0"), handled.get(0));
+        PendingMessagesSummary pending = stringRedisTemplate.opsForStream().pending(streamName, groupName);
+        Assertions.assertNotNull(pending);
+        Assertions.assertEquals(1L, pending.getTotalPendingMessages());
+
+        Assertions.assertEquals(0, streamCacheProvider.readGroupBatch(streamName, groupName, "consumer-1", 10, 0,
+                record -> Assertions.fail("不应读取到新消息")));
+        stringRedisTemplate.delete(streamName);
+    }
+
+    /**
+     * 测试回收待处理消息：崩溃消费者遗留的消息转移给存活消费者，投递次数达到上限的转入死信流
+     */
+    @Test
+    void testReclaimPending() {
+        String streamName = "test-reclaim-stream";
+        String deadLetterStream = streamName + ":dlq";
+        String groupName = "test-reclaim-group";
+        stringRedisTemplate.delete(List.of(streamName, deadLetterStream));
+        streamCacheProvider.addMessages(streamName, "init", "0");
+        streamCacheProvider.createGroup(streamName, groupName);
+        for (int i = 0; i < 3; i++) {
+            streamCacheProvider.addMessages(streamName, "index", String.valueOf(i));
+        }
+
+        streamCacheProvider.readGroupBatch(streamName, groupName, "crashed", 10, 0, record -> {
+            throw new IllegalStateException("模拟消费者崩溃");
+        });
+        Assertions.assertEquals(new StreamReclaimResult(0, 0, 0), streamCacheProvider.reclaimPending(streamName,
+                groupName, "alive", 60000, 10, 2, deadLetterStream, record -> Assertions.fail("未空闲的消息不应被回收")));
+
+        List<String> handled = new ArrayList<>();
+        StreamReclaimResult first = streamCacheProvider.reclaimPending(streamName, groupName, "alive", 0, 10, 2,
+                deadLetterStream, record -> {
+                    if ("2".equals(record.getValue().get("index"))) {
+                        throw new IllegalStateException("模拟处理失败");
+                    }
+                    handled.add(record.getValue().get("index"));
+                });
+        Assertions.assertEquals(new StreamReclaimResult(3, 2, 0), first);
+        Assertions.assertEquals(List.of("0", "1"), handled);
+
+        StreamReclaimResult second = streamCacheProvider.reclaimPending(streamName, groupName, "alive", 0, 10, 2,
+                deadLetterStream, record -> Assertions.fail("投递次数达到上限的消息不应重新处理"));
+        Assertions.assertEquals(new StreamReclaimResult(0, 0, 1), second);
+
+        PendingMessagesSummary pending = stringRedisTemplate.opsForStream().pending(streamName, groupName);
+        Assertions.assertNotNull(pending);
+        Assertions.assertEquals(0L, pending.getTotalPendingMessages());
+        List<MapRecord<String, Object, Object>> deadLetters = stringRedisTemplate.opsForStream()
+                .range(deadLetterStream, Range.unbounded());
+        Assertions.assertNotNull(deadLetters);
+        Assertions.assertEquals(1, deadLetters.size());
+        Assertions.assertEquals("2", deadLetters.get(0).getValue().get("index"));
+        Assertions.assertEquals(streamName, deadLetters.get(0).getValue().get("dlq-stream"));
+        Assertions.assertEquals("2", deadLetters.get(0).getValue().get("dlq-deliveries"));
+        stringRedisTemplate.delete(List.of(streamName, deadLetterStream));
+    }
 }
@@ -1,5 +1,6 @@
 package com.exercise.redisdemo01.core;
 
+import com.exercise.redisdemo01.core.model.bean.CacheEntry;
 import com.exercise.redisdemo01.core.provider.StringCacheProvider;
 import jakarta.annotation.Resource;
 import lombok.extern.slf4j.Slf4j;
@@ -7,7 +8,9 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -265,6 +268,43 @@ class RedisStringTest {
         cacheProvider.delete("newBatchKey");
     }
 
+    /**
+     * 测试通过管道批量设置带独立过期时间的缓存
+     */
+    @Test
+    void testBatchSetStringWithExpire() {
+        List<CacheEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            entries.add(new CacheEntry("test:batchSetStringWithExpire:key" + i, "value" + i, i % 2 == 0 ? 100 : 0));
+        }
+        Map<String, Boolean> result = cacheProvider.batchSetStringWithExpire(entries, 10);
+        Assertions.assertEquals(25, result.size());
+        Assertions.assertTrue(result.values().stream().allMatch(Boolean.TRUE::equals));
+
+        Assertions.assertEquals("value3", cacheProvider.getString("test:batchSetStringWithExpire:key3"));
+        Assertions.assertTrue(cacheProvider.ttlKey("test:batchSetStringWithExpire:key4") > 0);
+        Assertions.assertEquals(-1L, cacheProvider.ttlKey("test:batchSetStringWithExpire:key5"));
+
+        entries.forEach(entry -> cacheProvider.delete(entry.getKey()));
+    }
+
+    /**
+     * 测试管道中部分 SET 失败时只有失败的key对应false，其余key照常写入
+     */
+    @Test
+    void testBatchSetStringWithExpirePartialFailure() {
+        List<CacheEntry> entries = List.of(
+                new CacheEntry("test:batchSetPartial:key0", "value0", 100),
+                new CacheEntry("test:batchSetPartial:key1", "value1", Long.MAX_VALUE),
+                new CacheEntry("test:batchSetPartial:key2", "value2", 0));
+        Map<String, Boolean> result = cacheProvider.batchSetStringWithExpire(entries, 10);
+
+        Assertions.assertEquals(List.of(true, false, true), List.copyOf(result.values()));
+        Assertions.assertEquals("value0", cacheProvider.getString("test:batchSetPartial:key0"));
+        Assertions.assertEquals("value2", cacheProvider.getString("test:batchSetPartial:key2"));
+        entries.forEach(entry -> cacheProvider.delete(entry.getKey()));
+    }
+
     /**
      * 测试设置字符串的指定位功能
      */
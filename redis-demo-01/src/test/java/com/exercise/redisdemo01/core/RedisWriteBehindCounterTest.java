@@ -0,0 +1,151 @@
+package com.exercise.redisdemo01.core;
+
+import com.exercise.redisdemo01.core.model.bean.WriteBehindMetrics;
+import com.exercise.redisdemo01.core.provider.HashCacheProvider;
+import com.exercise.redisdemo01.core.provider.StringCacheProvider;
+import com.exercise.redisdemo01.core.provider.WriteBehindCounterProvider;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 计数器延迟写测试类
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+@Slf4j
+@SpringBootTest(properties = {"redis.write-behind.flush-interval=3600000", "redis.write-behind.max-pending-entries=10"})
+class RedisWriteBehindCounterTest {
+
+    @Resource
+    private WriteBehindCounterProvider writeBehindCounterProvider;
+
+    @Resource
+    private StringCacheProvider stringCacheProvider;
+
+    @Resource
+    private HashCacheProvider hashCacheProvider;
+
+    /**
+     * 测试String计数器的增量在本地合并，刷新后一次写入
+     */
+    @Test
+    void testIncrString() {
+        String key = "test:writeBehind:string";
+        writeBehindCounterProvider.flush();
+        stringCacheProvider.delete(key);
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 250; i++) {
+                    writeBehindCounterProvider.incrString(key);
+                }
+            }));
+        }
+        futures.forEach(CompletableFuture::join);
+        writeBehindCounterProvider.incrString(key, 10);
+        writeBehindCounterProvider.decrString(key);
+        writeBehindCounterProvider.decrString(key, 9);
+
+        WriteBehindMetrics metrics = writeBehindCounterProvider.metrics();
+        log.info("刷新前指标 {}", metrics);
+        writeBehindCounterProvider.flush();
+        Assertions.assertEquals("1000", stringCacheProvider.getString(key));
+        Assertions.assertEquals(0, writeBehindCounterProvider.metrics().getPendingKeys());
+        Assertions.assertTrue(writeBehindCounterProvider.metrics().getLastFlushTime() > 0);
+        stringCacheProvider.delete(key);
+    }
+
+    /**
+     * 测试哈希字段的增量按字段合并，正负抵消的字段不会写入
+     * 刷新间隔设置得足够长，保证后台线程不会在断言之前刷新
+     */
+    @Test
+    void testIncrBy() {
+        String key = "test:writeBehind:hash";
+        writeBehindCounterProvider.flush();
+        hashCacheProvider.del(key, "pv", "uv", "zero");
+
+        writeBehindCounterProvider.incrBy(key, "pv", 5);
+        writeBehindCounterProvider.incrBy(key, "pv", 7);
+        writeBehindCounterProvider.incrBy(key, "uv", 3);
+        writeBehindCounterProvider.incrBy(key, "zero", 4);
+        writeBehindCounterProvider.incrBy(key, "zero", -4);
+
+        WriteBehindMetrics metrics = writeBehindCounterProvider.metrics();
+        Assertions.assertEquals(2, metrics.getPendingFields());
+        Assertions.assertEquals(15L, metrics.getPendingDelta());
+
+        writeBehindCounterProvider.flush();
+        Assertions.assertEquals("12", hashCacheProvider.get(key, "pv"));
+        Assertions.assertEquals("3", hashCacheProvider.get(key, "uv"));
+        Assertions.assertFalse(hashCacheProvider.isExists(key, "zero"));
+        hashCacheProvider.del(key, "pv", "uv", "zero");
+    }
+
+    /**
+     * 测试服务端拒绝的增量被丢弃并计入指标，不会在每次刷新时重试
+     */
+    @Test
+    void testDropRejected() {
+        String key = "test:writeBehind:rejected";
+        String overflowKey = "test:writeBehind:overflow";
+        writeBehindCounterProvider.flush();
+        stringCacheProvider.setString(key, "not-a-number");
+        stringCacheProvider.setString(overflowKey, String.valueOf(Long.MAX_VALUE));
+        long dropped = writeBehindCounterProvider.metrics().getDroppedCommands();
+
+        writeBehindCounterProvider.incrString(key, 1);
+        writeBehindCounterProvider.incrString(overflowKey, 1);
+        writeBehindCounterProvider.flush();
+
+        WriteBehindMetrics metrics = writeBehindCounterProvider.metrics();
+        Assertions.assertEquals(dropped + 2, metrics.getDroppedCommands());
+        Assertions.assertEquals(0, metrics.getPendingKeys());
+        writeBehindCounterProvider.flush();
+        Assertions.assertEquals(dropped + 2, writeBehindCounterProvider.metrics().getDroppedCommands());
+        Assertions.assertEquals("not-a-number", stringCacheProvider.getString(key));
+        stringCacheProvider.delete(key);
+        stringCacheProvider.delete(overflowKey);
+    }
+
+    /**
+     * 测试本地缓冲达到条目上限后，新的key直接同步写入Redis，已缓冲的key继续合并
+     */
+    @Test
+    void testPendingCap() {
+        String prefix = "test:writeBehind:cap:";
+        writeBehindCounterProvider.flush();
+        for (int i = 0; i <= 10; i++) {
+            stringCacheProvider.delete(prefix + i);
+        }
+        long directWrites = writeBehindCounterProvider.metrics().getDirectWrites();
+
+        for (int i = 0; i < 10; i++) {
+            writeBehindCounterProvider.incrString(prefix + i);
+        }
+        writeBehindCounterProvider.incrString(prefix + 10, 5);
+        writeBehindCounterProvider.incrString(prefix + 0, 2);
+
+        WriteBehindMetrics metrics = writeBehindCounterProvider.metrics();
+        Assertions.assertEquals(10, metrics.getPendingKeys());
+        Assertions.assertEquals(directWrites + 1, metrics.getDirectWrites());
+        Assertions.assertEquals("5", stringCacheProvider.getString(prefix + 10));
+        Assertions.assertEquals("", stringCacheProvider.getString(prefix + 0));
+
+        writeBehindCounterProvider.flush();
+        Assertions.assertEquals("3", stringCacheProvider.getString(prefix + 0));
+        for (int i = 0; i <= 10; i++) {
+            stringCacheProvider.delete(prefix + i);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.exercise.redisdemo01.core.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 本地 HyperLogLog 草图测试类
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+class HyperLogLogSketchTest {
+
+    /**
+     * 测试 dense 编码的头部与长度符合 Redis 的格式
+     */
+    @Test
+    void testDenseHeader() {
+        HyperLogLogSketch sketch = new HyperLogLogSketch();
+        Assertions.assertTrue(sketch.isEmpty());
+        sketch.add("user1");
+        Assertions.assertFalse(sketch.isEmpty());
+
+        byte[] bytes = sketch.toDenseBytes();
+        Assertions.assertEquals(12304, bytes.length);
+        Assertions.assertEquals("HYLL", new String(bytes, 0, 4, StandardCharsets.US_ASCII));
+        Assertions.assertEquals(0, bytes[4]);
+        Assertions.assertEquals((byte) 0x80, bytes[15]);
+    }
+
+    /**
+     * 测试每个寄存器按6位紧凑排列，逐个解码后与写入的值一致
+     */
+    @Test
+    void testRegisterPacking() {
+        HyperLogLogSketch sketch = new HyperLogLogSketch();
+        for (int i = 0; i < 100000; i++) {
+            sketch.add("element" + i);
+        }
+        byte[] bytes = sketch.toDenseBytes();
+
+        HyperLogLogSketch copy = new HyperLogLogSketch();
+        copy.merge(sketch);
+        Assertions.assertArrayEquals(bytes, copy.toDenseBytes());
+
+        int nonZero = 0;
+        for (int i = 0; i < HyperLogLogSketch.REGISTERS; i++) {
+            int position = i * 6;
+            int index = HyperLogLogSketch.HEADER_SIZE + (position >>> 3);
+            int shift = position & 7;
+            int low = (bytes[index] & 0xFF) >>> shift;
+            int high = index + 1 < bytes.length ? (bytes[index + 1] & 0xFF) << (8 - shift) : 0;
+            int value = (low | high) & 63;
+            Assertions.assertTrue(value <= 51);
+            if (value > 0) {
+                nonZero++;
+            }
+        }
+        // 10万个元素分布到16384个寄存器，绝大多数寄存器都应被写入
+        Assertions.assertTrue(nonZero > HyperLogLogSketch.REGISTERS * 0.99, "nonZero=" + nonZero);
+    }
+
+    /**
+     * 测试重复元素不会改变寄存器，合并取每个寄存器的最大值
+     */
+    @Test
+    void testAddAndMerge() {
+        HyperLogLogSketch first = new HyperLogLogSketch();
+        HyperLogLogSketch second = new HyperLogLogSketch();
+        Assertions.assertTrue(first.add("a"));
+        Assertions.assertFalse(first.add("a"));
+        second.add("b");
+
+        HyperLogLogSketch expected = new HyperLogLogSketch();
+        expected.add("a");
+        expected.add("b");
+        first.merge(second);
+        Assertions.assertArrayEquals(expected.toDenseBytes(), first.toDenseBytes());
+    }
+
+    /**
+     * 测试 MurmurHash64A 处理不同长度的尾部字节，且对同一输入结果稳定
+     */
+    @Test
+    void testMurmurHash64A() {
+        byte[] data = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+        long previous = 0;
+        for (int length = 0; length <= data.length; length++) {
+            byte[] prefix = Arrays.copyOf(data, length);
+            long hash = HyperLogLogSketch.murmurHash64A(prefix, 0xadc83b19L);
+            Assertions.assertEquals(hash, HyperLogLogSketch.murmurHash64A(prefix.clone(), 0xadc83b19L));
+            Assertions.assertNotEquals(previous, hash);
+            previous = hash;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.exercise.redisdemo01.core.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 日志参数渲染工具测试类
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+class LogValuesTest {
+
+    /**
+     * 测试短字符串原样输出，长字符串被截断并标注长度
+     */
+    @Test
+    void testBriefString() {
+        Assertions.assertEquals("value", LogValues.brief("value"));
+        Assertions.assertEquals("null", LogValues.brief(null));
+
+        String longValue = "a".repeat(10_000);
+        String brief = LogValues.brief(longValue);
+        Assertions.assertTrue(brief.length() < LogValues.MAX_VALUE_LENGTH + 32);
+        Assertions.assertTrue(brief.endsWith("(length=10000)"));
+    }
+
+    /**
+     * 测试集合、数组、Map 只采样前几个元素并标注总数
+     */
+    @Test
+    void testBriefCollection() {
+        List<String> values = new ArrayList<>();
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            values.add("value" + i);
+            map.put("key" + i, "x".repeat(1000));
+        }
+
+        String briefList = LogValues.brief(values);
+        Assertions.assertTrue(briefList.startsWith("[value0, value1"));
+        Assertions.assertTrue(briefList.endsWith("...(size=1000)]"));
+
+        String briefArray = LogValues.brief(values.toArray(new String[0]));
+        Assertions.assertEquals(briefList, briefArray);
+
+        String briefMap = LogValues.brief(map);
+        Assertions.assertTrue(briefMap.length() <= LogValues.MAX_TOTAL_LENGTH + 32);
+        Assertions.assertTrue(briefMap.endsWith("...(size=1000)}"));
+
+        Assertions.assertEquals("[a, b]", LogValues.brief(List.of("a", "b")));
+        Assertions.assertEquals("byte[16]", LogValues.brief(new byte[16]));
+    }
+}
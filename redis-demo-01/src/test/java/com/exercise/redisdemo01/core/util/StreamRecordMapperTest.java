@@ -0,0 +1,113 @@
+package com.exercise.redisdemo01.core.util;
+
+import lombok.Data;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.stream.RecordId;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Stream 消息映射器测试类
+ *
+ * @author 王玉涛
+ * @version 1.0
+ * @since 2026/10/16
+ */
+class StreamRecordMapperTest {
+
+    enum Status {
+        CREATED, PAID
+    }
+
+    record OrderEvent(RecordId id, long orderId, int quantity, String user, BigDecimal amount, Status status,
+                      boolean urgent, byte[] payload) {
+    }
+
+    @Data
+    static class OrderBean {
+
+        private RecordId id;
+
+        private Long orderId;
+
+        private double price;
+
+        private String user;
+
+        private transient String ignored;
+    }
+
+    /**
+     * 测试 record 类型按字段名映射，缺失的基本类型字段为0值，多余字段被忽略
+     */
+    @Test
+    void testMapRecord() {
+        Map<byte[], byte[]> fields = fields("orderId", "9007199254740993", "quantity", "-3", "user", "张三",
+                "amount", "12.50", "status", "PAID", "payload", "raw", "unknown", "x");
+        OrderEvent event = StreamRecordMapper.of(OrderEvent.class).map(RecordId.of("1-1"), fields);
+
+        Assertions.assertEquals(RecordId.of("1-1"), event.id());
+        Assertions.assertEquals(9007199254740993L, event.orderId());
+        Assertions.assertEquals(-3, event.quantity());
+        Assertions.assertEquals("张三", event.user());
+        Assertions.assertEquals(new BigDecimal("12.50"), event.amount());
+        Assertions.assertEquals(Status.PAID, event.status());
+        Assertions.assertFalse(event.urgent());
+        Assertions.assertArrayEquals("raw".getBytes(StandardCharsets.UTF_8), event.payload());
+        Assertions.assertSame(StreamRecordMapper.of(OrderEvent.class), StreamRecordMapper.of(OrderEvent.class));
+    }
+
+    /**
+     * 测试普通类通过无参构造器与成员变量映射，transient 字段不参与映射
+     */
+    @Test
+    void testMapBean() {
+        Map<byte[], byte[]> fields = fields("orderId", "42", "price", "3.5", "user", "lisi", "ignored", "x");
+        OrderBean bean = StreamRecordMapper.of(OrderBean.class).map(RecordId.of("2-0"), fields);
+
+        Assertions.assertEquals(RecordId.of("2-0"), bean.getId());
+        Assertions.assertEquals(42L, bean.getOrderId());
+        Assertions.assertEquals(3.5, bean.getPrice());
+        Assertions.assertEquals("lisi", bean.getUser());
+        Assertions.assertNull(bean.getIgnored());
+    }
+
+    /**
+     * 测试字节直接解析整数，包括边界与非法格式
+     */
+    @Test
+    void testParseLong() {
+        Assertions.assertEquals(0L, StreamRecordMapper.parseLong("0".getBytes(StandardCharsets.US_ASCII)));
+        Assertions.assertEquals(-123L, StreamRecordMapper.parseLong("-123".getBytes(StandardCharsets.US_ASCII)));
+        Assertions.assertEquals(Long.MAX_VALUE,
+                StreamRecordMapper.parseLong(String.valueOf(Long.MAX_VALUE).getBytes(StandardCharsets.US_ASCII)));
+        Assertions.assertEquals(Long.MIN_VALUE,
+                StreamRecordMapper.parseLong(String.valueOf(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII)));
+        Assertions.assertThrows(NumberFormatException.class,
+                () -> StreamRecordMapper.parseLong("12a".getBytes(StandardCharsets.US_ASCII)));
+        Assertions.assertThrows(NumberFormatException.class,
+                () -> StreamRecordMapper.parseLong("-".getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    /**
+     * 测试不支持的字段类型在创建映射器时失败
+     */
+    @Test
+    void testUnsupportedType() {
+        record Unsupported(Map<String, String> values) {
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> StreamRecordMapper.of(Unsupported.class));
+    }
+
+    private static Map<byte[], byte[]> fields(String... keyValues) {
+        Map<byte[], byte[]> fields = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            fields.put(keyValues[i].getBytes(StandardCharsets.UTF_8), keyValues[i + 1].getBytes(StandardCharsets.UTF_8));
+        }
+        return fields;
+    }
+}